@@ -5,10 +5,12 @@ import org.modelmapper.ModelMapper;
 import org.modelmapper.convention.MatchingStrategies;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.util.Set;
 
 @Configuration
+@EnableScheduling
 public class ApplicationConfig {
 
     @Bean
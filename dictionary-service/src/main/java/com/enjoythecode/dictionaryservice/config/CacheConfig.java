@@ -0,0 +1,48 @@
+package com.enjoythecode.dictionaryservice.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Caching of dictionary reads. Every cache is a bounded Caffeine cache recording statistics, which are published
+ * as 'cache.*' metrics through actuator. The cache manager is transaction aware: puts and evictions made inside
+ * a transaction are applied only after it commits, so entries a concurrent reader cached while a change was
+ * in flight are still evicted, and a rolled back change evicts nothing.
+ * <p>
+ * Setting 'spring.cache.type' to anything other than 'caffeine' leaves the cache manager to Spring Boot,
+ * e.g. 'none' turns caching off.
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(DictionaryCacheProperties.class)
+public class CacheConfig {
+
+    public static final String DICTIONARIES_CACHE = "dictionaries";
+
+    public static final String DICTIONARY_VALUES_CACHE = "dictionaryValues";
+
+    public static final String DICTIONARY_VALUES_BY_NAME_CACHE = "dictionaryValuesByName";
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.cache", name = "type", havingValue = "caffeine", matchIfMissing = true)
+    public CacheManager cacheManager(DictionaryCacheProperties properties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats());
+        cacheManager.setAllowNullValues(false);
+        cacheManager.setCacheNames(List.of(DICTIONARIES_CACHE, DICTIONARY_VALUES_CACHE, DICTIONARY_VALUES_BY_NAME_CACHE));
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+}
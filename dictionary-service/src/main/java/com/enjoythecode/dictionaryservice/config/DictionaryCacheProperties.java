@@ -0,0 +1,28 @@
+package com.enjoythecode.dictionaryservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the in-process caches of dictionaries and dictionary values, bound from the 'dictionary.cache'
+ * properties.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "dictionary.cache")
+public class DictionaryCacheProperties {
+
+    /**
+     * Maximum number of entries of every cache.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Time after which a cached entry expires and is read from the database again.
+     */
+    private Duration timeToLive = Duration.ofMinutes(10);
+
+}
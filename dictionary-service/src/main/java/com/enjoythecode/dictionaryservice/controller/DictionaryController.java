@@ -8,6 +8,7 @@ import com.enjoythecode.dictionaryservice.dto.DictionaryValueSimpleDto;
 import com.enjoythecode.dictionaryservice.dto.StatusDto;
 import com.enjoythecode.dictionaryservice.exception.handler.ExceptionResponseBody;
 import com.enjoythecode.dictionaryservice.model.Dictionary;
+import com.enjoythecode.dictionaryservice.service.DictionaryLookupService;
 import com.enjoythecode.dictionaryservice.service.DictionaryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -36,6 +37,8 @@ public class DictionaryController {
 
     private final DictionaryService dictionaryService;
 
+    private final DictionaryLookupService dictionaryLookupService;
+
     private final ModelMapper modelMapper;
 
     @GetMapping
@@ -218,9 +221,7 @@ public class DictionaryController {
                             schema = @Schema(implementation = ExceptionResponseBody.class)))
     })
     public ResponseEntity<List<DictionaryValueSimpleDto>> getValuesByDictionaryId(@PathVariable Long dictionaryId) {
-        return ResponseEntity.ok(dictionaryService.getValuesByDictionaryId(dictionaryId).stream()
-                .map(x -> modelMapper.map(x, DictionaryValueSimpleDto.class))
-                .collect(Collectors.toList()));
+        return ResponseEntity.ok(dictionaryLookupService.getValuesByDictionaryId(dictionaryId));
     }
 
 }
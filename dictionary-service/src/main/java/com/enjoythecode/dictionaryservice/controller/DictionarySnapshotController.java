@@ -0,0 +1,70 @@
+package com.enjoythecode.dictionaryservice.controller;
+
+import com.enjoythecode.dictionaryservice.dto.DictionaryDataVersionDto;
+import com.enjoythecode.dictionaryservice.dto.DictionarySnapshotDto;
+import com.enjoythecode.dictionaryservice.service.DictionaryChangeFeedService;
+import com.enjoythecode.dictionaryservice.service.DictionaryDataVersionService;
+import com.enjoythecode.dictionaryservice.service.DictionarySnapshotService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/dictionaries")
+@AllArgsConstructor
+@Tag(name = "DictionarySnapshotController",
+        description = "Controller for consumers that cache dictionary data and need to learn about its changes.")
+public class DictionarySnapshotController {
+
+    private final DictionarySnapshotService dictionarySnapshotService;
+
+    private final DictionaryDataVersionService dictionaryDataVersionService;
+
+    private final DictionaryChangeFeedService dictionaryChangeFeedService;
+
+    @GetMapping("/snapshot")
+    @Operation(summary = "Get snapshot of all dictionaries",
+            description = "Retrieve all dictionaries with their values and the data version they correspond to. " +
+                    "The ETag is the data version; a request with a matching If-None-Match header gets 304.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful operation",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = DictionarySnapshotDto.class))),
+            @ApiResponse(responseCode = "304", description = "Snapshot not modified since the given version")
+    })
+    public ResponseEntity<DictionarySnapshotDto> getSnapshot(WebRequest request) {
+        if (request.checkNotModified(toETag(dictionaryDataVersionService.getCurrentVersion())))
+            return null;
+        DictionarySnapshotDto snapshot = dictionarySnapshotService.getSnapshot();
+        return ResponseEntity.ok()
+                .eTag(toETag(snapshot.getVersion()))
+                .body(snapshot);
+    }
+
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Subscribe to dictionary changes",
+            description = "Server-sent events stream. The first event carries the current data version, " +
+                    "each following event the version produced by a committed change.")
+    @ApiResponse(responseCode = "200", description = "Successful subscription",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                    schema = @Schema(implementation = DictionaryDataVersionDto.class)))
+    public SseEmitter subscribeToChanges() {
+        return dictionaryChangeFeedService.subscribe();
+    }
+
+    private static String toETag(long version) {
+        return "\"" + version + "\"";
+    }
+
+}
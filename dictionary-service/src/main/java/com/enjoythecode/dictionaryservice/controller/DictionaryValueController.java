@@ -7,6 +7,7 @@ import com.enjoythecode.dictionaryservice.dto.DictionaryValueSimpleDto;
 import com.enjoythecode.dictionaryservice.dto.StatusDto;
 import com.enjoythecode.dictionaryservice.exception.handler.ExceptionResponseBody;
 import com.enjoythecode.dictionaryservice.model.DictionaryValue;
+import com.enjoythecode.dictionaryservice.service.DictionaryLookupService;
 import com.enjoythecode.dictionaryservice.service.DictionaryValueService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -23,6 +24,8 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController
@@ -35,6 +38,8 @@ public class DictionaryValueController {
 
     private final DictionaryValueService dictionaryValueService;
 
+    private final DictionaryLookupService dictionaryLookupService;
+
     private final ModelMapper modelMapper;
 
     @GetMapping
@@ -63,9 +68,7 @@ public class DictionaryValueController {
     })
     public ResponseEntity<DictionaryValueSimpleDto> getDictionaryValueById(
             @PathVariable("dictionaryValueId") Long dictionaryValueId) {
-        DictionaryValue dictionaryValue = dictionaryValueService.getDictionaryValueById(dictionaryValueId);
-        DictionaryValueSimpleDto dictionaryValueDto = modelMapper.map(dictionaryValue, DictionaryValueSimpleDto.class);
-        return ResponseEntity.ok(dictionaryValueDto);
+        return ResponseEntity.ok(dictionaryLookupService.getDictionaryValueById(dictionaryValueId));
     }
 
     @GetMapping("/{dictionaryId}/value")
@@ -81,9 +84,44 @@ public class DictionaryValueController {
     })
     public ResponseEntity<DictionaryValueSimpleDto> getDictionaryValueByDictionaryIdAndName(
             @PathVariable("dictionaryId") Long dictionaryId, @RequestParam String name) {
-        DictionaryValue dictionaryValue = dictionaryValueService.getDictionaryValueByDictionaryIdAndName(dictionaryId, name);
-        DictionaryValueSimpleDto dictionaryValueDto = modelMapper.map(dictionaryValue, DictionaryValueSimpleDto.class);
-        return ResponseEntity.ok(dictionaryValueDto);
+        return ResponseEntity.ok(dictionaryLookupService.getDictionaryValueByDictionaryIdAndName(dictionaryId, name));
+    }
+
+    @PostMapping("/by-ids")
+    @Operation(summary = "Get dictionary values by IDs",
+            description = "Retrieve several dictionary values in one call. Identifiers that do not exist are skipped.")
+    @ApiResponse(responseCode = "200", description = "Successful operation",
+            content = @Content(mediaType = "application/json",
+                    array = @ArraySchema(schema = @Schema(implementation = DictionaryValueSimpleDto.class))))
+    public ResponseEntity<List<DictionaryValueSimpleDto>> getDictionaryValuesByIds(@RequestBody Set<Long> ids) {
+        return ResponseEntity.ok(dictionaryLookupService.getDictionaryValuesByIds(ids));
+    }
+
+    @PostMapping("/by-names")
+    @Operation(summary = "Get dictionary value IDs by names",
+            description = "Resolve value names to IDs for several dictionaries in one call. The request maps " +
+                    "dictionary IDs to value names, the response maps dictionary IDs to name-to-ID maps. " +
+                    "Names that do not exist in the given dictionary are skipped.")
+    @ApiResponse(responseCode = "200", description = "Successful operation",
+            content = @Content(mediaType = "application/json"))
+    public ResponseEntity<Map<Long, Map<String, Long>>> getDictionaryValueIdsByNames(
+            @RequestBody Map<Long, Set<String>> namesByDictionaryId) {
+        return ResponseEntity.ok(dictionaryLookupService.getDictionaryValueIdsByNames(namesByDictionaryId));
+    }
+
+    @GetMapping("/{dictionaryId}/names")
+    @Operation(summary = "Get value names of a dictionary",
+            description = "Retrieve all values of a dictionary as a map of value ID to value name")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful operation",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "404", description = "Dictionary not found",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExceptionResponseBody.class)))
+    })
+    public ResponseEntity<Map<Long, String>> getValueNamesByDictionaryId(
+            @PathVariable("dictionaryId") Long dictionaryId) {
+        return ResponseEntity.ok(dictionaryLookupService.getValueNamesByDictionaryId(dictionaryId));
     }
 
     @PostMapping
@@ -0,0 +1,16 @@
+package com.enjoythecode.dictionaryservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DictionaryDataVersionDto {
+
+    private Long version;
+
+}
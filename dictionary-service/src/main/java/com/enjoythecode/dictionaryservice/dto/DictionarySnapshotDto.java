@@ -0,0 +1,20 @@
+package com.enjoythecode.dictionaryservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DictionarySnapshotDto {
+
+    private Long version;
+
+    private List<DictionarySnapshotEntryDto> dictionaries;
+
+}
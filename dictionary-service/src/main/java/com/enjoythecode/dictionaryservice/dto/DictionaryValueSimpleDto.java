@@ -1,10 +1,14 @@
 package com.enjoythecode.dictionaryservice.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Getter
 @Setter
+@NoArgsConstructor
+@AllArgsConstructor
 public class DictionaryValueSimpleDto {
 
     private Long id;
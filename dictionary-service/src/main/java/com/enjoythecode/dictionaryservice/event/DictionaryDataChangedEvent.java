@@ -0,0 +1,7 @@
+package com.enjoythecode.dictionaryservice.event;
+
+/**
+ * Published when a transaction changes dictionary data, carrying the data version the change produced.
+ */
+public record DictionaryDataChangedEvent(long version) {
+}
@@ -0,0 +1,26 @@
+package com.enjoythecode.dictionaryservice.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Version of the dictionary data, stored in a single row. It is incremented in the transaction of every change
+ * to dictionaries or dictionary values, so it only ever grows and survives restarts.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+public class DictionaryDataVersion {
+
+    public static final int ID = 1;
+
+    @Id
+    @Column(name = "id_dictionary_data_version")
+    private Integer id;
+
+    private Long version;
+
+}
@@ -0,0 +1,76 @@
+package com.enjoythecode.dictionaryservice.model;
+
+import java.util.*;
+import java.util.function.UnaryOperator;
+
+/**
+ * Immutable in-memory index of all dictionary data at one data version: values by id, values by dictionary id
+ * and name, and the values of every dictionary. A change never modifies an index; a new one is built and
+ * replaces it, so readers always see a complete, consistent version without locking.
+ * <p>
+ * Names are matched ignoring case, like the case-insensitive collation of the production database.
+ */
+public final class DictionaryReadModel {
+
+    private final long version;
+
+    private final Map<Long, DictionaryValueView> valuesById;
+
+    private final Map<Long, Map<String, DictionaryValueView>> valuesByDictionaryIdAndName;
+
+    private final Map<Long, List<DictionaryValueView>> valuesByDictionaryId;
+
+    public DictionaryReadModel(long version, Collection<Long> dictionaryIds, Collection<DictionaryValueView> values) {
+        Map<Long, DictionaryValueView> byId = new HashMap<>();
+        Map<Long, Map<String, DictionaryValueView>> byDictionaryIdAndName = new HashMap<>();
+        Map<Long, List<DictionaryValueView>> byDictionaryId = new HashMap<>();
+        dictionaryIds.forEach(dictionaryId -> {
+            byDictionaryIdAndName.put(dictionaryId, new HashMap<>());
+            byDictionaryId.put(dictionaryId, new ArrayList<>());
+        });
+        values.stream()
+                .sorted(Comparator.comparing(DictionaryValueView::id))
+                .forEach(value -> {
+                    byId.put(value.id(), value);
+                    if (value.dictionaryId() != null && byDictionaryId.containsKey(value.dictionaryId())) {
+                        byDictionaryIdAndName.get(value.dictionaryId()).putIfAbsent(normalize(value.name()), value);
+                        byDictionaryId.get(value.dictionaryId()).add(value);
+                    }
+                });
+        this.version = version;
+        this.valuesById = Map.copyOf(byId);
+        this.valuesByDictionaryIdAndName = copyOf(byDictionaryIdAndName, Map::copyOf);
+        this.valuesByDictionaryId = copyOf(byDictionaryId, List::copyOf);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Optional<DictionaryValueView> findValueById(Long id) {
+        return Optional.ofNullable(valuesById.get(id));
+    }
+
+    public Optional<DictionaryValueView> findValueByDictionaryIdAndName(Long dictionaryId, String name) {
+        Map<String, DictionaryValueView> values = valuesByDictionaryIdAndName.get(dictionaryId);
+        return values == null || name == null ? Optional.empty() : Optional.ofNullable(values.get(normalize(name)));
+    }
+
+    /**
+     * Returns the values of the dictionary ordered by id, or an empty optional if there is no such dictionary.
+     */
+    public Optional<List<DictionaryValueView>> findValuesByDictionaryId(Long dictionaryId) {
+        return Optional.ofNullable(valuesByDictionaryId.get(dictionaryId));
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static <V> Map<Long, V> copyOf(Map<Long, V> map, UnaryOperator<V> valueCopier) {
+        Map<Long, V> copy = new HashMap<>();
+        map.forEach((key, value) -> copy.put(key, valueCopier.apply(value)));
+        return Map.copyOf(copy);
+    }
+
+}
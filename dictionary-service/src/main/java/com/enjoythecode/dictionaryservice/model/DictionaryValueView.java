@@ -0,0 +1,7 @@
+package com.enjoythecode.dictionaryservice.model;
+
+/**
+ * Read-only projection of a dictionary value. The dictionary id is null for values not assigned to any dictionary.
+ */
+public record DictionaryValueView(Long id, String name, Long dictionaryId) {
+}
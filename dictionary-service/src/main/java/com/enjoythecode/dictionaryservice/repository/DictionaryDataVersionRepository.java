@@ -0,0 +1,19 @@
+package com.enjoythecode.dictionaryservice.repository;
+
+import com.enjoythecode.dictionaryservice.model.DictionaryDataVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DictionaryDataVersionRepository extends JpaRepository<DictionaryDataVersion, Integer> {
+
+    @Modifying
+    @Query("UPDATE DictionaryDataVersion v SET v.version = v.version + 1 WHERE v.id = " + DictionaryDataVersion.ID)
+    void incrementVersion();
+
+    @Query("SELECT v.version FROM DictionaryDataVersion v WHERE v.id = " + DictionaryDataVersion.ID)
+    long findCurrentVersion();
+
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +14,10 @@ public interface DictionaryRepository extends JpaRepository<Dictionary, Long> {
     @Query("SELECT d FROM Dictionary d LEFT JOIN FETCH d.dictionaryValues WHERE d.id = ?1")
     Optional<Dictionary> findByIdWithDictionaryValues(Long id);
 
+    @Query("SELECT DISTINCT d FROM Dictionary d LEFT JOIN FETCH d.dictionaryValues ORDER BY d.id")
+    List<Dictionary> findAllWithDictionaryValues();
+
+    @Query("SELECT d.id FROM Dictionary d")
+    List<Long> findAllIds();
+
 }
@@ -1,12 +1,14 @@
 package com.enjoythecode.dictionaryservice.repository;
 
 import com.enjoythecode.dictionaryservice.model.DictionaryValue;
+import com.enjoythecode.dictionaryservice.model.DictionaryValueView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,4 +26,14 @@ public interface DictionaryValueRepository extends JpaRepository<DictionaryValue
     Optional<DictionaryValue> findByDictionaryIdAndName(@Param("dictionaryId") Long dictionaryId,
                                                         @Param("valueName") String valueName);
 
+    @Query("SELECT dv FROM DictionaryValue dv JOIN FETCH dv.dictionary d " +
+            "WHERE d.id IN :dictionaryIds AND LOWER(dv.name) IN :lowerCaseNames")
+    List<DictionaryValue> findByDictionaryIdsAndLowerCaseNames(
+            @Param("dictionaryIds") Collection<Long> dictionaryIds,
+            @Param("lowerCaseNames") Collection<String> lowerCaseNames);
+
+    @Query("SELECT new com.enjoythecode.dictionaryservice.model.DictionaryValueView(dv.id, dv.name, d.id) " +
+            "FROM DictionaryValue dv LEFT JOIN dv.dictionary d")
+    List<DictionaryValueView> findAllViews();
+
 }
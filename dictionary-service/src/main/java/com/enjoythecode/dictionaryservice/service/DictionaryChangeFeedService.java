@@ -0,0 +1,70 @@
+package com.enjoythecode.dictionaryservice.service;
+
+import com.enjoythecode.dictionaryservice.dto.DictionaryDataVersionDto;
+import com.enjoythecode.dictionaryservice.event.DictionaryDataChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Server-sent events feed of dictionary data changes. Every subscriber first receives the current data version
+ * and then the version produced by each committed change, so a consumer can tell whether its cached data
+ * is stale and fetch the snapshot again.
+ */
+@Service
+public class DictionaryChangeFeedService {
+
+    public static final String CHANGE_EVENT_NAME = "dictionary-change";
+
+    private final DictionaryDataVersionService dictionaryDataVersionService;
+
+    private final Duration subscriptionTimeout;
+
+    private final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+
+    public DictionaryChangeFeedService(DictionaryDataVersionService dictionaryDataVersionService,
+                                       @Value("${dictionary.change-feed.subscription-timeout:PT30M}")
+                                       Duration subscriptionTimeout) {
+        this.dictionaryDataVersionService = dictionaryDataVersionService;
+        this.subscriptionTimeout = subscriptionTimeout;
+    }
+
+    /**
+     * Registers a subscriber. The subscription ends after the configured timeout and the client is expected
+     * to reconnect.
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(subscriptionTimeout.toMillis());
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(e -> subscribers.remove(emitter));
+        subscribers.add(emitter);
+        send(emitter, dictionaryDataVersionService.getCurrentVersion());
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onDictionaryDataChanged(DictionaryDataChangedEvent event) {
+        subscribers.forEach(emitter -> send(emitter, event.version()));
+    }
+
+    private void send(SseEmitter emitter, long version) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(CHANGE_EVENT_NAME)
+                    .id(Long.toString(version))
+                    .data(new DictionaryDataVersionDto(version), MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+}
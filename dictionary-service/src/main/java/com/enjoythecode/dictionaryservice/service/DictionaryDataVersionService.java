@@ -0,0 +1,35 @@
+package com.enjoythecode.dictionaryservice.service;
+
+import com.enjoythecode.dictionaryservice.event.DictionaryDataChangedEvent;
+import com.enjoythecode.dictionaryservice.repository.DictionaryDataVersionRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@AllArgsConstructor
+public class DictionaryDataVersionService {
+
+    private final DictionaryDataVersionRepository dictionaryDataVersionRepository;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public long getCurrentVersion() {
+        return dictionaryDataVersionRepository.findCurrentVersion();
+    }
+
+    /**
+     * Increments the data version as part of the caller's transaction. The version row stays locked until
+     * the transaction ends, so concurrent changes get consecutive versions. Subscribers of the change feed
+     * are notified once the transaction commits.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChange() {
+        dictionaryDataVersionRepository.incrementVersion();
+        eventPublisher.publishEvent(new DictionaryDataChangedEvent(dictionaryDataVersionRepository.findCurrentVersion()));
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.enjoythecode.dictionaryservice.service;
+
+import com.enjoythecode.dictionaryservice.dto.DictionaryValueSimpleDto;
+import com.enjoythecode.dictionaryservice.exception.DictionaryNotFoundException;
+import com.enjoythecode.dictionaryservice.exception.DictionaryValueNotFoundException;
+import com.enjoythecode.dictionaryservice.exception.InvalidIdException;
+import com.enjoythecode.dictionaryservice.model.DictionaryReadModel;
+import com.enjoythecode.dictionaryservice.model.DictionaryValue;
+import com.enjoythecode.dictionaryservice.model.DictionaryValueView;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Serves the dictionary value lookups. They are answered from the in-memory {@link DictionaryReadModel},
+ * or from the database through the entity services when the read model is disabled; both give the same
+ * responses and errors.
+ */
+@Service
+@AllArgsConstructor
+public class DictionaryLookupService {
+
+    private final DictionaryReadModelService dictionaryReadModelService;
+
+    private final DictionaryValueService dictionaryValueService;
+
+    private final DictionaryService dictionaryService;
+
+    public DictionaryValueSimpleDto getDictionaryValueById(Long id) {
+        if (!dictionaryReadModelService.isEnabled())
+            return toDto(dictionaryValueService.getDictionaryValueById(id));
+        if (id == null)
+            throw new InvalidIdException("Id cannot be null.");
+        return dictionaryReadModelService.getReadModel().findValueById(id)
+                .map(DictionaryLookupService::toDto)
+                .orElseThrow(() -> new DictionaryValueNotFoundException("Dictionary value with id " + id + " not found."));
+    }
+
+    public DictionaryValueSimpleDto getDictionaryValueByDictionaryIdAndName(Long dictionaryId, String name) {
+        if (!dictionaryReadModelService.isEnabled())
+            return toDto(dictionaryValueService.getDictionaryValueByDictionaryIdAndName(dictionaryId, name));
+        return dictionaryReadModelService.getReadModel().findValueByDictionaryIdAndName(dictionaryId, name)
+                .map(DictionaryLookupService::toDto)
+                .orElseThrow(() -> new DictionaryValueNotFoundException(
+                        "Dictionary value '" + name + "' not found in the dictionary with id " + dictionaryId));
+    }
+
+    public List<DictionaryValueSimpleDto> getDictionaryValuesByIds(Collection<Long> ids) {
+        if (!dictionaryReadModelService.isEnabled())
+            return dictionaryValueService.getDictionaryValuesByIds(ids).stream()
+                    .map(DictionaryLookupService::toDto)
+                    .collect(Collectors.toList());
+        DictionaryReadModel readModel = dictionaryReadModelService.getReadModel();
+        return ids.stream()
+                .map(readModel::findValueById)
+                .flatMap(Optional::stream)
+                .map(DictionaryLookupService::toDto)
+                .collect(Collectors.toList());
+    }
+
+    public Map<Long, Map<String, Long>> getDictionaryValueIdsByNames(Map<Long, Set<String>> namesByDictionaryId) {
+        if (!dictionaryReadModelService.isEnabled())
+            return dictionaryValueService.getDictionaryValueIdsByNames(namesByDictionaryId);
+        DictionaryReadModel readModel = dictionaryReadModelService.getReadModel();
+        Map<Long, Map<String, Long>> idsByDictionaryId = new HashMap<>();
+        namesByDictionaryId.forEach((dictionaryId, names) -> names.forEach(name ->
+                readModel.findValueByDictionaryIdAndName(dictionaryId, name).ifPresent(value ->
+                        idsByDictionaryId.computeIfAbsent(dictionaryId, key -> new HashMap<>())
+                                .put(value.name(), value.id()))));
+        return idsByDictionaryId;
+    }
+
+    public Map<Long, String> getValueNamesByDictionaryId(Long dictionaryId) {
+        if (!dictionaryReadModelService.isEnabled())
+            return dictionaryValueService.getValueNamesByDictionaryId(dictionaryId);
+        return findValuesByDictionaryId(dictionaryId).stream()
+                .collect(Collectors.toMap(DictionaryValueView::id, DictionaryValueView::name));
+    }
+
+    public List<DictionaryValueSimpleDto> getValuesByDictionaryId(Long dictionaryId) {
+        if (!dictionaryReadModelService.isEnabled())
+            return dictionaryService.getValuesByDictionaryId(dictionaryId).stream()
+                    .map(DictionaryLookupService::toDto)
+                    .collect(Collectors.toList());
+        return findValuesByDictionaryId(dictionaryId).stream()
+                .map(DictionaryLookupService::toDto)
+                .collect(Collectors.toList());
+    }
+
+    private List<DictionaryValueView> findValuesByDictionaryId(Long dictionaryId) {
+        return dictionaryReadModelService.getReadModel().findValuesByDictionaryId(dictionaryId)
+                .orElseThrow(() -> new DictionaryNotFoundException("Dictionary with id '" + dictionaryId + "' not found."));
+    }
+
+    private static DictionaryValueSimpleDto toDto(DictionaryValue value) {
+        return new DictionaryValueSimpleDto(value.getId(), value.getName());
+    }
+
+    private static DictionaryValueSimpleDto toDto(DictionaryValueView value) {
+        return new DictionaryValueSimpleDto(value.id(), value.name());
+    }
+
+}
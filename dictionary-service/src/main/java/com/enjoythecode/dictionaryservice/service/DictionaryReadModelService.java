@@ -0,0 +1,105 @@
+package com.enjoythecode.dictionaryservice.service;
+
+import com.enjoythecode.dictionaryservice.event.DictionaryDataChangedEvent;
+import com.enjoythecode.dictionaryservice.model.DictionaryReadModel;
+import com.enjoythecode.dictionaryservice.repository.DictionaryDataVersionRepository;
+import com.enjoythecode.dictionaryservice.repository.DictionaryRepository;
+import com.enjoythecode.dictionaryservice.repository.DictionaryValueRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the current {@link DictionaryReadModel}. The model is loaded when the application starts and rebuilt
+ * after every committed change; the new model replaces the old one atomically, and a model built from an older
+ * data version never replaces a newer one. Changes committed by other instances of the service are picked up by
+ * comparing the data version with the database at the configured refresh interval.
+ * <p>
+ * Setting 'dictionary.read-model.enabled' to false makes the read endpoints query the database instead.
+ */
+@Service
+public class DictionaryReadModelService {
+
+    private final DictionaryRepository dictionaryRepository;
+
+    private final DictionaryValueRepository dictionaryValueRepository;
+
+    private final DictionaryDataVersionRepository dictionaryDataVersionRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+
+    private final AtomicReference<DictionaryReadModel> readModel = new AtomicReference<>();
+
+    public DictionaryReadModelService(DictionaryRepository dictionaryRepository,
+                                      DictionaryValueRepository dictionaryValueRepository,
+                                      DictionaryDataVersionRepository dictionaryDataVersionRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${dictionary.read-model.enabled:true}") boolean enabled) {
+        this.dictionaryRepository = dictionaryRepository;
+        this.dictionaryValueRepository = dictionaryValueRepository;
+        this.dictionaryDataVersionRepository = dictionaryDataVersionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public DictionaryReadModel getReadModel() {
+        DictionaryReadModel current = readModel.get();
+        return current != null ? current : reload();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (enabled)
+            reload();
+    }
+
+    /**
+     * Rebuilds the model before the change feed announces the new version, so that a consumer reacting
+     * to the announcement already reads the changed data.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onDictionaryDataChanged(DictionaryDataChangedEvent event) {
+        if (enabled)
+            reload();
+    }
+
+    @Scheduled(fixedDelayString = "${dictionary.read-model.refresh-interval:PT30S}")
+    public void reloadIfStale() {
+        DictionaryReadModel current = readModel.get();
+        if (enabled && current != null && current.getVersion() != dictionaryDataVersionRepository.findCurrentVersion())
+            reload();
+    }
+
+    /**
+     * Reads the version and all dictionary data in one new read-only transaction, which also keeps it apart
+     * from the transaction whose commit triggered the reload.
+     */
+    public DictionaryReadModel reload() {
+        DictionaryReadModel loaded = transactionTemplate.execute(status -> new DictionaryReadModel(
+                dictionaryDataVersionRepository.findCurrentVersion(),
+                dictionaryRepository.findAllIds(),
+                dictionaryValueRepository.findAllViews()));
+        return readModel.accumulateAndGet(loaded, (current, candidate) ->
+                current == null || candidate.getVersion() >= current.getVersion() ? candidate : current);
+    }
+
+}
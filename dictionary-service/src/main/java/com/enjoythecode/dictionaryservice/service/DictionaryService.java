@@ -2,13 +2,16 @@ package com.enjoythecode.dictionaryservice.service;
 
 import com.enjoythecode.dictionaryservice.command.CreateDictionaryCommand;
 import com.enjoythecode.dictionaryservice.command.UpdateDictionaryCommand;
+import com.enjoythecode.dictionaryservice.config.CacheConfig;
 import com.enjoythecode.dictionaryservice.exception.*;
 import com.enjoythecode.dictionaryservice.model.Dictionary;
 import com.enjoythecode.dictionaryservice.model.DictionaryValue;
 import com.enjoythecode.dictionaryservice.repository.DictionaryRepository;
 import com.enjoythecode.dictionaryservice.repository.DictionaryValueRepository;
 import lombok.AllArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,8 +28,10 @@ public class DictionaryService {
 
     private final DictionaryValueService dictionaryValueService;
 
+    private final DictionaryDataVersionService dictionaryDataVersionService;
+
     @Transactional(readOnly = true)
-    @Cacheable("dictionaries")
+    @Cacheable(CacheConfig.DICTIONARIES_CACHE)
     public Dictionary getDictionaryById(Long id) {
         return dictionaryRepository.findByIdWithDictionaryValues(
                 Optional.ofNullable(id)
@@ -43,27 +48,43 @@ public class DictionaryService {
     public Dictionary addDictionary(CreateDictionaryCommand command) {
         Dictionary dictionaryForSave = new Dictionary();
         dictionaryForSave.setName(command.getName());
-        return dictionaryRepository.save(dictionaryForSave);
+        Dictionary savedDictionary = dictionaryRepository.save(dictionaryForSave);
+        dictionaryDataVersionService.recordChange();
+        return savedDictionary;
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.DICTIONARIES_CACHE, key = "#dictionaryId"),
+            @CacheEvict(cacheNames = CacheConfig.DICTIONARY_VALUES_CACHE, allEntries = true)
+    })
     public Dictionary updateDictionaryName(Long dictionaryId, UpdateDictionaryCommand command) {
         if (!dictionaryId.equals(command.getId()))
             throw new InvalidIdException("Identifiers provided in path variable and request body do not match");
         Dictionary dictionary = getDictionaryById(command.getId());
         dictionary.setName(command.getName());
-        return dictionaryRepository.save(dictionary);
+        Dictionary savedDictionary = dictionaryRepository.save(dictionary);
+        dictionaryDataVersionService.recordChange();
+        return savedDictionary;
     }
 
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.DICTIONARIES_CACHE, key = "#id")
     public void deleteDictionaryById(Long id) {
         Dictionary dictionaryToDelete = getDictionaryById(id);
         if (!dictionaryToDelete.getDictionaryValues().isEmpty())
             throw new IllegalDictionaryStateException("A dictionary with values cannot be deleted. Delete dictionary " +
                     "values first.");
         dictionaryRepository.delete(dictionaryToDelete);
+        dictionaryDataVersionService.recordChange();
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.DICTIONARIES_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = {CacheConfig.DICTIONARY_VALUES_CACHE, CacheConfig.DICTIONARY_VALUES_BY_NAME_CACHE},
+                    allEntries = true)
+    })
     public void deleteValuesFromDictionary(Long id) {
         Dictionary dictionaryToEmpty = getDictionaryById(id);
         if (dictionaryToEmpty.getDictionaryValues().isEmpty())
@@ -72,12 +93,17 @@ public class DictionaryService {
         dictionaryValueRepository.saveAll(dictionaryToEmpty.getDictionaryValues());
         dictionaryToEmpty.getDictionaryValues().clear();
         dictionaryRepository.save(dictionaryToEmpty);
+        dictionaryDataVersionService.recordChange();
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.DICTIONARIES_CACHE, key = "#dictionaryId"),
+            @CacheEvict(cacheNames = CacheConfig.DICTIONARY_VALUES_CACHE, key = "#dictionaryValueId")
+    })
     public Dictionary addValueToDictionary(Long dictionaryId, Long dictionaryValueId) {
         Dictionary dictionary = getDictionaryById(dictionaryId);
-        DictionaryValue dictionaryValue = dictionaryValueService.getDictionaryValueById(dictionaryValueId);
+        DictionaryValue dictionaryValue = dictionaryValueService.getDictionaryValueForUpdate(dictionaryValueId);
         if (dictionaryValue.getDictionary() != null)
             throw new IllegalDictionaryValueStateException("Value '" + dictionaryValue.getName() + "' already exists " +
                     "in '" + dictionaryValue.getDictionary().getName() + "' dictionary.");
@@ -87,19 +113,28 @@ public class DictionaryService {
             throw new IllegalDictionaryValueStateException("Value with the same name already exists in the dictionary.");
         dictionary.getDictionaryValues().add(dictionaryValue);
         dictionaryValue.setDictionary(dictionary);
-        return dictionaryRepository.save(dictionary);
+        Dictionary savedDictionary = dictionaryRepository.save(dictionary);
+        dictionaryDataVersionService.recordChange();
+        return savedDictionary;
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.DICTIONARIES_CACHE, key = "#dictionaryId"),
+            @CacheEvict(cacheNames = CacheConfig.DICTIONARY_VALUES_CACHE, key = "#dictionaryValueId"),
+            @CacheEvict(cacheNames = CacheConfig.DICTIONARY_VALUES_BY_NAME_CACHE, allEntries = true)
+    })
     public Dictionary removeValueFromDictionary(Long dictionaryId, Long dictionaryValueId) {
         Dictionary dictionary = getDictionaryById(dictionaryId);
-        DictionaryValue dictionaryValue = dictionaryValueService.getDictionaryValueById(dictionaryValueId);
+        DictionaryValue dictionaryValue = dictionaryValueService.getDictionaryValueForUpdate(dictionaryValueId);
         if (!dictionary.getDictionaryValues().contains(dictionaryValue))
             throw new DictionaryValueNotFoundException(
                     "Dictionary does not contain the '" + dictionaryValue.getName() + "' value.");
         dictionary.getDictionaryValues().remove(dictionaryValue);
         dictionaryValue.setDictionary(null);
-        return dictionaryRepository.save(dictionary);
+        Dictionary savedDictionary = dictionaryRepository.save(dictionary);
+        dictionaryDataVersionService.recordChange();
+        return savedDictionary;
     }
 
     @Transactional(readOnly = true)
@@ -110,6 +145,7 @@ public class DictionaryService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.DICTIONARIES_CACHE, key = "1L")
     public Dictionary addValueByNameToTypeDictionary(String name) {
         Long dictionaryId = 1L;
         DictionaryValue dictionaryValue = new DictionaryValue(name);
@@ -120,7 +156,9 @@ public class DictionaryService {
             throw new IllegalDictionaryValueStateException("Value with the same name already exists in the dictionary.");
         typeDictionary.getDictionaryValues().add(dictionaryValue);
         dictionaryValue.setDictionary(typeDictionary);
-        return dictionaryRepository.save(typeDictionary);
+        Dictionary savedDictionary = dictionaryRepository.save(typeDictionary);
+        dictionaryDataVersionService.recordChange();
+        return savedDictionary;
     }
 
 }
@@ -0,0 +1,37 @@
+package com.enjoythecode.dictionaryservice.service;
+
+import com.enjoythecode.dictionaryservice.dto.DictionarySnapshotDto;
+import com.enjoythecode.dictionaryservice.dto.DictionarySnapshotEntryDto;
+import com.enjoythecode.dictionaryservice.model.DictionaryValue;
+import com.enjoythecode.dictionaryservice.repository.DictionaryRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@Service
+@AllArgsConstructor
+public class DictionarySnapshotService {
+
+    private final DictionaryRepository dictionaryRepository;
+
+    private final DictionaryDataVersionService dictionaryDataVersionService;
+
+    /**
+     * Returns all dictionaries with their values, together with the data version they correspond to.
+     * The version and the data are read in one transaction, so they are consistent with each other.
+     */
+    @Transactional(readOnly = true)
+    public DictionarySnapshotDto getSnapshot() {
+        long version = dictionaryDataVersionService.getCurrentVersion();
+        return new DictionarySnapshotDto(version, dictionaryRepository.findAllWithDictionaryValues().stream()
+                .map(dictionary -> new DictionarySnapshotEntryDto(dictionary.getId(), dictionary.getName(),
+                        dictionary.getDictionaryValues().stream()
+                                .collect(Collectors.toMap(DictionaryValue::getId, DictionaryValue::getName,
+                                        (first, second) -> first, TreeMap::new))))
+                .collect(Collectors.toList()));
+    }
+
+}
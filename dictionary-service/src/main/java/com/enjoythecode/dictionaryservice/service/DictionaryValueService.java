@@ -2,17 +2,22 @@ package com.enjoythecode.dictionaryservice.service;
 
 import com.enjoythecode.dictionaryservice.command.CreateDictionaryValueCommand;
 import com.enjoythecode.dictionaryservice.command.UpdateDictionaryValueCommand;
+import com.enjoythecode.dictionaryservice.config.CacheConfig;
+import com.enjoythecode.dictionaryservice.exception.DictionaryNotFoundException;
 import com.enjoythecode.dictionaryservice.exception.DictionaryValueNotFoundException;
 import com.enjoythecode.dictionaryservice.exception.InvalidIdException;
 import com.enjoythecode.dictionaryservice.model.DictionaryValue;
+import com.enjoythecode.dictionaryservice.repository.DictionaryRepository;
 import com.enjoythecode.dictionaryservice.repository.DictionaryValueRepository;
 import lombok.AllArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
@@ -20,9 +25,22 @@ public class DictionaryValueService {
 
     private final DictionaryValueRepository dictionaryValueRepository;
 
+    private final DictionaryRepository dictionaryRepository;
+
+    private final DictionaryDataVersionService dictionaryDataVersionService;
+
     @Transactional(readOnly = true)
-    @Cacheable("dictionaryValues")
+    @Cacheable(CacheConfig.DICTIONARY_VALUES_CACHE)
     public DictionaryValue getDictionaryValueById(Long id) {
+        return getDictionaryValueForUpdate(id);
+    }
+
+    /**
+     * Reads the value from the database, bypassing the cache, so that the caller gets an entity attached to its
+     * transaction and can modify it.
+     */
+    @Transactional(readOnly = true)
+    public DictionaryValue getDictionaryValueForUpdate(Long id) {
         return dictionaryValueRepository.findById(
                 Optional.ofNullable(id)
                         .orElseThrow(() -> new InvalidIdException("Id cannot be null."))
@@ -35,36 +53,100 @@ public class DictionaryValueService {
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.DICTIONARY_VALUES_BY_NAME_CACHE, key = "{#dictionaryId, #name}")
     public DictionaryValue getDictionaryValueByDictionaryIdAndName(Long dictionaryId, String name) {
         return dictionaryValueRepository.findByDictionaryIdAndName(dictionaryId, name)
                 .orElseThrow(() -> new DictionaryValueNotFoundException(
                         "Dictionary value '" + name + "' not found in the dictionary with id " + dictionaryId));
     }
 
+    @Transactional(readOnly = true)
+    public List<DictionaryValue> getDictionaryValuesByIds(Collection<Long> ids) {
+        if (ids.isEmpty())
+            return List.of();
+        return dictionaryValueRepository.findAllById(ids);
+    }
+
+    /**
+     * Resolves value names to ids for several dictionaries at once. Like the read model, names are matched ignoring
+     * case. The result is keyed by dictionary id and then by the stored value name; pairs that do not exist are left
+     * out rather than reported as errors, so the caller can tell which names are missing.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Map<String, Long>> getDictionaryValueIdsByNames(Map<Long, Set<String>> namesByDictionaryId) {
+        Map<Long, Set<String>> lowerCaseNamesByDictionaryId = new HashMap<>();
+        namesByDictionaryId.forEach((dictionaryId, names) -> lowerCaseNamesByDictionaryId.put(dictionaryId,
+                names.stream().map(DictionaryValueService::toLowerCase).collect(Collectors.toSet())));
+        Set<String> allNames = lowerCaseNamesByDictionaryId.values().stream()
+                .flatMap(Collection::stream)
+                .collect(Collectors.toSet());
+        if (allNames.isEmpty())
+            return Map.of();
+        Map<Long, Map<String, Long>> idsByDictionaryId = new HashMap<>();
+        for (DictionaryValue value : dictionaryValueRepository.findByDictionaryIdsAndLowerCaseNames(
+                namesByDictionaryId.keySet(), allNames)) {
+            Long dictionaryId = value.getDictionary().getId();
+            if (lowerCaseNamesByDictionaryId.get(dictionaryId).contains(toLowerCase(value.getName())))
+                idsByDictionaryId.computeIfAbsent(dictionaryId, key -> new HashMap<>())
+                        .put(value.getName(), value.getId());
+        }
+        return idsByDictionaryId;
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, String> getValueNamesByDictionaryId(Long dictionaryId) {
+        if (!dictionaryRepository.existsById(dictionaryId))
+            throw new DictionaryNotFoundException("Dictionary with id '" + dictionaryId + "' not found.");
+        return dictionaryValueRepository.findValuesByDictionaryId(dictionaryId).stream()
+                .collect(Collectors.toMap(DictionaryValue::getId, DictionaryValue::getName));
+    }
+
     @Transactional
     public DictionaryValue addDictionaryValue(CreateDictionaryValueCommand command) {
         DictionaryValue dictionaryValueForSave = new DictionaryValue();
         dictionaryValueForSave.setName(command.getName().toLowerCase());
-        return dictionaryValueRepository.save(dictionaryValueForSave);
+        DictionaryValue savedDictionaryValue = dictionaryValueRepository.save(dictionaryValueForSave);
+        dictionaryDataVersionService.recordChange();
+        return savedDictionaryValue;
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.DICTIONARY_VALUES_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = {CacheConfig.DICTIONARY_VALUES_BY_NAME_CACHE, CacheConfig.DICTIONARIES_CACHE},
+                    allEntries = true)
+    })
     public DictionaryValue updateDictionaryValueName(Long id, UpdateDictionaryValueCommand command) {
         if (!id.equals(command.getId()))
             throw new InvalidIdException("Identifiers provided in path variable and request body do not match");
-        DictionaryValue dictionaryValue = getDictionaryValueById(command.getId());
+        DictionaryValue dictionaryValue = getDictionaryValueForUpdate(command.getId());
         dictionaryValue.setName(command.getName().toLowerCase());
-        return dictionaryValueRepository.save(dictionaryValue);
+        DictionaryValue savedDictionaryValue = dictionaryValueRepository.save(dictionaryValue);
+        dictionaryDataVersionService.recordChange();
+        return savedDictionaryValue;
     }
 
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.DICTIONARY_VALUES_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = {CacheConfig.DICTIONARY_VALUES_BY_NAME_CACHE, CacheConfig.DICTIONARIES_CACHE},
+                    allEntries = true)
+    })
     public void deleteDictionaryValueById(Long id) {
-        DictionaryValue dictionaryValueToDelete = getDictionaryValueById(id);
+        DictionaryValue dictionaryValueToDelete = getDictionaryValueForUpdate(id);
         dictionaryValueRepository.delete(dictionaryValueToDelete);
+        dictionaryDataVersionService.recordChange();
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.DICTIONARY_VALUES_CACHE, allEntries = true)
     public void deleteUnassignedValues() {
         dictionaryValueRepository.deleteUnassignedValues();
+        dictionaryDataVersionService.recordChange();
+    }
+
+    private static String toLowerCase(String name) {
+        return name.toLowerCase(Locale.ROOT);
     }
 
 }
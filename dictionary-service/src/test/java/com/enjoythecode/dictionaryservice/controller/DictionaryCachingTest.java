@@ -0,0 +1,143 @@
+package com.enjoythecode.dictionaryservice.controller;
+
+import com.enjoythecode.dictionaryservice.DictionaryServiceApplication;
+import com.enjoythecode.dictionaryservice.command.UpdateDictionaryCommand;
+import com.enjoythecode.dictionaryservice.command.UpdateDictionaryValueCommand;
+import com.enjoythecode.dictionaryservice.model.Dictionary;
+import com.enjoythecode.dictionaryservice.model.DictionaryValue;
+import com.enjoythecode.dictionaryservice.repository.DictionaryRepository;
+import com.enjoythecode.dictionaryservice.repository.DictionaryValueRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = DictionaryServiceApplication.class)
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.cache.type=caffeine",
+        "management.endpoints.web.exposure.include=caches,metrics"
+})
+class DictionaryCachingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private DictionaryRepository dictionaryRepository;
+
+    @Autowired
+    private DictionaryValueRepository dictionaryValueRepository;
+
+    private Dictionary typeDictionary;
+
+    private Long studentId;
+
+    @BeforeEach
+    public void setUp() {
+        dictionaryValueRepository.deleteAllInBatch();
+        dictionaryRepository.deleteAllInBatch();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        typeDictionary = dictionaryRepository.saveAndFlush(new Dictionary("type"));
+        DictionaryValue student = new DictionaryValue("student");
+        student.setDictionary(typeDictionary);
+        studentId = dictionaryValueRepository.saveAndFlush(student).getId();
+    }
+
+    @Test
+    public void shouldServeCachedValueUntilItIsUpdatedThroughTheService() throws Exception {
+        //given
+        getValueName(studentId, "student");
+        getValueIdByName("student", studentId);
+        dictionaryValueRepository.deleteAllInBatch();
+        getValueName(studentId, "student");
+        getValueIdByName("student", studentId);
+        DictionaryValue pupil = new DictionaryValue("pupil");
+        pupil.setDictionary(typeDictionary);
+        Long pupilId = dictionaryValueRepository.saveAndFlush(pupil).getId();
+        //when
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/dictionaryvalues/" + pupilId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateDictionaryValueCommand(pupilId, "student"))))
+                .andExpect(status().isOk());
+        //then
+        getValueIdByName("student", pupilId);
+        getValueName(pupilId, "student");
+    }
+
+    @Test
+    public void shouldEvictCachedDictionaryWhenItIsRenamed() throws Exception {
+        //given
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dictionaries/" + typeDictionary.getId()))
+                .andExpect(jsonPath("$.name").value("type"));
+        //when
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/dictionaries/" + typeDictionary.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new UpdateDictionaryCommand(typeDictionary.getId(), "person type"))))
+                .andExpect(status().isOk());
+        //then
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dictionaries/" + typeDictionary.getId()))
+                .andExpect(jsonPath("$.name").value("person type"));
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dictionaryvalues/" + studentId))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void shouldExposeCacheStatisticsThroughActuator() throws Exception {
+        //given
+        getValueName(studentId, "student");
+        getValueName(studentId, "student");
+        //when
+        mockMvc.perform(MockMvcRequestBuilders.get("/actuator/metrics/cache.gets")
+                        .param("tag", "cache:dictionaryValues", "result:hit"))
+                //then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[0].value").value(1.0));
+        mockMvc.perform(MockMvcRequestBuilders.get("/actuator/caches"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cacheManagers.cacheManager.caches.dictionaryValuesByName").exists());
+    }
+
+    private void getValueName(Long id, String expectedName) throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dictionaryvalues/" + id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value(expectedName));
+    }
+
+    private void getValueIdByName(String name, Long expectedId) throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dictionaryvalues/" + typeDictionary.getId() +
+                        "/value?name=" + name))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(expectedId));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        dictionaryValueRepository.deleteAllInBatch();
+        dictionaryRepository.deleteAllInBatch();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.enjoythecode.dictionaryservice.controller;
+
+import com.enjoythecode.dictionaryservice.DictionaryServiceApplication;
+import com.enjoythecode.dictionaryservice.command.UpdateDictionaryValueCommand;
+import com.enjoythecode.dictionaryservice.model.Dictionary;
+import com.enjoythecode.dictionaryservice.model.DictionaryValue;
+import com.enjoythecode.dictionaryservice.repository.DictionaryDataVersionRepository;
+import com.enjoythecode.dictionaryservice.repository.DictionaryRepository;
+import com.enjoythecode.dictionaryservice.repository.DictionaryValueRepository;
+import com.enjoythecode.dictionaryservice.service.DictionaryReadModelService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = DictionaryServiceApplication.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = "dictionary.read-model.enabled=true")
+class DictionaryReadModelTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DictionaryRepository dictionaryRepository;
+
+    @Autowired
+    private DictionaryValueRepository dictionaryValueRepository;
+
+    @Autowired
+    private DictionaryDataVersionRepository dictionaryDataVersionRepository;
+
+    @Autowired
+    private DictionaryReadModelService dictionaryReadModelService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Dictionary typeDictionary;
+
+    private Long studentId;
+
+    @BeforeEach
+    public void setUp() {
+        dictionaryValueRepository.deleteAllInBatch();
+        dictionaryRepository.deleteAllInBatch();
+        typeDictionary = dictionaryRepository.saveAndFlush(new Dictionary("type"));
+        studentId = saveValue("student");
+        dictionaryReadModelService.reload();
+    }
+
+    @Test
+    public void shouldServeLookupsFromMemoryUntilChangeIsCommitted() throws Exception {
+        //given
+        dictionaryValueRepository.deleteAllInBatch();
+        Long pupilId = saveValue("pupil");
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dictionaryvalues/" + studentId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("student"));
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dictionaryvalues/" + pupilId))
+                .andExpect(status().isNotFound());
+        //when
+        mockMvc.perform(MockMvcRequestBuilders.put("/api/dictionaryvalues/" + pupilId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UpdateDictionaryValueCommand(pupilId, "Student"))))
+                .andExpect(status().isOk());
+        //then
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dictionaryvalues/" + studentId))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dictionaryvalues/" + typeDictionary.getId() + "/value")
+                        .param("name", "STUDENT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(pupilId));
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dictionaries/" + typeDictionary.getId() + "/values"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").value("student"));
+    }
+
+    @Test
+    public void shouldReloadWhenDataVersionIsChangedByAnotherInstance() throws Exception {
+        //given
+        Long pupilId = saveValue("pupil");
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+                status -> dictionaryDataVersionRepository.incrementVersion());
+        //when
+        dictionaryReadModelService.reloadIfStale();
+        //then
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dictionaryvalues/" + typeDictionary.getId() + "/names"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['" + studentId + "']").value("student"))
+                .andExpect(jsonPath("$['" + pupilId + "']").value("pupil"));
+    }
+
+    @Test
+    public void shouldReturnNotFoundStatusForUnknownDictionary() throws Exception {
+        //given
+        //when
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dictionaries/" + (typeDictionary.getId() + 1) + "/values"))
+                //then
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorCode").value("NOT_FOUND"))
+                .andExpect(jsonPath("$.errorMessages",
+                        hasItem("Dictionary with id '" + (typeDictionary.getId() + 1) + "' not found.")));
+    }
+
+    private Long saveValue(String name) {
+        DictionaryValue value = new DictionaryValue(name);
+        value.setDictionary(typeDictionary);
+        return dictionaryValueRepository.saveAndFlush(value).getId();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        dictionaryValueRepository.deleteAllInBatch();
+        dictionaryRepository.deleteAllInBatch();
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.enjoythecode.dictionaryservice.controller;
+
+import com.enjoythecode.dictionaryservice.DictionaryServiceApplication;
+import com.enjoythecode.dictionaryservice.command.CreateDictionaryCommand;
+import com.enjoythecode.dictionaryservice.model.Dictionary;
+import com.enjoythecode.dictionaryservice.model.DictionaryValue;
+import com.enjoythecode.dictionaryservice.repository.DictionaryRepository;
+import com.enjoythecode.dictionaryservice.repository.DictionaryValueRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(classes = DictionaryServiceApplication.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DictionarySnapshotControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DictionaryRepository dictionaryRepository;
+
+    @Autowired
+    private DictionaryValueRepository dictionaryValueRepository;
+
+    @BeforeEach
+    public void setUp() {
+        dictionaryValueRepository.deleteAllInBatch();
+        dictionaryRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void shouldReturnSnapshotWithVersionIncrementedByEveryChange() throws Exception {
+        //given
+        Dictionary typeDictionary = dictionaryRepository.saveAndFlush(new Dictionary("type"));
+        DictionaryValue student = new DictionaryValue("student");
+        student.setDictionary(typeDictionary);
+        Long studentId = dictionaryValueRepository.saveAndFlush(student).getId();
+        long versionBefore = getSnapshotVersion();
+        //when
+        addDictionary("position");
+        //then
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dictionaries/snapshot"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + (versionBefore + 1) + "\""))
+                .andExpect(jsonPath("$.version").value(versionBefore + 1))
+                .andExpect(jsonPath("$.dictionaries.length()").value(2))
+                .andExpect(jsonPath("$.dictionaries[0].name").value("type"))
+                .andExpect(jsonPath("$.dictionaries[0].values['" + studentId + "']").value("student"))
+                .andExpect(jsonPath("$.dictionaries[1].name").value("position"));
+    }
+
+    @Test
+    public void shouldReturnNotModifiedStatusForCurrentVersion() throws Exception {
+        //given
+        String eTag = mockMvc.perform(MockMvcRequestBuilders.get("/api/dictionaries/snapshot"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        //when
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dictionaries/snapshot")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        addDictionary("type");
+        //then
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/dictionaries/snapshot")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void shouldPublishVersionOfCommittedChangeToSubscribers() throws Exception {
+        //given
+        long version = getSnapshotVersion();
+        MvcResult subscription = mockMvc.perform(MockMvcRequestBuilders.get("/api/dictionaries/changes")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        //when
+        addDictionary("type");
+        //then
+        String events = subscription.getResponse().getContentAsString();
+        assertThat(events).contains("event:dictionary-change");
+        assertThat(events).contains("data:{\"version\":" + version + "}");
+        assertThat(events).contains("data:{\"version\":" + (version + 1) + "}");
+    }
+
+    private long getSnapshotVersion() throws Exception {
+        String response = mockMvc.perform(MockMvcRequestBuilders.get("/api/dictionaries/snapshot"))
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("version").asLong();
+    }
+
+    private void addDictionary(String name) throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/dictionaries")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateDictionaryCommand(name))))
+                .andExpect(status().isOk());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        dictionaryValueRepository.deleteAllInBatch();
+        dictionaryRepository.deleteAllInBatch();
+    }
+
+}
@@ -23,6 +23,8 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -160,6 +162,85 @@ class DictionaryValueControllerTest {
                 .andExpect(jsonPath("$", Matchers.hasSize(1)));
     }
 
+    @Test
+    public void shouldGetDictionaryValuesByIdsSkippingUnknownIds() throws Exception {
+        //given
+        Long studentId = dictionaryValueRepository.saveAndFlush(new DictionaryValue("student")).getId();
+        Long employeeId = dictionaryValueRepository.saveAndFlush(new DictionaryValue("employee")).getId();
+        dictionaryValueRepository.saveAndFlush(new DictionaryValue("retiree"));
+        String jsonForTest = objectMapper.writeValueAsString(List.of(studentId, employeeId, employeeId + 100));
+        //when
+        ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.post("/api/dictionaryvalues/by-ids")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(jsonForTest));
+        //then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[*].name", containsInAnyOrder("student", "employee")));
+    }
+
+    @Test
+    public void shouldGetDictionaryValueIdsByNames() throws Exception {
+        //given
+        Dictionary typeDictionary = dictionaryRepository.saveAndFlush(new Dictionary("type"));
+        Dictionary positionDictionary = dictionaryRepository.saveAndFlush(new Dictionary("position"));
+        DictionaryValue student = new DictionaryValue("student");
+        student.setDictionary(typeDictionary);
+        DictionaryValue manager = new DictionaryValue("manager");
+        manager.setDictionary(positionDictionary);
+        DictionaryValue unassigned = new DictionaryValue("student");
+        Long studentId = dictionaryValueRepository.saveAndFlush(student).getId();
+        Long managerId = dictionaryValueRepository.saveAndFlush(manager).getId();
+        dictionaryValueRepository.saveAndFlush(unassigned);
+        String jsonForTest = objectMapper.writeValueAsString(Map.of(
+                typeDictionary.getId(), Set.of("student", "manager"),
+                positionDictionary.getId(), Set.of("manager")));
+        //when
+        ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.post("/api/dictionaryvalues/by-names")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(jsonForTest));
+        //then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$['" + typeDictionary.getId() + "'].length()").value(1))
+                .andExpect(jsonPath("$['" + typeDictionary.getId() + "'].student").value(studentId))
+                .andExpect(jsonPath("$['" + positionDictionary.getId() + "'].manager").value(managerId));
+    }
+
+    @Test
+    public void shouldGetValueNamesByDictionaryId() throws Exception {
+        //given
+        Dictionary typeDictionary = dictionaryRepository.saveAndFlush(new Dictionary("type"));
+        DictionaryValue student = new DictionaryValue("student");
+        student.setDictionary(typeDictionary);
+        DictionaryValue employee = new DictionaryValue("employee");
+        employee.setDictionary(typeDictionary);
+        Long studentId = dictionaryValueRepository.saveAndFlush(student).getId();
+        Long employeeId = dictionaryValueRepository.saveAndFlush(employee).getId();
+        dictionaryValueRepository.saveAndFlush(new DictionaryValue("retiree"));
+        //when
+        ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders
+                .get("/api/dictionaryvalues/" + typeDictionary.getId() + "/names"));
+        //then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$['" + studentId + "']").value("student"))
+                .andExpect(jsonPath("$['" + employeeId + "']").value("employee"));
+    }
+
+    @Test
+    public void shouldReturnNotFoundStatusForValueNamesOfDictionaryThatNotExist() throws Exception {
+        //when
+        ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.get("/api/dictionaryvalues/100/names"));
+        //then
+        resultActions
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorMessages", hasItem("Dictionary with id '100' not found.")));
+    }
+
     @Test
     public void shouldReturnNotFoundStatusForDictionaryValueWithId100() throws Exception {
         //when
@@ -32,6 +32,9 @@ class DictionaryServiceTest {
     @Mock
     private DictionaryValueService dictionaryValueService;
 
+    @Mock
+    private DictionaryDataVersionService dictionaryDataVersionService;
+
     @InjectMocks
     private DictionaryService dictionaryService;
 
@@ -185,7 +188,7 @@ class DictionaryServiceTest {
         newValue.setName("New Value");
 
         when(dictionaryRepository.findByIdWithDictionaryValues(1L)).thenReturn(Optional.of(dictionary));
-        when(dictionaryValueService.getDictionaryValueById(2L)).thenReturn(newValue);
+        when(dictionaryValueService.getDictionaryValueForUpdate(2L)).thenReturn(newValue);
         when(dictionaryRepository.save(dictionary)).thenReturn(dictionary);
 
         //when
@@ -200,7 +203,7 @@ class DictionaryServiceTest {
     public void shouldRemoveValueWithId1FromDictionary() {
         //given
         when(dictionaryRepository.findByIdWithDictionaryValues(1L)).thenReturn(Optional.of(dictionary));
-        when(dictionaryValueService.getDictionaryValueById(1L)).thenReturn(dictionaryValue1);
+        when(dictionaryValueService.getDictionaryValueForUpdate(1L)).thenReturn(dictionaryValue1);
         when(dictionaryRepository.save(any(Dictionary.class))).thenReturn(dictionary);
 
         //when
@@ -219,7 +222,7 @@ class DictionaryServiceTest {
         nonExistingValue.setName("Non Existing Value");
 
         when(dictionaryRepository.findByIdWithDictionaryValues(1L)).thenReturn(Optional.of(dictionary));
-        when(dictionaryValueService.getDictionaryValueById(2L)).thenReturn(nonExistingValue);
+        when(dictionaryValueService.getDictionaryValueForUpdate(2L)).thenReturn(nonExistingValue);
 
         //when/then
         DictionaryValueNotFoundException exception = assertThrows(DictionaryValueNotFoundException.class,
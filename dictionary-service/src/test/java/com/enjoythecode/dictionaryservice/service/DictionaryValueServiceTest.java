@@ -4,7 +4,9 @@ import com.enjoythecode.dictionaryservice.command.CreateDictionaryValueCommand;
 import com.enjoythecode.dictionaryservice.command.UpdateDictionaryValueCommand;
 import com.enjoythecode.dictionaryservice.exception.DictionaryValueNotFoundException;
 import com.enjoythecode.dictionaryservice.exception.InvalidIdException;
+import com.enjoythecode.dictionaryservice.model.Dictionary;
 import com.enjoythecode.dictionaryservice.model.DictionaryValue;
+import com.enjoythecode.dictionaryservice.repository.DictionaryRepository;
 import com.enjoythecode.dictionaryservice.repository.DictionaryValueRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,7 +16,9 @@ import org.mockito.MockitoAnnotations;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -24,6 +28,12 @@ class DictionaryValueServiceTest {
     @Mock
     private DictionaryValueRepository dictionaryValueRepository;
 
+    @Mock
+    private DictionaryRepository dictionaryRepository;
+
+    @Mock
+    private DictionaryDataVersionService dictionaryDataVersionService;
+
     @InjectMocks
     private DictionaryValueService dictionaryValueService;
 
@@ -178,4 +188,21 @@ class DictionaryValueServiceTest {
         verify(dictionaryValueRepository, times(1)).deleteUnassignedValues();
     }
 
+    @Test
+    public void shouldResolveDictionaryValueIdsByNamesIgnoringCase() {
+        //given
+        Dictionary dictionary = new Dictionary();
+        dictionary.setId(2L);
+        dictionaryValue.setDictionary(dictionary);
+        when(dictionaryValueRepository.findByDictionaryIdsAndLowerCaseNames(Set.of(2L), Set.of("test value")))
+                .thenReturn(dictionaryValues);
+
+        //when
+        Map<Long, Map<String, Long>> ids = dictionaryValueService.getDictionaryValueIdsByNames(
+                Map.of(2L, Set.of("TEST VALUE")));
+
+        //then
+        assertEquals(Map.of(2L, Map.of("Test Value", 1L)), ids);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.enjoythecode.personservice.api;
+
+import com.enjoythecode.personservice.dto.DictionaryValueSimpleDto;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Non-blocking variant of the single-value lookups of {@link DictionaryServiceClient}. Every lookup runs on
+ * the dictionary lookup executor through the primary {@link CachingDictionaryServiceClient}, so independent
+ * lookups can be started together and wait for 'dictionary-service' in parallel instead of one after another.
+ * <p>
+ * Futures complete exceptionally with the exception thrown by the lookup; {@link #join(CompletableFuture)}
+ * rethrows it as it is, so callers keep the error handling of the blocking client.
+ */
+@Component
+public class AsyncDictionaryServiceClient {
+
+    private final DictionaryServiceClient dictionaryServiceClient;
+
+    private final Executor executor;
+
+    public AsyncDictionaryServiceClient(DictionaryServiceClient dictionaryServiceClient,
+                                        @Qualifier("dictionaryLookupExecutor") Executor executor) {
+        this.dictionaryServiceClient = dictionaryServiceClient;
+        this.executor = executor;
+    }
+
+    /**
+     * Retrieves a dictionary value by its ID.
+     *
+     * @param dictionaryValueId The ID of the dictionary value to retrieve.
+     * @return A future of the DictionaryValueSimpleDto representing the dictionary value.
+     */
+    public CompletableFuture<DictionaryValueSimpleDto> getDictionaryValueById(Long dictionaryValueId) {
+        return CompletableFuture.supplyAsync(
+                () -> dictionaryServiceClient.getDictionaryValueById(dictionaryValueId), executor);
+    }
+
+    /**
+     * Retrieves a dictionary value by its name and by dictionary ID.
+     *
+     * @param dictionaryId The ID of the dictionary.
+     * @param name The name of the dictionary value to retrieve.
+     * @return A future of the DictionaryValueSimpleDto representing the dictionary value.
+     */
+    public CompletableFuture<DictionaryValueSimpleDto> getDictionaryValueByDictionaryIdAndName(
+            Long dictionaryId, String name) {
+        return CompletableFuture.supplyAsync(
+                () -> dictionaryServiceClient.getDictionaryValueByDictionaryIdAndName(dictionaryId, name), executor);
+    }
+
+    /**
+     * Waits for the given future and returns its result, rethrowing the runtime exception it failed with.
+     */
+    public static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw e;
+        }
+    }
+
+}
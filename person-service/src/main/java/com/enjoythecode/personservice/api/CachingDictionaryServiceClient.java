@@ -0,0 +1,190 @@
+package com.enjoythecode.personservice.api;
+
+import com.enjoythecode.personservice.api.DictionaryCache.DictionaryValueKey;
+import com.enjoythecode.personservice.dto.DictionarySimpleDto;
+import com.enjoythecode.personservice.dto.DictionarySnapshotDto;
+import com.enjoythecode.personservice.dto.DictionaryValueSimpleDto;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Near-cache in front of the 'dictionary-service' Feign client, backed by the {@link DictionaryCache}.
+ * Cache misses go through the {@link CoalescingDictionaryServiceClient}.
+ * Values fetched through one lookup are also stored for the others, e.g. loading a dictionary caches all
+ * of its values by ID and by name.
+ * <p>
+ * When 'dictionary-service' cannot be reached, or the {@link ResilientDictionaryServiceClient} rejects the call,
+ * a lookup whose cache entry has expired is answered with the last known value instead. The last known value is
+ * not cached again, so every following lookup tries 'dictionary-service' until it answers.
+ * <p>
+ * This is the primary {@link DictionaryServiceClient} bean, so every caller goes through the cache.
+ */
+@Primary
+@Component
+public class CachingDictionaryServiceClient implements DictionaryServiceClient {
+
+    private static final long TYPES_DICTIONARY_ID = 1L;
+
+    private final DictionaryServiceClient dictionaryServiceClient;
+
+    private final DictionaryCache dictionaryCache;
+
+    public CachingDictionaryServiceClient(
+            @Qualifier("coalescingDictionaryServiceClient") DictionaryServiceClient dictionaryServiceClient,
+            DictionaryCache dictionaryCache) {
+        this.dictionaryServiceClient = dictionaryServiceClient;
+        this.dictionaryCache = dictionaryCache;
+    }
+
+    @Override
+    public DictionaryValueSimpleDto getDictionaryValueById(Long dictionaryValueId) {
+        try {
+            return dictionaryCache.getValuesById().get(dictionaryValueId, dictionaryServiceClient::getDictionaryValueById);
+        } catch (RuntimeException e) {
+            return lastKnownOrThrow(e, () -> dictionaryCache.findLastKnownValueById(dictionaryValueId));
+        }
+    }
+
+    @Override
+    public DictionaryValueSimpleDto getDictionaryValueByDictionaryIdAndName(Long dictionaryId, String name) {
+        DictionaryValueKey valueKey = new DictionaryValueKey(dictionaryId, name);
+        DictionaryValueSimpleDto value;
+        try {
+            value = dictionaryCache.getValuesByName().get(valueKey,
+                    key -> dictionaryServiceClient.getDictionaryValueByDictionaryIdAndName(dictionaryId, name));
+        } catch (RuntimeException e) {
+            return lastKnownOrThrow(e, () -> dictionaryCache.findLastKnownValueByName(valueKey));
+        }
+        if (value != null && value.getId() != null)
+            dictionaryCache.getValuesById().asMap().putIfAbsent(value.getId(), value);
+        return value;
+    }
+
+    /**
+     * Returns the cached values and fetches all missing ones with a single bulk call.
+     */
+    @Override
+    public List<DictionaryValueSimpleDto> getDictionaryValuesByIds(Collection<Long> dictionaryValueIds) {
+        try {
+            return List.copyOf(dictionaryCache.getValuesById().getAll(dictionaryValueIds, missingIds ->
+                            dictionaryServiceClient.getDictionaryValuesByIds(Set.copyOf(missingIds)).stream()
+                                    .collect(Collectors.toMap(DictionaryValueSimpleDto::getId, Function.identity())))
+                    .values());
+        } catch (RuntimeException e) {
+            List<DictionaryValueSimpleDto> values = new ArrayList<>();
+            for (Long id : Set.copyOf(dictionaryValueIds)) {
+                DictionaryValueSimpleDto value = dictionaryCache.getValuesById().getIfPresent(id);
+                values.add(value != null ? value : lastKnownOrThrow(e, () -> dictionaryCache.findLastKnownValueById(id)));
+            }
+            return values;
+        }
+    }
+
+    /**
+     * Returns the cached pairs and resolves all missing ones with a single bulk call.
+     */
+    @Override
+    public Map<Long, Map<String, Long>> getDictionaryValueIdsByNames(Map<Long, Set<String>> namesByDictionaryId) {
+        Map<Long, Map<String, Long>> idsByDictionaryId = new HashMap<>();
+        Map<Long, Set<String>> missingNames = new HashMap<>();
+        namesByDictionaryId.forEach((dictionaryId, names) -> names.forEach(name -> {
+            DictionaryValueSimpleDto value = dictionaryCache.getValuesByName()
+                    .getIfPresent(new DictionaryValueKey(dictionaryId, name));
+            if (value != null)
+                idsByDictionaryId.computeIfAbsent(dictionaryId, key -> new HashMap<>()).put(name, value.getId());
+            else
+                missingNames.computeIfAbsent(dictionaryId, key -> new HashSet<>()).add(name);
+        }));
+        if (missingNames.isEmpty())
+            return idsByDictionaryId;
+        Map<Long, Map<String, Long>> fetchedIds;
+        try {
+            fetchedIds = dictionaryServiceClient.getDictionaryValueIdsByNames(missingNames);
+        } catch (RuntimeException e) {
+            missingNames.forEach((dictionaryId, names) -> names.forEach(name -> {
+                DictionaryValueSimpleDto value = lastKnownOrThrow(e,
+                        () -> dictionaryCache.findLastKnownValueByName(new DictionaryValueKey(dictionaryId, name)));
+                idsByDictionaryId.computeIfAbsent(dictionaryId, key -> new HashMap<>()).put(name, value.getId());
+            }));
+            return idsByDictionaryId;
+        }
+        fetchedIds.forEach((dictionaryId, ids) ->
+                ids.forEach((name, id) -> {
+                    DictionaryValueSimpleDto value = new DictionaryValueSimpleDto(id, name);
+                    dictionaryCache.getValuesByName().put(new DictionaryValueKey(dictionaryId, name), value);
+                    dictionaryCache.getValuesById().asMap().putIfAbsent(id, value);
+                    idsByDictionaryId.computeIfAbsent(dictionaryId, key -> new HashMap<>()).put(name, id);
+                }));
+        return idsByDictionaryId;
+    }
+
+    /**
+     * Shares the cached dictionary with {@link #getValuesByDictionaryId(Long)}.
+     */
+    @Override
+    public Map<Long, String> getValueNamesByDictionaryId(Long dictionaryId) {
+        List<DictionaryValueSimpleDto> values;
+        try {
+            values = dictionaryCache.getValuesByDictionaryId().get(dictionaryId, id -> cacheDictionaryValues(id,
+                    dictionaryServiceClient.getValueNamesByDictionaryId(id).entrySet().stream()
+                            .map(entry -> new DictionaryValueSimpleDto(entry.getKey(), entry.getValue()))
+                            .toList()));
+        } catch (RuntimeException e) {
+            values = lastKnownOrThrow(e, () -> dictionaryCache.findLastKnownValuesByDictionaryId(dictionaryId));
+        }
+        return values.stream()
+                .collect(Collectors.toMap(DictionaryValueSimpleDto::getId, DictionaryValueSimpleDto::getName));
+    }
+
+    @Override
+    public List<DictionaryValueSimpleDto> getValuesByDictionaryId(Long dictionaryId) {
+        try {
+            return dictionaryCache.getValuesByDictionaryId().get(dictionaryId,
+                    id -> cacheDictionaryValues(id, dictionaryServiceClient.getValuesByDictionaryId(id)));
+        } catch (RuntimeException e) {
+            return lastKnownOrThrow(e, () -> dictionaryCache.findLastKnownValuesByDictionaryId(dictionaryId));
+        }
+    }
+
+    @Override
+    public ResponseEntity<DictionarySnapshotDto> getSnapshot(String eTag) {
+        return dictionaryServiceClient.getSnapshot(eTag);
+    }
+
+    /**
+     * Adds the value and drops the cached 'types' dictionary, so the new value is visible immediately.
+     */
+    @Override
+    public DictionarySimpleDto addValueToTypeDictionary(String name) {
+        DictionarySimpleDto dictionary = dictionaryServiceClient.addValueToTypeDictionary(name);
+        dictionaryCache.getValuesByDictionaryId().invalidate(TYPES_DICTIONARY_ID);
+        return dictionary;
+    }
+
+    private List<DictionaryValueSimpleDto> cacheDictionaryValues(Long dictionaryId,
+                                                                 List<DictionaryValueSimpleDto> values) {
+        values.forEach(value -> {
+            dictionaryCache.getValuesById().put(value.getId(), value);
+            dictionaryCache.getValuesByName().put(new DictionaryValueKey(dictionaryId, value.getName()), value);
+        });
+        return List.copyOf(values);
+    }
+
+    /**
+     * Returns the last known value if the exception means that 'dictionary-service' could not answer,
+     * otherwise, or if there is no last known value, rethrows the exception.
+     */
+    private static <T> T lastKnownOrThrow(RuntimeException e, Supplier<Optional<T>> lastKnownValue) {
+        if (!ResilientDictionaryServiceClient.isUnavailable(e))
+            throw e;
+        return lastKnownValue.get().orElseThrow(() -> e);
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.enjoythecode.personservice.api;
+
+import com.enjoythecode.personservice.api.DictionaryCache.DictionaryValueKey;
+import com.enjoythecode.personservice.config.DictionaryClientProperties;
+import com.enjoythecode.personservice.dto.DictionarySimpleDto;
+import com.enjoythecode.personservice.dto.DictionarySnapshotDto;
+import com.enjoythecode.personservice.dto.DictionaryValueSimpleDto;
+import com.enjoythecode.personservice.exception.DictionaryValueNotFoundException;
+import com.enjoythecode.personservice.util.MicroBatcher;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Coalesces single-value lookups sent to 'dictionary-service' through the {@link ResilientDictionaryServiceClient}.
+ * Concurrent lookups of the same value share one request, and lookups of different values arriving within
+ * the configured batch window are sent together as one bulk request. The remaining calls are passed through
+ * unchanged.
+ * <p>
+ * Unlike the single-value endpoints, the bulk endpoints skip unknown values, so a value missing from a bulk
+ * response is reported with a {@link DictionaryValueNotFoundException}. Like the single-value endpoint, the bulk
+ * name lookup matches names ignoring case and returns the stored names, so the returned names are matched back to
+ * the requested ones ignoring case as well.
+ */
+@Component("coalescingDictionaryServiceClient")
+public class CoalescingDictionaryServiceClient implements DictionaryServiceClient {
+
+    private final DictionaryServiceClient dictionaryServiceClient;
+
+    private final ScheduledExecutorService batchScheduler;
+
+    private final MicroBatcher<Long, DictionaryValueSimpleDto> valuesById;
+
+    private final MicroBatcher<DictionaryValueKey, DictionaryValueSimpleDto> valuesByName;
+
+    public CoalescingDictionaryServiceClient(
+            @Qualifier("resilientDictionaryServiceClient") DictionaryServiceClient dictionaryServiceClient,
+            DictionaryClientProperties properties) {
+        this.dictionaryServiceClient = dictionaryServiceClient;
+        this.batchScheduler = Executors.newScheduledThreadPool(properties.getBatchThreads(),
+                new CustomizableThreadFactory("DictionaryBatch-"));
+        this.valuesById = new MicroBatcher<>(this::loadValuesByIds,
+                id -> new DictionaryValueNotFoundException("Dictionary value with id " + id + " not found."),
+                batchScheduler, properties.getBatchWindow(), properties.getMaxBatchSize());
+        this.valuesByName = new MicroBatcher<>(this::loadValuesByNames,
+                key -> new DictionaryValueNotFoundException(key.dictionaryId(), key.name()),
+                batchScheduler, properties.getBatchWindow(), properties.getMaxBatchSize());
+    }
+
+    @Override
+    public DictionaryValueSimpleDto getDictionaryValueById(Long dictionaryValueId) {
+        return await(valuesById.load(dictionaryValueId));
+    }
+
+    @Override
+    public DictionaryValueSimpleDto getDictionaryValueByDictionaryIdAndName(Long dictionaryId, String name) {
+        return await(valuesByName.load(new DictionaryValueKey(dictionaryId, name)));
+    }
+
+    @Override
+    public List<DictionaryValueSimpleDto> getDictionaryValuesByIds(Collection<Long> dictionaryValueIds) {
+        return dictionaryServiceClient.getDictionaryValuesByIds(dictionaryValueIds);
+    }
+
+    @Override
+    public Map<Long, Map<String, Long>> getDictionaryValueIdsByNames(Map<Long, Set<String>> namesByDictionaryId) {
+        return dictionaryServiceClient.getDictionaryValueIdsByNames(namesByDictionaryId);
+    }
+
+    @Override
+    public Map<Long, String> getValueNamesByDictionaryId(Long dictionaryId) {
+        return dictionaryServiceClient.getValueNamesByDictionaryId(dictionaryId);
+    }
+
+    @Override
+    public List<DictionaryValueSimpleDto> getValuesByDictionaryId(Long dictionaryId) {
+        return dictionaryServiceClient.getValuesByDictionaryId(dictionaryId);
+    }
+
+    @Override
+    public ResponseEntity<DictionarySnapshotDto> getSnapshot(String eTag) {
+        return dictionaryServiceClient.getSnapshot(eTag);
+    }
+
+    @Override
+    public DictionarySimpleDto addValueToTypeDictionary(String name) {
+        return dictionaryServiceClient.addValueToTypeDictionary(name);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        batchScheduler.shutdown();
+    }
+
+    private Map<Long, DictionaryValueSimpleDto> loadValuesByIds(Set<Long> ids) {
+        return dictionaryServiceClient.getDictionaryValuesByIds(ids).stream()
+                .collect(Collectors.toMap(DictionaryValueSimpleDto::getId, Function.identity()));
+    }
+
+    private Map<DictionaryValueKey, DictionaryValueSimpleDto> loadValuesByNames(Set<DictionaryValueKey> keys) {
+        Map<Long, Set<String>> namesByDictionaryId = keys.stream()
+                .collect(Collectors.groupingBy(DictionaryValueKey::dictionaryId,
+                        Collectors.mapping(DictionaryValueKey::name, Collectors.toSet())));
+        Map<DictionaryValueKey, DictionaryValueSimpleDto> valuesByNormalizedKey = new HashMap<>();
+        dictionaryServiceClient.getDictionaryValueIdsByNames(namesByDictionaryId).forEach((dictionaryId, ids) ->
+                ids.forEach((name, id) -> valuesByNormalizedKey.put(normalize(
+                        new DictionaryValueKey(dictionaryId, name)), new DictionaryValueSimpleDto(id, name))));
+        Map<DictionaryValueKey, DictionaryValueSimpleDto> values = new HashMap<>();
+        for (DictionaryValueKey key : keys) {
+            DictionaryValueSimpleDto value = valuesByNormalizedKey.get(normalize(key));
+            if (value != null)
+                values.put(key, value);
+        }
+        return values;
+    }
+
+    private static DictionaryValueKey normalize(DictionaryValueKey key) {
+        return new DictionaryValueKey(key.dictionaryId(), key.name().toLowerCase(Locale.ROOT));
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw e;
+        }
+    }
+
+}
@@ -0,0 +1,155 @@
+package com.enjoythecode.personservice.api;
+
+import com.enjoythecode.personservice.config.DictionaryCacheProperties;
+import com.enjoythecode.personservice.dto.DictionaryCacheStatsDto;
+import com.enjoythecode.personservice.dto.DictionarySnapshotDto;
+import com.enjoythecode.personservice.dto.DictionaryValueSimpleDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches of 'dictionary-service' data used by {@link CachingDictionaryServiceClient}: dictionary values by ID,
+ * by dictionary ID and name, and whole dictionaries. Every cache is bounded in size, expires entries after
+ * the configured time to live and records hit and miss statistics.
+ * <p>
+ * Expired entries are kept as last known values, which callers may serve while 'dictionary-service' cannot be
+ * reached. These are bounded by the same maximum size, are dropped when the cache is flushed or reloaded,
+ * and every lookup served from them is counted in the statistics as a stale hit.
+ */
+@Getter
+@Component
+public class DictionaryCache {
+
+    private final Cache<Long, DictionaryValueSimpleDto> valuesById;
+
+    private final Cache<DictionaryValueKey, DictionaryValueSimpleDto> valuesByName;
+
+    private final Cache<Long, List<DictionaryValueSimpleDto>> valuesByDictionaryId;
+
+    @Getter(AccessLevel.NONE)
+    private final LastKnownValues<Long, DictionaryValueSimpleDto> lastKnownValuesById;
+
+    @Getter(AccessLevel.NONE)
+    private final LastKnownValues<DictionaryValueKey, DictionaryValueSimpleDto> lastKnownValuesByName;
+
+    @Getter(AccessLevel.NONE)
+    private final LastKnownValues<Long, List<DictionaryValueSimpleDto>> lastKnownValuesByDictionaryId;
+
+    @Autowired
+    public DictionaryCache(DictionaryCacheProperties properties) {
+        this(properties, Ticker.systemTicker());
+    }
+
+    DictionaryCache(DictionaryCacheProperties properties, Ticker ticker) {
+        this.lastKnownValuesById = new LastKnownValues<>(properties);
+        this.lastKnownValuesByName = new LastKnownValues<>(properties);
+        this.lastKnownValuesByDictionaryId = new LastKnownValues<>(properties);
+        this.valuesById = createCache(properties, ticker, lastKnownValuesById);
+        this.valuesByName = createCache(properties, ticker, lastKnownValuesByName);
+        this.valuesByDictionaryId = createCache(properties, ticker, lastKnownValuesByDictionaryId);
+    }
+
+    public Optional<DictionaryValueSimpleDto> findLastKnownValueById(Long id) {
+        return lastKnownValuesById.find(id);
+    }
+
+    public Optional<DictionaryValueSimpleDto> findLastKnownValueByName(DictionaryValueKey key) {
+        return lastKnownValuesByName.find(key);
+    }
+
+    public Optional<List<DictionaryValueSimpleDto>> findLastKnownValuesByDictionaryId(Long dictionaryId) {
+        return lastKnownValuesByDictionaryId.find(dictionaryId);
+    }
+
+    /**
+     * Removes all cached entries.
+     */
+    public void invalidateAll() {
+        valuesById.invalidateAll();
+        valuesByName.invalidateAll();
+        valuesByDictionaryId.invalidateAll();
+        lastKnownValuesById.values.invalidateAll();
+        lastKnownValuesByName.values.invalidateAll();
+        lastKnownValuesByDictionaryId.values.invalidateAll();
+    }
+
+    /**
+     * Replaces all cached entries with the content of the snapshot. Values not assigned to any dictionary are not
+     * part of a snapshot and are fetched again on their next lookup.
+     */
+    public void load(DictionarySnapshotDto snapshot) {
+        invalidateAll();
+        snapshot.getDictionaries().forEach(dictionary -> {
+            List<DictionaryValueSimpleDto> values = dictionary.getValues().entrySet().stream()
+                    .map(entry -> new DictionaryValueSimpleDto(entry.getKey(), entry.getValue()))
+                    .toList();
+            values.forEach(value -> {
+                valuesById.put(value.getId(), value);
+                valuesByName.put(new DictionaryValueKey(dictionary.getId(), value.getName()), value);
+            });
+            valuesByDictionaryId.put(dictionary.getId(), values);
+        });
+    }
+
+    public List<DictionaryCacheStatsDto> getStats() {
+        return List.of(
+                toStatsDto("valuesById", valuesById, lastKnownValuesById),
+                toStatsDto("valuesByName", valuesByName, lastKnownValuesByName),
+                toStatsDto("valuesByDictionaryId", valuesByDictionaryId, lastKnownValuesByDictionaryId));
+    }
+
+    private static DictionaryCacheStatsDto toStatsDto(String name, Cache<?, ?> cache, LastKnownValues<?, ?> lastKnown) {
+        CacheStats stats = cache.stats();
+        return new DictionaryCacheStatsDto(name, cache.estimatedSize(), stats.hitCount(), stats.missCount(),
+                stats.hitRate(), stats.evictionCount(), lastKnown.staleHits.sum());
+    }
+
+    private static <K, V> Cache<K, V> createCache(DictionaryCacheProperties properties, Ticker ticker,
+                                                  LastKnownValues<K, V> lastKnown) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .ticker(ticker)
+                .evictionListener((K key, V value, RemovalCause cause) -> {
+                    if (cause == RemovalCause.EXPIRED && key != null && value != null)
+                        lastKnown.values.put(key, value);
+                })
+                .recordStats()
+                .build();
+    }
+
+    private static final class LastKnownValues<K, V> {
+
+        private final Cache<K, V> values;
+
+        private final LongAdder staleHits = new LongAdder();
+
+        private LastKnownValues(DictionaryCacheProperties properties) {
+            this.values = Caffeine.newBuilder()
+                    .maximumSize(properties.getMaximumSize())
+                    .build();
+        }
+
+        private Optional<V> find(K key) {
+            Optional<V> value = Optional.ofNullable(values.getIfPresent(key));
+            value.ifPresent(found -> staleHits.increment());
+            return value;
+        }
+
+    }
+
+    public record DictionaryValueKey(Long dictionaryId, String name) {
+    }
+
+}
@@ -0,0 +1,168 @@
+package com.enjoythecode.personservice.api;
+
+import com.enjoythecode.personservice.config.DictionaryClientProperties;
+import com.enjoythecode.personservice.dto.DictionarySnapshotDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.FeignException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the {@link DictionaryCache} in line with 'dictionary-service'. A background thread follows the server-sent
+ * events change feed, and whenever the announced data version differs from the cached one, the whole snapshot is
+ * fetched, loaded into the cache and announced with a {@link DictionarySnapshotLoadedEvent}. The snapshot is also
+ * checked periodically with its ETag, which costs a 304 response when nothing changed, in case change events
+ * are lost.
+ * <p>
+ * The change feed announces the current version on every (re)connection, so changes made while disconnected
+ * are picked up as soon as the connection is back.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "person.dictionary-client", name = "change-feed-enabled", matchIfMissing = true)
+public class DictionaryChangeListener {
+
+    private static final String CHANGES_PATH = "/api/dictionaries/changes";
+
+    private static final String DATA_FIELD = "data:";
+
+    private final DictionaryServiceClient dictionaryServiceClient;
+
+    private final DictionaryCache dictionaryCache;
+
+    private final DictionaryClientProperties properties;
+
+    private final ObjectMapper objectMapper;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private volatile boolean running;
+
+    private volatile long cachedVersion = -1;
+
+    private volatile String cachedETag;
+
+    public DictionaryChangeListener(
+            @Qualifier("dictionaryServiceFeignClient") DictionaryServiceClient dictionaryServiceClient,
+            DictionaryCache dictionaryCache, DictionaryClientProperties properties, ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher) {
+        this.dictionaryServiceClient = dictionaryServiceClient;
+        this.dictionaryCache = dictionaryCache;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::followChangeFeed, "DictionaryChangeFeed");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+    }
+
+    @Scheduled(fixedDelayString = "${person.dictionary-client.snapshot-check-interval:PT1M}")
+    public void checkSnapshot() {
+        if (!running)
+            return;
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Dictionary snapshot check failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reloads the cache unless it already holds the given data version.
+     */
+    public void onVersionAnnounced(long version) {
+        if (version != cachedVersion)
+            refresh();
+    }
+
+    /**
+     * Fetches the snapshot unless it did not change since the cached one, and loads it into the cache.
+     */
+    public synchronized void refresh() {
+        ResponseEntity<DictionarySnapshotDto> response;
+        try {
+            response = dictionaryServiceClient.getSnapshot(cachedETag);
+        } catch (FeignException e) {
+            if (e.status() == HttpStatus.NOT_MODIFIED.value())
+                return;
+            throw e;
+        }
+        DictionarySnapshotDto snapshot = response.getBody();
+        if (snapshot == null)
+            return;
+        dictionaryCache.load(snapshot);
+        eventPublisher.publishEvent(new DictionarySnapshotLoadedEvent(snapshot));
+        cachedVersion = snapshot.getVersion();
+        cachedETag = response.getHeaders().getETag();
+        log.info("Dictionary cache loaded with data version {}", cachedVersion);
+    }
+
+    private void followChangeFeed() {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(properties.getUrl() + CHANGES_PATH))
+                .header("Accept", MediaType.TEXT_EVENT_STREAM_VALUE)
+                .GET()
+                .build();
+        while (running) {
+            try {
+                HttpResponse<Stream<String>> response = httpClient.send(request, HttpResponse.BodyHandlers.ofLines());
+                try (Stream<String> lines = response.body()) {
+                    if (response.statusCode() != HttpStatus.OK.value())
+                        throw new IOException("Change feed responded with status " + response.statusCode());
+                    Iterator<String> iterator = lines.iterator();
+                    while (running && iterator.hasNext()) {
+                        String line = iterator.next();
+                        if (line.startsWith(DATA_FIELD))
+                            onVersionAnnounced(objectMapper.readTree(line.substring(DATA_FIELD.length()))
+                                    .get("version").asLong());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException | RuntimeException e) {
+                log.warn("Dictionary change feed disconnected: {}", e.getMessage());
+            }
+            pause();
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(properties.getChangeFeedReconnectDelay().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+}
@@ -1,11 +1,19 @@
 package com.enjoythecode.personservice.api;
 
 import com.enjoythecode.personservice.dto.DictionarySimpleDto;
+import com.enjoythecode.personservice.dto.DictionarySnapshotDto;
 import com.enjoythecode.personservice.dto.DictionaryValueSimpleDto;
 import jakarta.validation.Valid;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * This Feign client allows you to access dictionary data from the 'dictionary-service'.
  * The 'dictionary-service' provides dictionaries for various purposes.
@@ -15,8 +23,13 @@ import org.springframework.web.bind.annotation.*;
  * - Dictionary with ID 2: 'positions'
  * - Dictionary with ID 3: 'university names'
  * - Dictionary with ID 4: 'fields of study'
+ *
+ * The application uses this client through {@link CachingDictionaryServiceClient}, the primary bean of this type,
+ * which sends its cache misses through {@link CoalescingDictionaryServiceClient} and
+ * {@link ResilientDictionaryServiceClient}.
  */
-@FeignClient(name = "dictionary-service", url = "http://localhost:8082")
+@FeignClient(name = "dictionary-service", url = "${person.dictionary-client.url:http://localhost:8082}", qualifiers = "dictionaryServiceFeignClient",
+        primary = false)
 public interface DictionaryServiceClient {
 
     /**
@@ -39,6 +52,55 @@ public interface DictionaryServiceClient {
     DictionaryValueSimpleDto getDictionaryValueByDictionaryIdAndName(
             @PathVariable("dictionaryId") Long dictionaryId, @RequestParam String name);
 
+    /**
+     * Retrieves several dictionary values by their IDs in a single call. IDs that do not exist are skipped.
+     *
+     * @param dictionaryValueIds The IDs of the dictionary values to retrieve.
+     * @return A list of DictionaryValueSimpleDto representing the dictionary values found.
+     */
+    @PostMapping("/api/dictionaryvalues/by-ids")
+    List<DictionaryValueSimpleDto> getDictionaryValuesByIds(@RequestBody Collection<Long> dictionaryValueIds);
+
+    /**
+     * Resolves value names to IDs for several dictionaries in a single call. Names that do not exist in the
+     * given dictionary are skipped.
+     *
+     * @param namesByDictionaryId The value names to resolve, keyed by dictionary ID.
+     * @return Maps of value name to value ID, keyed by dictionary ID.
+     */
+    @PostMapping("/api/dictionaryvalues/by-names")
+    Map<Long, Map<String, Long>> getDictionaryValueIdsByNames(@RequestBody Map<Long, Set<String>> namesByDictionaryId);
+
+    /**
+     * Retrieves all values of the dictionary with the given ID as a map.
+     *
+     * @param dictionaryId The ID of the dictionary.
+     * @return A map of value ID to value name.
+     */
+    @GetMapping("/api/dictionaryvalues/{dictionaryId}/names")
+    Map<Long, String> getValueNamesByDictionaryId(@PathVariable("dictionaryId") Long dictionaryId);
+
+    /**
+     * Retrieves all values of the dictionary with the given ID.
+     *
+     * @param dictionaryId The ID of the dictionary.
+     * @return A list of DictionaryValueSimpleDto representing the dictionary values.
+     */
+    @GetMapping("/api/dictionaries/{dictionaryId}/values")
+    List<DictionaryValueSimpleDto> getValuesByDictionaryId(@PathVariable("dictionaryId") Long dictionaryId);
+
+    /**
+     * Retrieves all dictionaries with their values and the data version they correspond to.
+     * When the given ETag matches the current version, 'dictionary-service' answers with 304 Not Modified,
+     * which Feign reports as a FeignException with status 304.
+     *
+     * @param eTag The ETag of the snapshot held by the caller, or null to always get the snapshot.
+     * @return The snapshot, with the ETag of its version.
+     */
+    @GetMapping("/api/dictionaries/snapshot")
+    ResponseEntity<DictionarySnapshotDto> getSnapshot(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String eTag);
+
     /**
      * Adds a new value to the 'types' dictionary (ID 1).
      *
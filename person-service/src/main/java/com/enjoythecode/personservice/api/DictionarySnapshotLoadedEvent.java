@@ -0,0 +1,9 @@
+package com.enjoythecode.personservice.api;
+
+import com.enjoythecode.personservice.dto.DictionarySnapshotDto;
+
+/**
+ * Published when {@link DictionaryChangeListener} loads a new snapshot of 'dictionary-service' data.
+ */
+public record DictionarySnapshotLoadedEvent(DictionarySnapshotDto snapshot) {
+}
@@ -0,0 +1,121 @@
+package com.enjoythecode.personservice.api;
+
+import com.enjoythecode.personservice.config.DictionaryClientProperties;
+import com.enjoythecode.personservice.dto.DictionarySimpleDto;
+import com.enjoythecode.personservice.dto.DictionarySnapshotDto;
+import com.enjoythecode.personservice.dto.DictionaryValueSimpleDto;
+import feign.FeignException;
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Guards the calls to the 'dictionary-service' Feign client with a bulkhead limiting the number of concurrent
+ * calls and a circuit breaker that stops calling 'dictionary-service' while most calls fail. Rejected calls fail
+ * immediately with a {@link BulkheadFullException} or a {@link CallNotPermittedException}; the per-call timeouts
+ * are those of the Feign client.
+ * <p>
+ * Client errors such as 404 Not Found are valid answers and are not counted as failures.
+ */
+@Component("resilientDictionaryServiceClient")
+public class ResilientDictionaryServiceClient implements DictionaryServiceClient {
+
+    private final DictionaryServiceClient dictionaryServiceClient;
+
+    private final CircuitBreaker circuitBreaker;
+
+    private final Bulkhead bulkhead;
+
+    public ResilientDictionaryServiceClient(
+            @Qualifier("dictionaryServiceFeignClient") DictionaryServiceClient dictionaryServiceClient,
+            DictionaryClientProperties properties) {
+        this.dictionaryServiceClient = dictionaryServiceClient;
+        this.circuitBreaker = CircuitBreaker.of("dictionary-service", CircuitBreakerConfig.custom()
+                .failureRateThreshold(properties.getFailureRateThreshold())
+                .slidingWindowSize(properties.getSlidingWindowSize())
+                .minimumNumberOfCalls(properties.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(properties.getOpenStateDuration())
+                .recordException(ResilientDictionaryServiceClient::isFailure)
+                .ignoreExceptions(BulkheadFullException.class)
+                .build());
+        this.bulkhead = Bulkhead.of("dictionary-service", BulkheadConfig.custom()
+                .maxConcurrentCalls(properties.getMaxConcurrentCalls())
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+    }
+
+    /**
+     * Tells whether the exception means that 'dictionary-service' could not answer, as opposed to answering
+     * with an error, so that a last known value may be used instead.
+     */
+    public static boolean isUnavailable(Throwable e) {
+        return isFailure(e) || e instanceof CallNotPermittedException || e instanceof BulkheadFullException;
+    }
+
+    public CircuitBreaker.State getCircuitBreakerState() {
+        return circuitBreaker.getState();
+    }
+
+    @Override
+    public DictionaryValueSimpleDto getDictionaryValueById(Long dictionaryValueId) {
+        return call(() -> dictionaryServiceClient.getDictionaryValueById(dictionaryValueId));
+    }
+
+    @Override
+    public DictionaryValueSimpleDto getDictionaryValueByDictionaryIdAndName(Long dictionaryId, String name) {
+        return call(() -> dictionaryServiceClient.getDictionaryValueByDictionaryIdAndName(dictionaryId, name));
+    }
+
+    @Override
+    public List<DictionaryValueSimpleDto> getDictionaryValuesByIds(Collection<Long> dictionaryValueIds) {
+        return call(() -> dictionaryServiceClient.getDictionaryValuesByIds(dictionaryValueIds));
+    }
+
+    @Override
+    public Map<Long, Map<String, Long>> getDictionaryValueIdsByNames(Map<Long, Set<String>> namesByDictionaryId) {
+        return call(() -> dictionaryServiceClient.getDictionaryValueIdsByNames(namesByDictionaryId));
+    }
+
+    @Override
+    public Map<Long, String> getValueNamesByDictionaryId(Long dictionaryId) {
+        return call(() -> dictionaryServiceClient.getValueNamesByDictionaryId(dictionaryId));
+    }
+
+    @Override
+    public List<DictionaryValueSimpleDto> getValuesByDictionaryId(Long dictionaryId) {
+        return call(() -> dictionaryServiceClient.getValuesByDictionaryId(dictionaryId));
+    }
+
+    @Override
+    public ResponseEntity<DictionarySnapshotDto> getSnapshot(String eTag) {
+        return call(() -> dictionaryServiceClient.getSnapshot(eTag));
+    }
+
+    @Override
+    public DictionarySimpleDto addValueToTypeDictionary(String name) {
+        return call(() -> dictionaryServiceClient.addValueToTypeDictionary(name));
+    }
+
+    private <T> T call(Supplier<T> supplier) {
+        return circuitBreaker.executeSupplier(Bulkhead.decorateSupplier(bulkhead, supplier));
+    }
+
+    private static boolean isFailure(Throwable e) {
+        return e instanceof RetryableException || e instanceof FeignException.FeignServerException;
+    }
+
+}
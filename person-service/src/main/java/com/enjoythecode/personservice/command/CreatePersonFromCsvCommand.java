@@ -1,7 +1,7 @@
 package com.enjoythecode.personservice.command;
 
+import com.enjoythecode.personservice.csv.CsvRow;
 import com.enjoythecode.personservice.validator.LettersOnly;
-import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
@@ -14,7 +14,6 @@ public class CreatePersonFromCsvCommand {
     @LettersOnly(message = "Field cannot be null; can contain only letters")
     private String personType;
 
-    @Size(min = 7)
-    private String[] parameters;
+    private CsvRow row;
 
 }
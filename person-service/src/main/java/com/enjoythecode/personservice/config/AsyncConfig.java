@@ -3,12 +3,16 @@ package com.enjoythecode.personservice.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.concurrent.ForkJoinPool;
+
 @Configuration
 @EnableAsync
+@EnableScheduling
 public class AsyncConfig implements WebMvcConfigurer {
 
     @Bean("threadPoolTaskExecutor")
@@ -22,9 +26,36 @@ public class AsyncConfig implements WebMvcConfigurer {
         return executor;
     }
 
+    @Bean("importTaskExecutor")
+    public ThreadPoolTaskExecutor getImportExecutor(ImportProperties importProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(importProperties.getMaxConcurrentJobs());
+        executor.setMaxPoolSize(importProperties.getMaxConcurrentJobs());
+        executor.setQueueCapacity(importProperties.getQueueCapacity());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setThreadNamePrefix("Import-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean("dictionaryLookupExecutor")
+    public ThreadPoolTaskExecutor getDictionaryLookupExecutor(DictionaryClientProperties dictionaryClientProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(dictionaryClientProperties.getLookupThreads());
+        executor.setMaxPoolSize(dictionaryClientProperties.getLookupThreads());
+        executor.setThreadNamePrefix("DictionaryLookup-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "importPartitionPool", destroyMethod = "shutdown")
+    public ForkJoinPool getImportPartitionPool(ImportProperties importProperties) {
+        return new ForkJoinPool(importProperties.getWriterThreads());
+    }
+
     @Override
     public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
         configurer.setTaskExecutor(getAsyncExecutor());
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,27 @@
+package com.enjoythecode.personservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the near-cache of 'dictionary-service' data, bound from the 'person.dictionary-cache' properties.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "person.dictionary-cache")
+public class DictionaryCacheProperties {
+
+    /**
+     * Maximum number of entries of every cache (values by ID, values by dictionary and name, dictionaries).
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Time after which a cached entry expires and is fetched again.
+     */
+    private Duration timeToLive = Duration.ofMinutes(10);
+
+}
@@ -0,0 +1,80 @@
+package com.enjoythecode.personservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the calls made to 'dictionary-service', bound from the 'person.dictionary-client' properties.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "person.dictionary-client")
+public class DictionaryClientProperties {
+
+    /**
+     * Base URL of 'dictionary-service'.
+     */
+    private String url = "http://localhost:8082";
+
+    /**
+     * Whether to follow the 'dictionary-service' change feed and reload the dictionary cache on every change.
+     */
+    private boolean changeFeedEnabled = true;
+
+    /**
+     * How long to wait before reconnecting to the change feed after the connection is lost.
+     */
+    private Duration changeFeedReconnectDelay = Duration.ofSeconds(5);
+
+    /**
+     * How long a single-value lookup waits for other lookups to be sent with it in one bulk request.
+     * Zero sends every lookup at once, still sharing the request between concurrent lookups of the same value.
+     */
+    private Duration batchWindow = Duration.ofMillis(5);
+
+    /**
+     * Number of lookups at which a bulk request is sent without waiting for the batch window.
+     */
+    private int maxBatchSize = 100;
+
+    /**
+     * Number of threads sending the bulk requests whose batch window elapsed.
+     */
+    private int batchThreads = 4;
+
+    /**
+     * Number of threads running the non-blocking single-value lookups of {@code AsyncDictionaryServiceClient}.
+     */
+    private int lookupThreads = 16;
+
+    /**
+     * Failure rate, in percent, at which the circuit breaker opens and calls fail fast without reaching
+     * 'dictionary-service'. Only timeouts, connection errors and server errors count as failures.
+     */
+    private float failureRateThreshold = 50;
+
+    /**
+     * Number of most recent calls the failure rate is computed from.
+     */
+    private int slidingWindowSize = 20;
+
+    /**
+     * Minimum number of calls in the sliding window before the failure rate is evaluated.
+     */
+    private int minimumNumberOfCalls = 10;
+
+    /**
+     * How long the circuit breaker stays open before letting trial calls through.
+     */
+    private Duration openStateDuration = Duration.ofSeconds(10);
+
+    /**
+     * Maximum number of concurrent calls to 'dictionary-service'; further calls fail immediately, so a slow
+     * 'dictionary-service' cannot tie up all request threads.
+     */
+    private int maxConcurrentCalls = 20;
+
+}
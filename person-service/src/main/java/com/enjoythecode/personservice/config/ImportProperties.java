@@ -0,0 +1,61 @@
+package com.enjoythecode.personservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Settings of the CSV import, bound from the 'person.import' properties.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "person.import")
+public class ImportProperties {
+
+    /**
+     * Number of rows written to the database in a single transaction.
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * Number of inserts after which the persistence context is flushed and cleared within a chunk.
+     */
+    private int flushInterval = 500;
+
+    /**
+     * Number of threads parsing and writing file partitions, shared by all import jobs. Every thread writes
+     * through its own connection, so the connection pool should be larger than this value.
+     */
+    private int writerThreads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    /**
+     * Minimal size of a file partition; smaller files are imported as a single partition.
+     */
+    private DataSize minPartitionSize = DataSize.ofMegabytes(8);
+
+    /**
+     * Number of import jobs processed at the same time; further jobs wait in the queue.
+     */
+    private int maxConcurrentJobs = 4;
+
+    /**
+     * Number of import jobs that may wait for a free worker before new uploads are rejected.
+     */
+    private int queueCapacity = 20;
+
+    /**
+     * Time for which the status of a finished import job stays available. Files and checkpoints of failed jobs
+     * are kept for the same time, so the jobs can be resumed.
+     */
+    private Duration jobRetention = Duration.ofHours(24);
+
+    /**
+     * Directory in which uploaded files are stored until their import jobs complete.
+     */
+    private Path workDirectory = Path.of(System.getProperty("java.io.tmpdir"), "person-import");
+
+}
@@ -0,0 +1,35 @@
+package com.enjoythecode.personservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Settings of the full-text index of people, bound from the 'person.search-index' properties.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "person.search-index")
+public class SearchIndexProperties {
+
+    /**
+     * Directory in which the index is stored. When not set, the index is kept in memory and rebuilt on every start.
+     */
+    private Path directory;
+
+    /**
+     * Maximum number of people a name query may match; broader queries are rejected, since all the matching IDs
+     * are passed on to the database query.
+     */
+    private int maxResults = 1000;
+
+    /**
+     * How often index changes are committed to disk. Changes are visible to searches right away, only a crash
+     * before the commit loses them, in which case the index has to be rebuilt.
+     */
+    private Duration commitInterval = Duration.ofSeconds(5);
+
+}
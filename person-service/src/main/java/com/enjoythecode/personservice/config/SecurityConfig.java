@@ -31,7 +31,10 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/api/people").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/api/people").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.POST, "/api/people/import").hasAnyRole("ADMIN", "IMPORTER")
+                        .requestMatchers(HttpMethod.POST, "/api/people/import/*/resume").hasAnyRole("ADMIN", "IMPORTER")
+                        .requestMatchers(HttpMethod.GET, "/api/people/import/*/rejects").hasAnyRole("ADMIN", "IMPORTER")
                         .requestMatchers(HttpMethod.POST, "/api/employees/*/positions").hasAnyRole("ADMIN", "EMPLOYEE")
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .anyRequest().permitAll()
                 )
                 .httpBasic(Customizer.withDefaults())
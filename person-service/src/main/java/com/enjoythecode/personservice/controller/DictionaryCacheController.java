@@ -0,0 +1,59 @@
+package com.enjoythecode.personservice.controller;
+
+import com.enjoythecode.personservice.api.DictionaryCache;
+import com.enjoythecode.personservice.dto.DictionaryCacheStatsDto;
+import com.enjoythecode.personservice.dto.StatusDto;
+import com.enjoythecode.personservice.exception.handler.ExceptionResponseBody;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/dictionary-cache")
+@RequiredArgsConstructor
+@Tag(name = "Dictionary Cache", description = "Administration of the cache of 'dictionary-service' data")
+public class DictionaryCacheController {
+
+    private final DictionaryCache dictionaryCache;
+
+    @GetMapping
+    @Operation(summary = "Get dictionary cache statistics",
+            description = "Retrieve the size, hits, misses, hit rate and evictions of every dictionary cache")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = DictionaryCacheStatsDto.class)))),
+            @ApiResponse(responseCode = "401", description = "Authentication failed or user not authenticated",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExceptionResponseBody.class)))
+    })
+    public ResponseEntity<List<DictionaryCacheStatsDto>> getStats() {
+        return ResponseEntity.ok(dictionaryCache.getStats());
+    }
+
+    @DeleteMapping
+    @Operation(summary = "Flush dictionary cache",
+            description = "Remove all cached dictionary data, so it is fetched again from 'dictionary-service'")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cache flushed successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = StatusDto.class))),
+            @ApiResponse(responseCode = "401", description = "Authentication failed or user not authenticated",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExceptionResponseBody.class)))
+    })
+    public ResponseEntity<StatusDto> flush() {
+        dictionaryCache.invalidateAll();
+        return ResponseEntity.ok(new StatusDto("Dictionary cache flushed."));
+    }
+
+}
@@ -7,10 +7,13 @@ import com.enjoythecode.personservice.dto.PersonDto;
 import com.enjoythecode.personservice.dto.StatusDto;
 import com.enjoythecode.personservice.exception.handler.ExceptionResponseBody;
 import com.enjoythecode.personservice.factory.converter.PersonDtoConverterFactory;
+import com.enjoythecode.personservice.model.ExportFormat;
 import com.enjoythecode.personservice.model.ImportStatus;
 import com.enjoythecode.personservice.model.Person;
 import com.enjoythecode.personservice.service.DataImportFromCsvService;
+import com.enjoythecode.personservice.service.PersonExportService;
 import com.enjoythecode.personservice.service.PersonService;
+import com.enjoythecode.personservice.util.KeysetCursorCodec;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -21,17 +24,28 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @RestController
@@ -41,8 +55,13 @@ import java.util.stream.Collectors;
 @Tag(name = "People", description = "Operations related to people management")
 public class PersonController {
 
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final PersonService personService;
     private final DataImportFromCsvService dataImportFromCsvService;
+    private final PersonExportService personExportService;
     private final PersonDtoConverterFactory personDtoConverterFactory;
     private final ModelMapper modelMapper;
 
@@ -54,7 +73,10 @@ public class PersonController {
             "parameters, specify the range: 'parameter=fromX,toY', where X and Y are the limits of the closed range; " +
             "- for gender, specify 'sex=m' for a man and 'sex=w' for a woman. Provide in the URL 'typeId=X' parameter, " +
             "where X is the id of demanded type (specified in the 'type' dictionary) when filtering by a type-specific " +
-            "parameter. Provide pageable if required: 'page=A&size=B, where A - page number, B - page size.")
+            "parameter. Provide pageable if required: 'page=A&size=B, where A - page number, B - page size. " +
+            "For deep paging use cursor pagination instead: pass 'after=' (empty) for the first page and the value " +
+            "of the 'X-Next-Cursor' response header for the next ones; the header is absent on the last page. " +
+            "Cursor pagination supports sorting by id, typeId, firstName, lastName and pesel.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved person data",
                     content = @Content(mediaType = "application/json",
@@ -64,14 +86,59 @@ public class PersonController {
                             schema = @Schema(implementation = ExceptionResponseBody.class)))
     })
     public ResponseEntity<List<PersonDto>> getPeople(@RequestParam Map<String, String> parameters,
+                                                     @RequestParam(value = "after", required = false) String after,
                                                      @PageableDefault Pageable pageable) {
+        if (after != null)
+            return getPeopleAfter(parameters, after, pageable);
         Page<Person> people = personService.getPeople(parameters, pageable);
-        List<PersonDto> personDtoList = people.stream()
-                .map(personDtoConverterFactory::convert)
-                .collect(Collectors.toList());
+        List<PersonDto> personDtoList = personDtoConverterFactory.convertPage(people).getContent();
         return ResponseEntity.ok(personDtoList);
     }
 
+    private ResponseEntity<List<PersonDto>> getPeopleAfter(Map<String, String> parameters, String after,
+                                                           Pageable pageable) {
+        Window<Person> people = personService.getPeopleAfter(parameters, after, pageable.getPageSize(),
+                pageable.getSort());
+        List<PersonDto> personDtoList = personDtoConverterFactory.convertAll(people.getContent());
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (people.hasNext()) {
+            String nextCursor = KeysetCursorCodec.encode((KeysetScrollPosition) people.positionAt(people.size() - 1));
+            response.header(NEXT_CURSOR_HEADER, nextCursor)
+                    .header(HttpHeaders.LINK, "<" + ServletUriComponentsBuilder.fromCurrentRequest()
+                            .replaceQueryParam("after", nextCursor)
+                            .replaceQueryParam("page")
+                            .toUriString() + ">; rel=\"next\"");
+        }
+        return response.body(personDtoList);
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export people matching the parameters", description = "This endpoint streams all people " +
+            "matching the parameters, which are the same as for the list of people, without pagination. Specify " +
+            "'format=ndjson' (default) for one JSON object per line or 'format=csv' for a CSV file with a header row.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "People exported successfully",
+                    content = {@Content(mediaType = "application/x-ndjson"), @Content(mediaType = "text/csv")}),
+            @ApiResponse(responseCode = "400", description = "Unsupported export format",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExceptionResponseBody.class))),
+            @ApiResponse(responseCode = "401", description = "Authentication failed or user not authenticated",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExceptionResponseBody.class)))
+    })
+    public ResponseEntity<StreamingResponseBody> exportPeople(@RequestParam Map<String, String> parameters) {
+        Map<String, String> criteria = new HashMap<>(parameters);
+        ExportFormat format = ExportFormat.of(Optional.ofNullable(criteria.remove("format")).orElse("ndjson"));
+        StreamingResponseBody body = personExportService.export(criteria, format);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("people." + format.getFileExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get a person by ID", description = "Retrieve a person by their ID")
     @ApiResponses(value = {
@@ -153,28 +220,115 @@ public class PersonController {
 
     @PostMapping("/import")
     @Operation(summary = "Import data from a CSV file asynchronously",
-            description = "This endpoint allows you to import data from a CSV file in an asynchronous manner. " +
-                    "It processes the CSV file and saves the data to the database. Only one import can be performed at a time")
+            description = "This endpoint stores the CSV file and queues an import job for it. The returned job ID " +
+                    "allows you to check the progress at /api/people/import/{jobId}/status. Several imports can be " +
+                    "processed at the same time; further uploads wait in the queue. In tolerant mode invalid rows are " +
+                    "rejected instead of failing the job and can be downloaded at /api/people/import/{jobId}/rejects")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200",
-                    description = "Data import has started. Check status endpoint /api/people/import/status for progress.",
+            @ApiResponse(responseCode = "200", description = "Import job has been queued",
                     content = @Content(mediaType = "application/json",
-                            schema = @Schema(implementation = StatusDto.class))),
-            @ApiResponse(responseCode = "400", description = "Invalid input data",
+                            schema = @Schema(implementation = ImportStatusDto.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data or the import queue is full",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExceptionResponseBody.class))),
+            @ApiResponse(responseCode = "401", description = "Authentication failed or user not authenticated",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExceptionResponseBody.class)))
+    })
+    public ResponseEntity<ImportStatusDto> importPeople(@RequestParam("file") MultipartFile file,
+                                                        @RequestParam(value = "tolerant", defaultValue = "false")
+                                                        boolean tolerant) {
+        ImportStatus importStatus = dataImportFromCsvService.submitImport(file, tolerant);
+        return ResponseEntity.ok(modelMapper.map(importStatus, ImportStatusDto.class));
+    }
+
+    @PostMapping("/import/{jobId}/resume")
+    @Operation(summary = "Resume a failed import job",
+            description = "This endpoint queues a failed import job again. The job continues from the last " +
+                    "checkpoint of every partition, so rows committed before the failure are not imported twice")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import job has been queued",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ImportStatusDto.class))),
+            @ApiResponse(responseCode = "400", description = "Import job is running or completed, its file is " +
+                    "no longer available or the import queue is full",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExceptionResponseBody.class))),
+            @ApiResponse(responseCode = "404", description = "No checkpoint found for the import job",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExceptionResponseBody.class))),
+            @ApiResponse(responseCode = "401", description = "Authentication failed or user not authenticated",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExceptionResponseBody.class)))
+    })
+    public ResponseEntity<ImportStatusDto> resumeImport(@PathVariable("jobId") String jobId) {
+        ImportStatus importStatus = dataImportFromCsvService.resumeImport(jobId);
+        return ResponseEntity.ok(modelMapper.map(importStatus, ImportStatusDto.class));
+    }
+
+    @GetMapping("/import")
+    @Operation(summary = "Get statuses of import jobs",
+            description = "Retrieve the statuses of all retained import jobs, the most recently submitted first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import statuses retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = ImportStatusDto.class)))),
+            @ApiResponse(responseCode = "401", description = "Authentication failed or user not authenticated",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExceptionResponseBody.class)))
+    })
+    public ResponseEntity<List<ImportStatusDto>> getImportStatuses() {
+        return ResponseEntity.ok(dataImportFromCsvService.getImportStatuses().stream()
+                .map(importStatus -> modelMapper.map(importStatus, ImportStatusDto.class))
+                .collect(Collectors.toList()));
+    }
+
+    @GetMapping("/import/{jobId}/status")
+    @Operation(summary = "Get import job status", description = "Retrieve the status of the import job with the given ID")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import status retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ImportStatusDto.class))),
+            @ApiResponse(responseCode = "404", description = "Import job not found or already expired",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExceptionResponseBody.class))),
+            @ApiResponse(responseCode = "401", description = "Authentication failed or user not authenticated",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExceptionResponseBody.class)))
+    })
+    public ResponseEntity<ImportStatusDto> getImportStatus(@PathVariable("jobId") String jobId) {
+        ImportStatus importStatus = dataImportFromCsvService.getImportStatus(jobId);
+        return ResponseEntity.ok(modelMapper.map(importStatus, ImportStatusDto.class));
+    }
+
+    @GetMapping("/import/{jobId}/rejects")
+    @Operation(summary = "Download rejected rows of an import job",
+            description = "Download a CSV file with the rows rejected by a tolerant import job, together with their " +
+                    "line numbers and the reasons of rejection")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rejected rows retrieved successfully",
+                    content = @Content(mediaType = "text/csv")),
+            @ApiResponse(responseCode = "404", description = "No rejected rows recorded for the import job",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = ExceptionResponseBody.class))),
             @ApiResponse(responseCode = "401", description = "Authentication failed or user not authenticated",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = ExceptionResponseBody.class)))
     })
-    public CompletableFuture<ResponseEntity<StatusDto>> importPeople(@RequestParam("file") MultipartFile file) {
-        return dataImportFromCsvService.importPeopleFromCsvFile(file)
-                .thenApply(result -> ResponseEntity.ok(new StatusDto("Data import has started. Check status endpoint " +
-                        "/api/people/import/status for progress.")));
+    public ResponseEntity<Resource> getRejectedRows(@PathVariable("jobId") String jobId) {
+        Path rejectedRows = dataImportFromCsvService.getRejectedRows(jobId);
+        return ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(rejectedRows.getFileName().toString())
+                        .build()
+                        .toString())
+                .body(new FileSystemResource(rejectedRows));
     }
 
     @GetMapping("/import/status")
-    @Operation(summary = "Get data import status", description = "Retrieve the current status of the data import process")
+    @Operation(summary = "Get latest data import status",
+            description = "Retrieve the status of the most recently submitted import job")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Import status retrieved successfully",
                     content = @Content(mediaType = "application/json",
@@ -183,10 +337,9 @@ public class PersonController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = ExceptionResponseBody.class)))
     })
-    public ResponseEntity<ImportStatusDto> getImportStatus() {
-        ImportStatus importStatus = dataImportFromCsvService.getImportStatus();
-        ImportStatusDto importStatusDto = modelMapper.map(importStatus, ImportStatusDto.class);
-        return ResponseEntity.ok(importStatusDto);
+    public ResponseEntity<ImportStatusDto> getLatestImportStatus() {
+        ImportStatus importStatus = dataImportFromCsvService.getLatestImportStatus();
+        return ResponseEntity.ok(modelMapper.map(importStatus, ImportStatusDto.class));
     }
 
     @DeleteMapping("/{id}")
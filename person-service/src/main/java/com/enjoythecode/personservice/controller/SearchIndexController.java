@@ -0,0 +1,45 @@
+package com.enjoythecode.personservice.controller;
+
+import com.enjoythecode.personservice.dto.StatusDto;
+import com.enjoythecode.personservice.exception.handler.ExceptionResponseBody;
+import com.enjoythecode.personservice.repository.PersonSearchIndex;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/search-index")
+@RequiredArgsConstructor
+@Tag(name = "Search Index", description = "Administration of the full-text index of people")
+public class SearchIndexController {
+
+    private final PersonSearchIndex personSearchIndex;
+
+    @PostMapping("/rebuild")
+    @Operation(summary = "Rebuild search index",
+            description = "Replace the full-text index used by name queries with the people currently in the database")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Index rebuilt successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = StatusDto.class))),
+            @ApiResponse(responseCode = "409", description = "Index is already being rebuilt",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExceptionResponseBody.class))),
+            @ApiResponse(responseCode = "401", description = "Authentication failed or user not authenticated",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExceptionResponseBody.class)))
+    })
+    public ResponseEntity<StatusDto> rebuild() {
+        long count = personSearchIndex.rebuild();
+        return ResponseEntity.ok(new StatusDto("Search index rebuilt with " + count + " people."));
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.enjoythecode.personservice.csv;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a CSV file into record-aligned partitions that can be read independently. The header line
+ * is not part of any partition. Boundaries are placed after line feeds outside quoted fields, so records
+ * with quoted fields spanning several lines are never split between partitions.
+ */
+public final class CsvFilePartitioner {
+
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * States of the boundary scan: at the start of a field, in an unquoted field, in a quoted field, at a quote
+     * in a quoted field (either closing it or escaping another quote) and after a closed quoted field.
+     */
+    private static final int FIELD_START = 0;
+
+    private static final int UNQUOTED = 1;
+
+    private static final int QUOTED = 2;
+
+    private static final int QUOTE_IN_QUOTED = 3;
+
+    private static final int AFTER_QUOTED = 4;
+
+    private CsvFilePartitioner() {
+    }
+
+    /**
+     * Splits the data lines of the file into at most {@code maxPartitions} partitions of roughly equal size,
+     * none of them smaller than {@code minPartitionSize} bytes (except for the only one).
+     *
+     * @param file The CSV file with a header line.
+     * @param maxPartitions The maximal number of partitions.
+     * @param minPartitionSize The minimal size of a partition in bytes.
+     * @return The partitions in file order; empty if the file has no data lines.
+     */
+    public static List<FilePartition> partition(Path file, int maxPartitions, long minPartitionSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long dataStart = nextRecordStart(channel, 0, 0);
+            long dataLength = size - dataStart;
+            if (dataLength <= 0)
+                return List.of();
+            int partitionCount = (int) Math.max(1, Math.min(Math.max(1, maxPartitions),
+                    dataLength / Math.max(1, minPartitionSize)));
+            List<FilePartition> partitions = new ArrayList<>(partitionCount);
+            long start = dataStart;
+            for (int i = 1; i <= partitionCount && start < size; i++) {
+                long end = i == partitionCount ? size
+                        : nextRecordStart(channel, start, dataStart + dataLength * i / partitionCount);
+                if (end > start) {
+                    partitions.add(new FilePartition(partitions.size(), start, end));
+                    start = end;
+                }
+            }
+            return partitions;
+        }
+    }
+
+    /**
+     * Counts the line feeds within the partition, reading it through memory-mapped windows.
+     */
+    public static long countLineFeeds(Path file, FilePartition partition) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long count = 0;
+            for (long start = partition.getStart(); start < partition.getEnd(); start += Integer.MAX_VALUE) {
+                long size = Math.min(Integer.MAX_VALUE, partition.getEnd() - start);
+                ByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+                for (int i = 0; i < size; i++) {
+                    if (window.get(i) == '\n')
+                        count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Returns the offset following the first line terminator outside quoted fields at or after {@code position},
+     * or the file size if there is none. The fields are scanned from {@code recordStart}, which must be the start
+     * of a record, with the rules of {@link CsvTokenizer}: only a quote at the start of a field, after optional
+     * spaces, opens a quoted field, in which two quotes are an escaped quote; any other quote is a literal.
+     */
+    private static long nextRecordStart(FileChannel channel, long recordStart, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        int state = FIELD_START;
+        long offset = recordStart;
+        while (true) {
+            buffer.clear();
+            int read = channel.read(buffer, offset);
+            if (read <= 0)
+                return channel.size();
+            for (int i = 0; i < read; i++) {
+                byte b = buffer.get(i);
+                if (state == QUOTED) {
+                    if (b == '"')
+                        state = QUOTE_IN_QUOTED;
+                    continue;
+                }
+                if (state == QUOTE_IN_QUOTED && b == '"') {
+                    state = QUOTED;
+                    continue;
+                }
+                if (b == '\n') {
+                    if (offset + i >= position)
+                        return offset + i + 1;
+                    state = FIELD_START;
+                } else if (b == ',') {
+                    state = FIELD_START;
+                } else if (state == FIELD_START && b == '"') {
+                    state = QUOTED;
+                } else if (state == FIELD_START && b != ' ') {
+                    state = UNQUOTED;
+                } else if (state == QUOTE_IN_QUOTED) {
+                    state = AFTER_QUOTED;
+                }
+            }
+            offset += read;
+        }
+    }
+
+}
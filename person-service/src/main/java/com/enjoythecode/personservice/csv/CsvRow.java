@@ -0,0 +1,273 @@
+package com.enjoythecode.personservice.csv;
+
+import com.enjoythecode.personservice.exception.InvalidFileException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * A single CSV record exposed as field offsets into the underlying buffer. Fields are converted only when
+ * requested: numbers and dates are parsed straight from the bytes, strings are decoded as UTF-8.
+ * Values are trimmed unless they are quoted.
+ * <p>
+ * The row is reused by {@link CsvTokenizer}, so it is valid only until the next call of {@link CsvTokenizer#next()}.
+ */
+public final class CsvRow {
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private static final int MAX_EXACT_DIGITS = 15;
+
+    private ByteBuffer buffer;
+
+    private int[] starts = new int[16];
+
+    private int[] ends = new int[16];
+
+    private boolean[] quoted = new boolean[16];
+
+    private boolean[] escaped = new boolean[16];
+
+    private int fieldCount;
+
+    private long offset;
+
+    private long lineNumber;
+
+    private int rowStart;
+
+    private int rowEnd;
+
+    CsvRow() {
+    }
+
+    void reset(ByteBuffer buffer, int rowStart, long offset, long lineNumber) {
+        this.buffer = buffer;
+        this.rowStart = rowStart;
+        this.offset = offset;
+        this.lineNumber = lineNumber;
+        this.fieldCount = 0;
+    }
+
+    void end(int rowEnd) {
+        this.rowEnd = rowEnd;
+    }
+
+    void addField(int start, int end, boolean isQuoted, boolean isEscaped) {
+        if (fieldCount == starts.length) {
+            int capacity = fieldCount * 2;
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            quoted = Arrays.copyOf(quoted, capacity);
+            escaped = Arrays.copyOf(escaped, capacity);
+        }
+        starts[fieldCount] = start;
+        ends[fieldCount] = end;
+        quoted[fieldCount] = isQuoted;
+        escaped[fieldCount] = isEscaped;
+        fieldCount++;
+    }
+
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * @return The offset of the row in the file.
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * @return The 1-based number of the line on which the row starts.
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * @return The row exactly as it appears in the file, without the line terminator.
+     */
+    public String getRaw() {
+        int end = rowEnd;
+        while (end > rowStart && (buffer.get(end - 1) == '\n' || buffer.get(end - 1) == '\r'))
+            end--;
+        byte[] bytes = new byte[end - rowStart];
+        buffer.get(rowStart, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public boolean isBlank() {
+        return fieldCount == 1 && !quoted[0] && trimmedStart(0) == trimmedEnd(0);
+    }
+
+    public String getString(int index) {
+        checkIndex(index);
+        int start = trimmedStart(index);
+        int end = trimmedEnd(index);
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        if (!escaped[index])
+            return new String(bytes, StandardCharsets.UTF_8);
+        int length = 0;
+        for (int i = 0; i < bytes.length; i++, length++) {
+            bytes[length] = bytes[i];
+            if (bytes[i] == '"')
+                i++;
+        }
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    public int getInt(int index) {
+        checkIndex(index);
+        int start = trimmedStart(index);
+        int end = trimmedEnd(index);
+        boolean signed = start < end && (buffer.get(start) == '-' || buffer.get(start) == '+');
+        boolean negative = signed && buffer.get(start) == '-';
+        int position = signed ? start + 1 : start;
+        if (position == end)
+            throw numberFormatException(index);
+        long value = 0;
+        for (; position < end; position++) {
+            int digit = buffer.get(position) - '0';
+            if (digit < 0 || digit > 9)
+                throw numberFormatException(index);
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1)
+                throw numberFormatException(index);
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE)
+            throw numberFormatException(index);
+        return (int) value;
+    }
+
+    /**
+     * Parses plain decimal numbers with up to 15 significant digits directly from the bytes; other notations
+     * (exponents, longer mantissas) fall back to {@link Double#parseDouble(String)}.
+     */
+    public double getDouble(int index) {
+        checkIndex(index);
+        int start = trimmedStart(index);
+        int end = trimmedEnd(index);
+        int position = start;
+        boolean negative = false;
+        if (position < end && (buffer.get(position) == '-' || buffer.get(position) == '+'))
+            negative = buffer.get(position++) == '-';
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean fraction = false;
+        for (; position < end; position++) {
+            byte b = buffer.get(position);
+            if (b == '.' && !fraction) {
+                fraction = true;
+            } else if (b >= '0' && b <= '9' && digits < MAX_EXACT_DIGITS && fractionDigits < POWERS_OF_TEN.length - 1) {
+                mantissa = mantissa * 10 + (b - '0');
+                if (mantissa > 0)
+                    digits++;
+                if (fraction)
+                    fractionDigits++;
+            } else {
+                return parseDoubleSlowly(index);
+            }
+        }
+        if (!hasDigit(start, end))
+            throw numberFormatException(index);
+        double value = mantissa / POWERS_OF_TEN[fractionDigits];
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses ISO dates (yyyy-MM-dd) directly from the bytes; other formats fall back to {@link LocalDate#parse}.
+     */
+    public LocalDate getLocalDate(int index) {
+        checkIndex(index);
+        int start = trimmedStart(index);
+        int end = trimmedEnd(index);
+        if (end - start == 10 && buffer.get(start + 4) == '-' && buffer.get(start + 7) == '-') {
+            int year = digits(start, start + 4);
+            int month = digits(start + 5, start + 7);
+            int day = digits(start + 8, start + 10);
+            if (year >= 0 && month >= 0 && day >= 0)
+                return LocalDate.of(year, month, day);
+        }
+        return LocalDate.parse(getString(index));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < fieldCount; i++) {
+            if (i > 0)
+                builder.append(',');
+            builder.append(getString(i));
+        }
+        return builder.toString();
+    }
+
+    private int digits(int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9)
+                return -1;
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private boolean hasDigit(int start, int end) {
+        for (int i = start; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b >= '0' && b <= '9')
+                return true;
+        }
+        return false;
+    }
+
+    private double parseDoubleSlowly(int index) {
+        try {
+            return Double.parseDouble(getString(index));
+        } catch (NumberFormatException e) {
+            throw numberFormatException(index);
+        }
+    }
+
+    private int trimmedStart(int index) {
+        int start = starts[index];
+        if (quoted[index])
+            return start;
+        int end = ends[index];
+        while (start < end && (buffer.get(start) & 0xff) <= ' ')
+            start++;
+        return start;
+    }
+
+    private int trimmedEnd(int index) {
+        int end = ends[index];
+        if (quoted[index])
+            return end;
+        int start = trimmedStart(index);
+        while (end > start && (buffer.get(end - 1) & 0xff) <= ' ')
+            end--;
+        return end;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= fieldCount)
+            throw new InvalidFileException("Row in line " + lineNumber + " has " + fieldCount
+                    + " fields; field " + (index + 1) + " is missing");
+    }
+
+    private NumberFormatException numberFormatException(int index) {
+        return new NumberFormatException("For input string: \"" + getString(index) + "\"");
+    }
+
+}
@@ -0,0 +1,195 @@
+package com.enjoythecode.personservice.csv;
+
+import com.enjoythecode.personservice.exception.InvalidFileException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Splits CSV data into rows and fields (RFC 4180: comma separated, optionally double-quoted fields with
+ * doubled quotes as escapes, line breaks allowed inside quotes, LF or CRLF row terminators).
+ * <p>
+ * File partitions are memory-mapped in windows of at most 2 GB; a row crossing the end of a window
+ * is re-read from a window mapped at the start of the row. Blank lines are skipped.
+ */
+public final class CsvTokenizer implements AutoCloseable {
+
+    static final long MAX_WINDOW_SIZE = Integer.MAX_VALUE;
+
+    private static final int INCOMPLETE = -1;
+
+    private final FileChannel channel;
+
+    private final long end;
+
+    private final long windowSize;
+
+    private final CsvRow row = new CsvRow();
+
+    private ByteBuffer window;
+
+    private long windowStart;
+
+    private int position;
+
+    private long lineNumber;
+
+    private int rowLineFeeds;
+
+    private CsvTokenizer(FileChannel channel, long start, long end, long firstLine, long windowSize)
+            throws IOException {
+        this.channel = channel;
+        this.end = end;
+        this.windowSize = windowSize;
+        this.lineNumber = firstLine;
+        map(start);
+    }
+
+    private CsvTokenizer(ByteBuffer buffer) {
+        this.channel = null;
+        this.end = buffer.limit();
+        this.windowSize = buffer.limit();
+        this.window = buffer;
+        this.lineNumber = 1;
+    }
+
+    /**
+     * Opens a tokenizer over a partition of the file.
+     *
+     * @param firstLine The number of the line at which the partition starts.
+     */
+    public static CsvTokenizer open(Path file, FilePartition partition, long firstLine) throws IOException {
+        return open(file, partition, firstLine, MAX_WINDOW_SIZE);
+    }
+
+    static CsvTokenizer open(Path file, FilePartition partition, long firstLine, long windowSize) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            return new CsvTokenizer(channel, partition.getStart(), partition.getEnd(), firstLine, windowSize);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a tokenizer over the remaining content of the buffer.
+     */
+    public static CsvTokenizer forBuffer(ByteBuffer buffer) {
+        return new CsvTokenizer(buffer.slice());
+    }
+
+    /**
+     * @return The next non-blank row, or null at the end of the data. The returned row is reused by the next call.
+     */
+    public CsvRow next() throws IOException {
+        while (windowStart + position < end) {
+            boolean lastWindow = windowStart + window.limit() >= end;
+            row.reset(window, position, windowStart + position, lineNumber);
+            int next = tokenize(position, lastWindow);
+            if (next == INCOMPLETE) {
+                if (position == 0)
+                    throw new InvalidFileException("Row at offset " + windowStart + " is larger than "
+                            + windowSize + " bytes");
+                map(windowStart + position);
+                continue;
+            }
+            row.end(next);
+            position = next;
+            lineNumber += rowLineFeeds;
+            if (!row.isBlank())
+                return row;
+        }
+        return null;
+    }
+
+    /**
+     * @return The offset following the last returned row, i.e. where reading would continue.
+     */
+    public long getOffset() {
+        return windowStart + position;
+    }
+
+    /**
+     * @return The number of the line following the last returned row.
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null)
+            channel.close();
+    }
+
+    private void map(long start) throws IOException {
+        windowStart = start;
+        position = 0;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(windowSize, end - start));
+    }
+
+    /**
+     * Reads the fields of the row starting at {@code from} into {@link #row}.
+     *
+     * @return The position after the row terminator, or {@link #INCOMPLETE} if the row does not end
+     * within the window and further data is available.
+     */
+    private int tokenize(int from, boolean lastWindow) {
+        int limit = window.limit();
+        int i = from;
+        rowLineFeeds = 0;
+        while (true) {
+            int j = i;
+            while (j < limit && window.get(j) == ' ')
+                j++;
+            if (j < limit && window.get(j) == '"') {
+                int contentStart = ++j;
+                boolean escaped = false;
+                while (true) {
+                    if (j >= limit) {
+                        if (lastWindow)
+                            throw new InvalidFileException("Unterminated quoted field in line " + lineNumber);
+                        return INCOMPLETE;
+                    }
+                    if (window.get(j) == '"') {
+                        if (j + 1 < limit && window.get(j + 1) == '"') {
+                            escaped = true;
+                            j += 2;
+                            continue;
+                        }
+                        if (j + 1 >= limit && !lastWindow)
+                            return INCOMPLETE;
+                        break;
+                    }
+                    if (window.get(j) == '\n')
+                        rowLineFeeds++;
+                    j++;
+                }
+                row.addField(contentStart, j, true, escaped);
+                j++;
+                while (j < limit && (window.get(j) == ' ' || window.get(j) == '\t' || window.get(j) == '\r'))
+                    j++;
+                if (j < limit && window.get(j) != ',' && window.get(j) != '\n')
+                    throw new InvalidFileException("Unexpected character after quoted field in line "
+                            + (lineNumber + rowLineFeeds));
+            } else {
+                j = i;
+                while (j < limit && window.get(j) != ',' && window.get(j) != '\n')
+                    j++;
+                row.addField(i, j, false, false);
+            }
+            if (j >= limit)
+                return lastWindow ? limit : INCOMPLETE;
+            if (window.get(j) == '\n') {
+                rowLineFeeds++;
+                return j + 1;
+            }
+            i = j + 1;
+        }
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.enjoythecode.personservice.csv;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Byte range [start, end) of a file that begins at the start of a line and ends after a line terminator
+ * (or at the end of the file).
+ */
+@Getter
+@AllArgsConstructor
+public class FilePartition {
+
+    private final int index;
+
+    private final long start;
+
+    private final long end;
+
+    public long getLength() {
+        return end - start;
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.enjoythecode.personservice.csv;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A row that could not be imported, with the reason of the rejection.
+ */
+@Getter
+@AllArgsConstructor
+public class RejectedRow {
+
+    private final long lineNumber;
+
+    private final String reason;
+
+    private final String row;
+
+}
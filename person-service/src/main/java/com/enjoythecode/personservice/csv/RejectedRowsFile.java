@@ -0,0 +1,63 @@
+package com.enjoythecode.personservice.csv;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+
+/**
+ * CSV file (line,reason,row) collecting the rejected rows of an import job. Rows are appended in batches,
+ * so callers only hold the rejects of their current chunk in memory.
+ */
+public final class RejectedRowsFile {
+
+    public static final String HEADER = "line,reason,row";
+
+    private final Path file;
+
+    private long count;
+
+    /**
+     * Opens the file, creating it with the header if it does not exist yet.
+     *
+     * @param initialCount The number of rows already stored in an existing file.
+     */
+    public RejectedRowsFile(Path file, long initialCount) throws IOException {
+        this.file = file;
+        this.count = initialCount;
+        if (Files.notExists(file))
+            Files.writeString(file, HEADER + "\n", StandardCharsets.UTF_8);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized void append(Collection<RejectedRow> rejectedRows) throws IOException {
+        if (rejectedRows.isEmpty())
+            return;
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.APPEND)) {
+            for (RejectedRow rejectedRow : rejectedRows) {
+                writer.write(Long.toString(rejectedRow.getLineNumber()));
+                writer.write(',');
+                writer.write(quote(rejectedRow.getReason()));
+                writer.write(',');
+                writer.write(quote(rejectedRow.getRow()));
+                writer.write('\n');
+            }
+        }
+        count += rejectedRows.size();
+    }
+
+    private static String quote(String value) {
+        return value == null ? "" : "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+}
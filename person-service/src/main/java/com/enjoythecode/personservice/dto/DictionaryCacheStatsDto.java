@@ -0,0 +1,28 @@
+package com.enjoythecode.personservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DictionaryCacheStatsDto {
+
+    private String cache;
+
+    private long size;
+
+    private long hits;
+
+    private long misses;
+
+    private double hitRate;
+
+    private long evictions;
+
+    private long staleHits;
+
+}
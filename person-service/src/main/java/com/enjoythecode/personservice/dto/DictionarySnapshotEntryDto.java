@@ -0,0 +1,22 @@
+package com.enjoythecode.personservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DictionarySnapshotEntryDto {
+
+    private Long id;
+
+    private String name;
+
+    private Map<Long, String> values;
+
+}
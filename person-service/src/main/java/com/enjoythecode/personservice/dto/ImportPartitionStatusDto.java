@@ -0,0 +1,22 @@
+package com.enjoythecode.personservice.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+public class ImportPartitionStatusDto {
+
+    private int partition;
+
+    private long bytes;
+
+    private long processedRows;
+
+    private long durationMillis;
+
+    private double rowsPerSecond;
+
+}
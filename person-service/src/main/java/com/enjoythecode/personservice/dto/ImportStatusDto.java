@@ -6,14 +6,24 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @Setter
 @Builder
 public class ImportStatusDto {
 
+    private String jobId;
+
+    private String fileName;
+
     private String status;
 
+    private boolean tolerant;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime submitTime;
+
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime startTime;
 
@@ -22,4 +32,14 @@ public class ImportStatusDto {
 
     private long processedRows;
 
+    private long rejectedRows;
+
+    private String errorMessage;
+
+    private boolean resumable;
+
+    private List<UnknownDictionaryValueDto> unknownDictionaryValues;
+
+    private List<ImportPartitionStatusDto> partitions;
+
 }
@@ -0,0 +1,16 @@
+package com.enjoythecode.personservice.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+public class UnknownDictionaryValueDto {
+
+    private Long dictionaryId;
+
+    private String name;
+
+}
@@ -1,9 +1,27 @@
 package com.enjoythecode.personservice.exception;
 
+import lombok.Getter;
+
+@Getter
 public class DictionaryValueNotFoundException extends RuntimeException {
 
+    /**
+     * The dictionary searched by name and the name not found in it; both null when a value was looked up by ID.
+     */
+    private final Long dictionaryId;
+
+    private final String name;
+
     public DictionaryValueNotFoundException(String message) {
         super(message);
+        this.dictionaryId = null;
+        this.name = null;
+    }
+
+    public DictionaryValueNotFoundException(Long dictionaryId, String name) {
+        super("Dictionary value '" + name + "' not found in the dictionary with id " + dictionaryId);
+        this.dictionaryId = dictionaryId;
+        this.name = name;
     }
 
 }
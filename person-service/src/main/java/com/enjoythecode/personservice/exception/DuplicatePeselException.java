@@ -0,0 +1,9 @@
+package com.enjoythecode.personservice.exception;
+
+public class DuplicatePeselException extends RuntimeException {
+
+    public DuplicatePeselException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.enjoythecode.personservice.exception;
+
+public class ImportJobNotFoundException extends RuntimeException {
+
+    public ImportJobNotFoundException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.enjoythecode.personservice.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+}
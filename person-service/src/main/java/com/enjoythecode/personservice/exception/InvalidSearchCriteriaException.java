@@ -0,0 +1,9 @@
+package com.enjoythecode.personservice.exception;
+
+public class InvalidSearchCriteriaException extends RuntimeException {
+
+    public InvalidSearchCriteriaException(String message) {
+        super(message);
+    }
+
+}
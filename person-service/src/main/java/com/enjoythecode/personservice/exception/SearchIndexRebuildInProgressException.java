@@ -0,0 +1,9 @@
+package com.enjoythecode.personservice.exception;
+
+public class SearchIndexRebuildInProgressException extends RuntimeException {
+
+    public SearchIndexRebuildInProgressException(String message) {
+        super(message);
+    }
+
+}
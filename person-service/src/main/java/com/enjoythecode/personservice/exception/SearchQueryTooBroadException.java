@@ -0,0 +1,9 @@
+package com.enjoythecode.personservice.exception;
+
+public class SearchQueryTooBroadException extends RuntimeException {
+
+    public SearchQueryTooBroadException(String message) {
+        super(message);
+    }
+
+}
@@ -18,7 +18,7 @@ import java.util.stream.Collectors;
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
-    @ExceptionHandler(UpdateOptimisticLockingException.class)
+    @ExceptionHandler({UpdateOptimisticLockingException.class, SearchIndexRebuildInProgressException.class})
     public ResponseEntity<ExceptionResponseBody> handleUpdateOptimisticLockingException(RuntimeException e) {
         ExceptionResponseBody body = new ExceptionResponseBody(
                 List.of(e.getMessage()),
@@ -53,7 +53,8 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
     }
 
-    @ExceptionHandler({InvalidEntityException.class, InvalidIdException.class, InvalidTypeException.class})
+    @ExceptionHandler({InvalidEntityException.class, InvalidIdException.class, InvalidTypeException.class,
+            InvalidCursorException.class, SearchQueryTooBroadException.class, InvalidSearchCriteriaException.class})
     public ResponseEntity<ExceptionResponseBody> handleEntityException(RuntimeException e) {
         ExceptionResponseBody body = new ExceptionResponseBody(
                 List.of(e.getMessage()),
@@ -73,7 +74,8 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
     }
 
-    @ExceptionHandler({EntityNotFoundException.class, PersonNotFoundException.class, DictionaryValueNotFoundException.class})
+    @ExceptionHandler({EntityNotFoundException.class, PersonNotFoundException.class, DictionaryValueNotFoundException.class,
+            ImportJobNotFoundException.class})
     public ResponseEntity<ExceptionResponseBody> handleNotFoundException(RuntimeException e) {
         ExceptionResponseBody body = new ExceptionResponseBody(
                 List.of(e.getMessage()),
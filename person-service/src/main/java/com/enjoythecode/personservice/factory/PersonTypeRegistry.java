@@ -0,0 +1,118 @@
+package com.enjoythecode.personservice.factory;
+
+import com.enjoythecode.personservice.api.DictionaryServiceClient;
+import com.enjoythecode.personservice.api.DictionarySnapshotLoadedEvent;
+import com.enjoythecode.personservice.dto.DictionaryValueSimpleDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Local copy of the 'type' dictionary (ID 1), translating person type IDs to type names and back, so that
+ * the factories pick their type-specific strategy without calling 'dictionary-service'. The types are loaded
+ * when the application starts, again whenever a new dictionary snapshot is loaded from the change feed,
+ * and after a new type is added through this service.
+ * <p>
+ * A type not found locally, e.g. because it was added by another service while the change feed was not
+ * followed, is looked up in 'dictionary-service'; such a lookup fails the same way it did before the registry
+ * existed when the type does not exist.
+ */
+@Slf4j
+@Component
+public class PersonTypeRegistry {
+
+    public static final long TYPE_DICTIONARY_ID = 1L;
+
+    private final DictionaryServiceClient dictionaryServiceClient;
+
+    private volatile PersonTypes types = new PersonTypes(List.of());
+
+    private volatile boolean loaded;
+
+    public PersonTypeRegistry(DictionaryServiceClient dictionaryServiceClient) {
+        this.dictionaryServiceClient = dictionaryServiceClient;
+    }
+
+    /**
+     * Returns the type with the given name, ignoring case.
+     */
+    public PersonType getByName(String name) {
+        PersonType type = types.byName().get(name.toLowerCase());
+        if (type == null && refreshIfNotLoaded())
+            type = types.byName().get(name.toLowerCase());
+        if (type != null)
+            return type;
+        return toPersonType(dictionaryServiceClient.getDictionaryValueByDictionaryIdAndName(
+                TYPE_DICTIONARY_ID, name.toLowerCase()));
+    }
+
+    public PersonType getById(Long id) {
+        PersonType type = types.byId().get(id);
+        if (type == null && refreshIfNotLoaded())
+            type = types.byId().get(id);
+        if (type != null)
+            return type;
+        return toPersonType(dictionaryServiceClient.getDictionaryValueById(id));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Loading person types failed, they will be loaded on first use: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reloads all types from the 'type' dictionary.
+     */
+    public void refresh() {
+        types = new PersonTypes(dictionaryServiceClient.getValuesByDictionaryId(TYPE_DICTIONARY_ID).stream()
+                .map(PersonTypeRegistry::toPersonType)
+                .toList());
+        loaded = true;
+    }
+
+    @EventListener
+    public void onSnapshotLoaded(DictionarySnapshotLoadedEvent event) {
+        event.snapshot().getDictionaries().stream()
+                .filter(dictionary -> Objects.equals(dictionary.getId(), TYPE_DICTIONARY_ID))
+                .findFirst()
+                .ifPresent(dictionary -> {
+                    types = new PersonTypes(dictionary.getValues().entrySet().stream()
+                            .map(entry -> new PersonType(entry.getKey(), entry.getValue()))
+                            .toList());
+                    loaded = true;
+                });
+    }
+
+    private boolean refreshIfNotLoaded() {
+        if (loaded)
+            return false;
+        load();
+        return loaded;
+    }
+
+    private static PersonType toPersonType(DictionaryValueSimpleDto value) {
+        return new PersonType(value.getId(), value.getName());
+    }
+
+    public record PersonType(Long id, String name) {
+    }
+
+    private record PersonTypes(Map<Long, PersonType> byId, Map<String, PersonType> byName) {
+
+        private PersonTypes(Collection<PersonType> types) {
+            this(types.stream().collect(Collectors.toUnmodifiableMap(PersonType::id, type -> type)),
+                    types.stream().collect(Collectors.toUnmodifiableMap(type -> type.name().toLowerCase(),
+                            type -> type, (first, second) -> first)));
+        }
+
+    }
+
+}
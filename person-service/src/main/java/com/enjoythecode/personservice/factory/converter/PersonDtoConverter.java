@@ -3,10 +3,16 @@ package com.enjoythecode.personservice.factory.converter;
 import com.enjoythecode.personservice.dto.PersonDto;
 import com.enjoythecode.personservice.model.Person;
 
+import java.util.Map;
+
 public interface PersonDtoConverter {
 
     String getType();
 
-    PersonDto convert(Person person);
+    /**
+     * Converts the person, taking the names of referenced dictionary values from the given map of value ID
+     * to value name, which {@link PersonDtoConverterFactory} fills for all people converted together.
+     */
+    PersonDto convert(Person person, Map<Long, String> dictionaryValueNames);
 
 }
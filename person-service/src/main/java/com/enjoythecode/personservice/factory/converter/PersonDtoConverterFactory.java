@@ -1,13 +1,15 @@
 package com.enjoythecode.personservice.factory.converter;
 
 import lombok.Getter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.stereotype.Service;
 import com.enjoythecode.personservice.api.DictionaryServiceClient;
 import com.enjoythecode.personservice.dto.PersonDto;
+import com.enjoythecode.personservice.factory.PersonTypeRegistry;
 import com.enjoythecode.personservice.model.Person;
 
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -19,15 +21,57 @@ public class PersonDtoConverterFactory {
 
     private final DictionaryServiceClient dictionaryServiceClient;
 
-    public PersonDtoConverterFactory(Set<PersonDtoConverter> converters, DictionaryServiceClient dictionaryServiceClient) {
+    private final PersonTypeRegistry personTypeRegistry;
+
+    public PersonDtoConverterFactory(Set<PersonDtoConverter> converters, DictionaryServiceClient dictionaryServiceClient,
+                                     PersonTypeRegistry personTypeRegistry) {
         this.converters = converters.stream()
                 .collect(Collectors.toMap(PersonDtoConverter::getType, Function.identity()));
         this.dictionaryServiceClient = dictionaryServiceClient;
+        this.personTypeRegistry = personTypeRegistry;
     }
 
     public PersonDto convert(Person person) {
-        return converters.get(dictionaryServiceClient.getDictionaryValueById(person.getTypeId()).getName())
-                .convert(person);
+        return convertAll(List.of(person)).get(0);
+    }
+
+    /**
+     * Converts a page of people, keeping the paging information of the given page.
+     */
+    public Page<PersonDto> convertPage(Page<? extends Person> people) {
+        return new PageImpl<>(convertAll(people.getContent()), people.getPageable(), people.getTotalElements());
+    }
+
+    /**
+     * Converts several people. The dictionary values referenced by all of them are resolved first, with one
+     * bulk call for the values that are not cached, and every person is then converted against the resolved names
+     * without further calls to 'dictionary-service'.
+     */
+    public List<PersonDto> convertAll(Collection<? extends Person> people) {
+        Map<Long, String> dictionaryValueNames = resolveDictionaryValueNames(people);
+        return people.stream()
+                .map(person -> converters.get(personTypeRegistry.getById(person.getTypeId()).name())
+                        .convert(person, dictionaryValueNames))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Values left out of the bulk response are looked up one by one, so that a value which does not exist
+     * is reported the same way as by a single lookup.
+     */
+    private Map<Long, String> resolveDictionaryValueNames(Collection<? extends Person> people) {
+        Set<Long> dictionaryValueIds = new HashSet<>();
+        people.forEach(person -> person.collectDictionaryValueIds(dictionaryValueIds));
+        if (dictionaryValueIds.isEmpty())
+            return Map.of();
+        Map<Long, String> dictionaryValueNames = new HashMap<>();
+        dictionaryServiceClient.getDictionaryValuesByIds(dictionaryValueIds)
+                .forEach(value -> dictionaryValueNames.put(value.getId(), value.getName()));
+        dictionaryValueIds.stream()
+                .filter(id -> !dictionaryValueNames.containsKey(id))
+                .toList()
+                .forEach(id -> dictionaryValueNames.put(id, dictionaryServiceClient.getDictionaryValueById(id).getName()));
+        return dictionaryValueNames;
     }
 
 }
@@ -3,12 +3,13 @@ package com.enjoythecode.personservice.factory.converter;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
-import com.enjoythecode.personservice.api.DictionaryServiceClient;
 import com.enjoythecode.personservice.dto.PersonDto;
 import com.enjoythecode.personservice.dto.RetireeDto;
 import com.enjoythecode.personservice.model.Person;
 import com.enjoythecode.personservice.model.Retiree;
 
+import java.util.Map;
+
 
 @Service
 @RequiredArgsConstructor
@@ -16,20 +17,17 @@ public class RetireeDtoConverter implements PersonDtoConverter {
 
     private final ModelMapper modelMapper;
 
-    private final DictionaryServiceClient dictionaryServiceClient;
-
     @Override
     public String getType() {
         return "retiree";
     }
 
     @Override
-    public PersonDto convert(Person person) {
+    public PersonDto convert(Person person, Map<Long, String> dictionaryValueNames) {
         RetireeDto retireeDto = new RetireeDto();
         Retiree retiree = modelMapper.map(person, Retiree.class);
         retireeDto.setId(retiree.getId());
-        retireeDto.setType(dictionaryServiceClient
-                .getDictionaryValueById(retiree.getTypeId()).getName());
+        retireeDto.setType(dictionaryValueNames.get(retiree.getTypeId()));
         retireeDto.setFirstName(retiree.getFirstName());
         retireeDto.setLastName(retiree.getLastName());
         retireeDto.setEmail(retiree.getEmail());
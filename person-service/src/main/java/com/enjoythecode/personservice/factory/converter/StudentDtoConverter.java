@@ -3,41 +3,37 @@ package com.enjoythecode.personservice.factory.converter;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
-import com.enjoythecode.personservice.api.DictionaryServiceClient;
 import com.enjoythecode.personservice.dto.PersonDto;
 import com.enjoythecode.personservice.dto.StudentDto;
 import com.enjoythecode.personservice.model.Person;
 import com.enjoythecode.personservice.model.Student;
 
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class StudentDtoConverter implements PersonDtoConverter {
 
     private final ModelMapper modelMapper;
 
-    private final DictionaryServiceClient dictionaryServiceClient;
-
     @Override
     public String getType() {
         return "student";
     }
 
     @Override
-    public PersonDto convert(Person person) {
+    public PersonDto convert(Person person, Map<Long, String> dictionaryValueNames) {
         StudentDto studentDto = new StudentDto();
         Student student = modelMapper.map(person, Student.class);
         studentDto.setId(student.getId());
-        studentDto.setType(dictionaryServiceClient
-                .getDictionaryValueById(student.getTypeId()).getName());
+        studentDto.setType(dictionaryValueNames.get(student.getTypeId()));
         studentDto.setFirstName(student.getFirstName());
         studentDto.setLastName(student.getLastName());
         studentDto.setEmail(student.getEmail());
         studentDto.setVersion(student.getVersion());
-        studentDto.setUniversityName(dictionaryServiceClient
-                .getDictionaryValueById(student.getUniversityNameId()).getName());
+        studentDto.setUniversityName(dictionaryValueNames.get(student.getUniversityNameId()));
         studentDto.setEnrollmentYear(student.getEnrollmentYear());
-        studentDto.setFieldOfStudy(dictionaryServiceClient
-                .getDictionaryValueById(student.getFieldOfStudyId()).getName());
+        studentDto.setFieldOfStudy(dictionaryValueNames.get(student.getFieldOfStudyId()));
         studentDto.setScholarship(student.getScholarship());
         return studentDto;
     }
@@ -23,11 +23,10 @@ public class EmployeeCreator implements PersonCreator {
     }
 
     @Override
-    public Person createPerson(CreatePersonCommand createPersonCommand) {
+    public Person createPerson(CreatePersonCommand createPersonCommand, Long typeId) {
         CreateEmployeeCommand employeeCommand = modelMapper.map(createPersonCommand, CreateEmployeeCommand.class);
         return new Employee(
-                dictionaryServiceClient
-                        .getDictionaryValueByDictionaryIdAndName(1L, createPersonCommand.getType()).getId(),
+                typeId,
                 employeeCommand.getFirstName(),
                 employeeCommand.getLastName(),
                 employeeCommand.getPesel(),
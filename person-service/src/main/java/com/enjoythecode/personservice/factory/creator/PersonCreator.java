@@ -7,6 +7,10 @@ public interface PersonCreator {
 
     String getType();
 
-    Person createPerson(CreatePersonCommand createCommand);
+    /**
+     * Creates the person described by the command. The type ID is the ID of the command's type in the 'type'
+     * dictionary, already resolved by {@link PersonFactory}.
+     */
+    Person createPerson(CreatePersonCommand createCommand, Long typeId);
 
 }
@@ -2,8 +2,9 @@ package com.enjoythecode.personservice.factory.creator;
 
 import lombok.Getter;
 import org.springframework.stereotype.Service;
-import com.enjoythecode.personservice.api.DictionaryServiceClient;
 import com.enjoythecode.personservice.command.CreatePersonCommand;
+import com.enjoythecode.personservice.factory.PersonTypeRegistry;
+import com.enjoythecode.personservice.factory.PersonTypeRegistry.PersonType;
 import com.enjoythecode.personservice.model.Person;
 
 import java.util.Map;
@@ -17,18 +18,17 @@ public class PersonFactory {
 
     private final Map<String, PersonCreator> creators;
 
-    private final DictionaryServiceClient dictionaryServiceClient;
+    private final PersonTypeRegistry personTypeRegistry;
 
-    public PersonFactory(Set<PersonCreator> creators, DictionaryServiceClient dictionaryServiceClient) {
+    public PersonFactory(Set<PersonCreator> creators, PersonTypeRegistry personTypeRegistry) {
         this.creators = creators.stream()
                 .collect(Collectors.toMap(PersonCreator::getType, Function.identity()));
-        this.dictionaryServiceClient = dictionaryServiceClient;
+        this.personTypeRegistry = personTypeRegistry;
     }
 
     public Person create(CreatePersonCommand command) {
-        return creators.get(dictionaryServiceClient.getDictionaryValueByDictionaryIdAndName(
-                1L, command.getType().toLowerCase()).getName())
-                .createPerson(command);
+        PersonType type = personTypeRegistry.getByName(command.getType());
+        return creators.get(type.name()).createPerson(command, type.id());
     }
 
 }
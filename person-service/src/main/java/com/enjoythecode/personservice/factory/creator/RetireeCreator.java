@@ -3,7 +3,6 @@ package com.enjoythecode.personservice.factory.creator;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
-import com.enjoythecode.personservice.api.DictionaryServiceClient;
 import com.enjoythecode.personservice.command.CreatePersonCommand;
 import com.enjoythecode.personservice.command.CreateRetireeCommand;
 import com.enjoythecode.personservice.model.Person;
@@ -13,8 +12,6 @@ import com.enjoythecode.personservice.model.Retiree;
 @RequiredArgsConstructor
 public class RetireeCreator implements PersonCreator {
 
-    private final DictionaryServiceClient dictionaryServiceClient;
-
     private final ModelMapper modelMapper;
 
     @Override
@@ -23,11 +20,10 @@ public class RetireeCreator implements PersonCreator {
     }
 
     @Override
-    public Person createPerson(CreatePersonCommand createPersonCommand) {
+    public Person createPerson(CreatePersonCommand createPersonCommand, Long typeId) {
         CreateRetireeCommand retireeCommand = modelMapper.map(createPersonCommand, CreateRetireeCommand.class);
         return new Retiree(
-                dictionaryServiceClient
-                        .getDictionaryValueByDictionaryIdAndName(1L, createPersonCommand.getType()).getId(),
+                typeId,
                 retireeCommand.getFirstName(),
                 retireeCommand.getLastName(),
                 retireeCommand.getPesel(),
@@ -1,19 +1,22 @@
 package com.enjoythecode.personservice.factory.creator;
 
-import com.enjoythecode.personservice.api.DictionaryServiceClient;
+import com.enjoythecode.personservice.api.AsyncDictionaryServiceClient;
 import com.enjoythecode.personservice.command.CreatePersonCommand;
 import com.enjoythecode.personservice.command.CreateStudentCommand;
+import com.enjoythecode.personservice.dto.DictionaryValueSimpleDto;
 import com.enjoythecode.personservice.model.Person;
 import com.enjoythecode.personservice.model.Student;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @RequiredArgsConstructor
 public class StudentCreator implements PersonCreator {
 
-    private final DictionaryServiceClient dictionaryServiceClient;
+    private final AsyncDictionaryServiceClient asyncDictionaryServiceClient;
 
     private final ModelMapper modelMapper;
 
@@ -22,23 +25,30 @@ public class StudentCreator implements PersonCreator {
         return "student";
     }
 
+    /**
+     * Looks up the university name and the field of study in parallel.
+     */
     @Override
-    public Person createPerson(CreatePersonCommand createPersonCommand) {
+    public Person createPerson(CreatePersonCommand createPersonCommand, Long typeId) {
         CreateStudentCommand studentCommand = modelMapper.map(createPersonCommand, CreateStudentCommand.class);
-        return new Student(
-                dictionaryServiceClient
-                        .getDictionaryValueByDictionaryIdAndName(1L, createPersonCommand.getType()).getId(),
-                studentCommand.getFirstName(),
-                studentCommand.getLastName(),
-                studentCommand.getPesel(),
-                studentCommand.getHeight(),
-                studentCommand.getWeight(),
-                studentCommand.getEmail(),
-                dictionaryServiceClient.getDictionaryValueById(studentCommand.getUniversityNameId()).getId(),
-                studentCommand.getEnrollmentYear(),
-                dictionaryServiceClient.getDictionaryValueById(studentCommand.getFieldOfStudyId()).getId(),
-                studentCommand.getScholarship()
-        );
+        CompletableFuture<DictionaryValueSimpleDto> universityName =
+                asyncDictionaryServiceClient.getDictionaryValueById(studentCommand.getUniversityNameId());
+        CompletableFuture<DictionaryValueSimpleDto> fieldOfStudy =
+                asyncDictionaryServiceClient.getDictionaryValueById(studentCommand.getFieldOfStudyId());
+        return AsyncDictionaryServiceClient.join(universityName.thenCombine(fieldOfStudy,
+                (university, field) -> new Student(
+                        typeId,
+                        studentCommand.getFirstName(),
+                        studentCommand.getLastName(),
+                        studentCommand.getPesel(),
+                        studentCommand.getHeight(),
+                        studentCommand.getWeight(),
+                        studentCommand.getEmail(),
+                        university.getId(),
+                        studentCommand.getEnrollmentYear(),
+                        field.getId(),
+                        studentCommand.getScholarship()
+                )));
     }
 
 }
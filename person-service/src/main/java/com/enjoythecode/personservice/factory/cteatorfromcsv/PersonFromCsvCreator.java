@@ -1,11 +1,13 @@
 package com.enjoythecode.personservice.factory.cteatorfromcsv;
 
+import com.enjoythecode.personservice.csv.CsvRow;
+import com.enjoythecode.personservice.model.DictionarySnapshot;
 import com.enjoythecode.personservice.model.Person;
 
 public interface PersonFromCsvCreator {
 
     String getType();
 
-    Person createPerson(String[] parameters);
+    Person createPerson(CsvRow row, DictionarySnapshot dictionarySnapshot);
 
 }
@@ -3,9 +3,12 @@ package com.enjoythecode.personservice.factory.cteatorfromcsv;
 import lombok.Getter;
 import org.springframework.stereotype.Service;
 import com.enjoythecode.personservice.command.CreatePersonFromCsvCommand;
+import com.enjoythecode.personservice.exception.InvalidTypeException;
+import com.enjoythecode.personservice.model.DictionarySnapshot;
 import com.enjoythecode.personservice.model.Person;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -21,9 +24,10 @@ public class PersonFromCsvFactory {
                 .collect(Collectors.toMap(PersonFromCsvCreator::getType, Function.identity()));
     }
 
-    public Person create(CreatePersonFromCsvCommand command) {
-        return creators.get(command.getPersonType().toLowerCase())
-                .createPerson(command.getParameters());
+    public Person create(CreatePersonFromCsvCommand command, DictionarySnapshot dictionarySnapshot) {
+        return Optional.ofNullable(creators.get(command.getPersonType().toLowerCase()))
+                .orElseThrow(() -> new InvalidTypeException("Unknown person type '" + command.getPersonType() + "'"))
+                .createPerson(command.getRow(), dictionarySnapshot);
     }
 
 }
@@ -1,20 +1,27 @@
 package com.enjoythecode.personservice.factory.specification;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
-import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import com.enjoythecode.personservice.exception.InvalidSearchCriteriaException;
 import com.enjoythecode.personservice.model.Person;
+import com.enjoythecode.personservice.model.Sex;
+import com.enjoythecode.personservice.repository.PersonSearchIndex;
 
+import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.function.Function;
 
 @Service
+@RequiredArgsConstructor
 public class GeneralPersonSpecification implements SearchSpecification<Person> {
 
+    private final PersonSearchIndex personSearchIndex;
+
     @Override
     public String getType() {
         return "general";
@@ -28,9 +35,15 @@ public class GeneralPersonSpecification implements SearchSpecification<Person> {
                 if (value != null && !value.isEmpty()) {
                     switch (key) {
                         case "typeId" -> addDictionaryValueCriteria(predicates, criteriaBuilder, root, key, value);
-                        case "firstName", "lastName", "email", "pesel" -> addStringCriteria(predicates, criteriaBuilder, root, key, value);
+                        case "firstName", "lastName", "email" -> addStringCriteria(predicates, criteriaBuilder, root, key, value);
+                        case "pesel" -> predicates.add(criteriaBuilder.equal(root.get(key), value));
                         case "weight", "height" -> addRangeCriteria(predicates, criteriaBuilder, root, key, value, Integer::parseInt);
+                        case "birthDate" -> addRangeCriteria(predicates, criteriaBuilder, root, key, value,
+                                LocalDate::parse);
+                        case "age" -> addAgeCriteria(predicates, criteriaBuilder, root, value);
                         case "sex" -> addSexCriteria(predicates, criteriaBuilder, root, value);
+                        case "nameQuery" -> addNameQueryCriteria(predicates, criteriaBuilder, root, value,
+                                Boolean.parseBoolean(parameters.get("fuzzy")));
                     }
                 }
             });
@@ -44,37 +57,75 @@ public class GeneralPersonSpecification implements SearchSpecification<Person> {
         predicates.add(builder.equal(root.get(key), fieldValue));
     }
 
+    /**
+     * Compares the lower-case lookup column of the given property, e.g. 'lastNameLower' for 'lastName'.
+     */
     void addStringCriteria(List<Predicate> predicates, CriteriaBuilder builder, Root<? extends Person> root,
                            String key, String value) {
-        predicates.add(builder.equal(builder.lower(root.get(key)), value.toLowerCase()));
+        predicates.add(builder.equal(root.get(key + "Lower"), Person.toLowerCase(value)));
     }
 
+    /**
+     * Restricts the property to the range given in the 'from<value>,to<value>' format.
+     *
+     * @throws InvalidSearchCriteriaException If the value is not a range of values the parser accepts.
+     */
     <T extends Comparable<? super T>> void addRangeCriteria(List<Predicate> predicates, CriteriaBuilder builder,
                                                             Root<? extends Person> root, String key, String value,
                                                             Function<String, T> parser) {
-        String[] parts = value.split(",to");
-        if (parts.length == 2) {
-            try {
-                T lowerBound = parser.apply(parts[0].substring(4));
-                T upperBound = parser.apply(parts[1]);
-                predicates.add(builder.between(root.get(key), lowerBound, upperBound));
-            } catch (NumberFormatException | DateTimeParseException e) {
-                e.printStackTrace();
-            }
-        }
+        Range<T> range = parseRange(key, value, parser);
+        predicates.add(builder.between(root.get(key), range.from(), range.to()));
+    }
+
+    /**
+     * Translates the age range into a range of birth dates, e.g. 'from20,to29' matches people who turned 20
+     * and are not yet 30 today.
+     */
+    void addAgeCriteria(List<Predicate> predicates, CriteriaBuilder builder, Root<? extends Person> root,
+                        String value) {
+        Range<Integer> range = parseRange("age", value, Integer::valueOf);
+        LocalDate today = LocalDate.now();
+        predicates.add(builder.between(root.get("birthDate"),
+                today.minusYears(range.to() + 1L).plusDays(1), today.minusYears(range.from())));
     }
 
     void addSexCriteria(List<Predicate> predicates, CriteriaBuilder builder, Root<Person> root,
                         String value) {
-        Expression<String> peselExpression = root.get("pesel");
-        Expression<Character> sexExpression = builder
-                .function("SUBSTRING", Character.class, peselExpression, builder.literal(10), builder.literal(1));
-        Map<String, List<Character>> sexMap = new HashMap<>();
-        sexMap.put("m", Arrays.asList('1', '3', '5', '7', '9'));
-        sexMap.put("w", Arrays.asList('0', '2', '4', '6', '8'));
-        List<Character> validSexChars = sexMap.get(value.toLowerCase());
-        if (validSexChars != null)
-            predicates.add(sexExpression.in(validSexChars));
+        Sex.of(value).ifPresent(sex -> predicates.add(builder.equal(root.get("sex"), sex)));
+    }
+
+    /**
+     * Restricts the people to those the full-text index matches by first name, last name or email, with typos
+     * when fuzzy.
+     */
+    void addNameQueryCriteria(List<Predicate> predicates, CriteriaBuilder builder, Root<Person> root,
+                              String value, boolean fuzzy) {
+        List<Long> ids = personSearchIndex.search(value, fuzzy);
+        predicates.add(ids.isEmpty() ? builder.disjunction() : root.get("id").in(ids));
+    }
+
+    /**
+     * Parses a range in the 'from<value>,to<value>' format.
+     *
+     * @throws InvalidSearchCriteriaException If the value is not a range of values the parser accepts.
+     */
+    private static <T> Range<T> parseRange(String key, String value, Function<String, T> parser) {
+        String[] parts = value.split(",to");
+        if (parts.length != 2 || !parts[0].startsWith("from"))
+            throw invalidRange(key, value);
+        try {
+            return new Range<>(parser.apply(parts[0].substring(4)), parser.apply(parts[1]));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw invalidRange(key, value);
+        }
+    }
+
+    private static InvalidSearchCriteriaException invalidRange(String key, String value) {
+        return new InvalidSearchCriteriaException("Invalid value of '" + key + "': '" + value
+                + "', expected a range in the format 'from<value>,to<value>'");
+    }
+
+    private record Range<T>(T from, T to) {
     }
 
 }
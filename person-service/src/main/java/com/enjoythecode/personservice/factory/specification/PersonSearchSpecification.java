@@ -3,7 +3,7 @@ package com.enjoythecode.personservice.factory.specification;
 import lombok.Getter;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
-import com.enjoythecode.personservice.api.DictionaryServiceClient;
+import com.enjoythecode.personservice.factory.PersonTypeRegistry;
 import com.enjoythecode.personservice.model.Person;
 
 import java.util.Map;
@@ -19,15 +19,15 @@ public class PersonSearchSpecification {
 
     private final Map<String, SearchSpecification<? extends Person>> typeSpecifications;
 
-    private final DictionaryServiceClient dictionaryServiceClient;
+    private final PersonTypeRegistry personTypeRegistry;
 
     public PersonSearchSpecification(SearchSpecification<Person> generalSpecification,
                                      Set<SearchSpecification<? extends Person>> typeSpecifications,
-                                     DictionaryServiceClient dictionaryServiceClient) {
+                                     PersonTypeRegistry personTypeRegistry) {
         this.generalSpecification = generalSpecification;
         this.typeSpecifications = typeSpecifications.stream()
                 .collect(Collectors.toMap(SearchSpecification::getType, Function.identity()));
-        this.dictionaryServiceClient = dictionaryServiceClient;
+        this.personTypeRegistry = personTypeRegistry;
     }
 
     public Specification<Person> filterByCriteria(Map<String, String> parameters) {
@@ -35,7 +35,7 @@ public class PersonSearchSpecification {
         Specification<Person> generalSpec = generalSpecification.createSpecification(parameters);
         if (filteredType != null) {
             Long typeId = Long.valueOf(parameters.get("typeId"));
-            String type = dictionaryServiceClient.getDictionaryValueById(typeId).getName();
+            String type = personTypeRegistry.getById(typeId).name();
             SearchSpecification<? extends Person> typeSpec = typeSpecifications.get(type);
             if (typeSpec != null) {
                 Specification<Person> typeSpecification = typeSpec.createSpecification(parameters);
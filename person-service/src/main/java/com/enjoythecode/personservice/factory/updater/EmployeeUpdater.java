@@ -4,19 +4,22 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
-import com.enjoythecode.personservice.api.DictionaryServiceClient;
+import com.enjoythecode.personservice.api.AsyncDictionaryServiceClient;
 import com.enjoythecode.personservice.command.UpdateEmployeeCommand;
 import com.enjoythecode.personservice.command.UpdatePersonCommand;
+import com.enjoythecode.personservice.dto.DictionaryValueSimpleDto;
 import com.enjoythecode.personservice.exception.InvalidTypeException;
 import com.enjoythecode.personservice.model.Employee;
 import com.enjoythecode.personservice.model.Person;
 import com.enjoythecode.personservice.repository.EmployeeRepository;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @RequiredArgsConstructor
 public class EmployeeUpdater implements PersonUpdater {
 
-    private final DictionaryServiceClient dictionaryServiceClient;
+    private final AsyncDictionaryServiceClient asyncDictionaryServiceClient;
 
     private final EmployeeRepository employeeRepository;
 
@@ -27,10 +30,15 @@ public class EmployeeUpdater implements PersonUpdater {
         return "employee";
     }
 
+    /**
+     * Looks up the position while the employee is being loaded.
+     */
     @Override
     public Person updatePerson(UpdatePersonCommand updatePersonCommand) {
         try {
             UpdateEmployeeCommand employeeCommand = modelMapper.map(updatePersonCommand, UpdateEmployeeCommand.class);
+            CompletableFuture<DictionaryValueSimpleDto> currentPosition =
+                    asyncDictionaryServiceClient.getDictionaryValueById(employeeCommand.getCurrentPositionId());
             Employee employeeForUpdate = employeeRepository.findById(employeeCommand.getId())
                     .orElseThrow(() -> new EntityNotFoundException("No entity found"));
             employeeForUpdate.setFirstName(employeeCommand.getFirstName());
@@ -41,8 +49,7 @@ public class EmployeeUpdater implements PersonUpdater {
             employeeForUpdate.setEmail(employeeCommand.getEmail());
             employeeForUpdate.setVersion(employeeCommand.getVersion());
             employeeForUpdate.setEmploymentStartDate(employeeCommand.getEmploymentStartDate());
-            employeeForUpdate.setCurrentPositionId(dictionaryServiceClient
-                    .getDictionaryValueById(employeeCommand.getCurrentPositionId()).getId());
+            employeeForUpdate.setCurrentPositionId(AsyncDictionaryServiceClient.join(currentPosition).getId());
             employeeForUpdate.setCurrentSalary(employeeCommand.getCurrentSalary());
             return employeeForUpdate;
         } catch (ClassCastException e) {
@@ -2,8 +2,8 @@ package com.enjoythecode.personservice.factory.updater;
 
 import lombok.Getter;
 import org.springframework.stereotype.Service;
-import com.enjoythecode.personservice.api.DictionaryServiceClient;
 import com.enjoythecode.personservice.command.UpdatePersonCommand;
+import com.enjoythecode.personservice.factory.PersonTypeRegistry;
 import com.enjoythecode.personservice.model.Person;
 
 import java.util.Map;
@@ -17,17 +17,16 @@ public class PersonUpdaterFactory {
 
     private final Map<String, PersonUpdater> updaters;
 
-    private final DictionaryServiceClient dictionaryServiceClient;
+    private final PersonTypeRegistry personTypeRegistry;
 
-    public PersonUpdaterFactory(Set<PersonUpdater> updaters, DictionaryServiceClient dictionaryServiceClient) {
+    public PersonUpdaterFactory(Set<PersonUpdater> updaters, PersonTypeRegistry personTypeRegistry) {
         this.updaters = updaters.stream()
                 .collect(Collectors.toMap(PersonUpdater::getType, Function.identity()));
-        this.dictionaryServiceClient = dictionaryServiceClient;
+        this.personTypeRegistry = personTypeRegistry;
     }
 
     public Person update(UpdatePersonCommand command) {
-        return updaters.get(dictionaryServiceClient.getDictionaryValueByDictionaryIdAndName(
-                1L, command.getType().toLowerCase()).getName())
+        return updaters.get(personTypeRegistry.getByName(command.getType()).name())
                 .updatePerson(command);
     }
 
@@ -4,19 +4,22 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
-import com.enjoythecode.personservice.api.DictionaryServiceClient;
+import com.enjoythecode.personservice.api.AsyncDictionaryServiceClient;
 import com.enjoythecode.personservice.command.UpdatePersonCommand;
 import com.enjoythecode.personservice.command.UpdateStudentCommand;
+import com.enjoythecode.personservice.dto.DictionaryValueSimpleDto;
 import com.enjoythecode.personservice.exception.InvalidTypeException;
 import com.enjoythecode.personservice.model.Person;
 import com.enjoythecode.personservice.model.Student;
 import com.enjoythecode.personservice.repository.StudentRepository;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @RequiredArgsConstructor
 public class StudentUpdater implements PersonUpdater {
 
-    private final DictionaryServiceClient dictionaryServiceClient;
+    private final AsyncDictionaryServiceClient asyncDictionaryServiceClient;
 
     private final StudentRepository studentRepository;
 
@@ -27,10 +30,17 @@ public class StudentUpdater implements PersonUpdater {
         return "student";
     }
 
+    /**
+     * Looks up the university name and the field of study in parallel, while the student is being loaded.
+     */
     @Override
     public Person updatePerson(UpdatePersonCommand updatePersonCommand) {
         try {
             UpdateStudentCommand studentCommand = modelMapper.map(updatePersonCommand, UpdateStudentCommand.class);
+            CompletableFuture<DictionaryValueSimpleDto> universityName =
+                    asyncDictionaryServiceClient.getDictionaryValueById(studentCommand.getUniversityNameId());
+            CompletableFuture<DictionaryValueSimpleDto> fieldOfStudy =
+                    asyncDictionaryServiceClient.getDictionaryValueById(studentCommand.getFieldOfStudyId());
             Student studentForUpdate = studentRepository.findById(studentCommand.getId())
                     .orElseThrow(() -> new EntityNotFoundException("No entity found"));
             studentForUpdate.setFirstName(studentCommand.getFirstName());
@@ -40,11 +50,9 @@ public class StudentUpdater implements PersonUpdater {
             studentForUpdate.setWeight(studentCommand.getWeight());
             studentForUpdate.setEmail(studentCommand.getEmail());
             studentForUpdate.setVersion(studentCommand.getVersion());
-            studentForUpdate.setUniversityNameId(dictionaryServiceClient
-                    .getDictionaryValueById(studentCommand.getUniversityNameId()).getId());
+            studentForUpdate.setUniversityNameId(AsyncDictionaryServiceClient.join(universityName).getId());
             studentForUpdate.setEnrollmentYear(studentCommand.getEnrollmentYear());
-            studentForUpdate.setFieldOfStudyId(dictionaryServiceClient
-                    .getDictionaryValueById(studentCommand.getFieldOfStudyId()).getId());
+            studentForUpdate.setFieldOfStudyId(AsyncDictionaryServiceClient.join(fieldOfStudy).getId());
             studentForUpdate.setScholarship(studentCommand.getScholarship());
             return studentForUpdate;
         } catch (ClassCastException e) {
@@ -3,23 +3,67 @@ package com.enjoythecode.personservice.mapping;
 import org.modelmapper.Converter;
 import org.modelmapper.spi.MappingContext;
 import org.springframework.stereotype.Service;
+import com.enjoythecode.personservice.dto.ImportPartitionStatusDto;
 import com.enjoythecode.personservice.dto.ImportStatusDto;
+import com.enjoythecode.personservice.dto.UnknownDictionaryValueDto;
+import com.enjoythecode.personservice.model.ImportPartitionStatus;
 import com.enjoythecode.personservice.model.ImportStatus;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+
 @Service
 public class ImportStatusToImportStatusDtoConverter implements Converter<ImportStatus, ImportStatusDto> {
 
     @Override
     public ImportStatusDto convert(MappingContext<ImportStatus, ImportStatusDto> mappingContext) {
         ImportStatus source = mappingContext.getSource();
-        String status = source.isCompleted() ? "Import completed." :
-                (source.isInProgress() ? "Import is in progress." : "Import has not started yet.");
         return ImportStatusDto.builder()
+                .jobId(source.getJobId())
+                .fileName(source.getFileName())
+                .status(describe(source))
+                .tolerant(source.isTolerant())
+                .submitTime(source.getSubmitTime())
                 .startTime(source.getStartTime())
-                .status(status)
                 .endTime(source.getEndTime())
                 .processedRows(source.getProcessedRows())
+                .rejectedRows(source.getRejectedRows())
+                .errorMessage(source.getErrorMessage())
+                .resumable(source.isResumable())
+                .unknownDictionaryValues(source.getUnknownDictionaryValues().stream()
+                        .map(value -> UnknownDictionaryValueDto.builder()
+                                .dictionaryId(value.dictionaryId())
+                                .name(value.name())
+                                .build())
+                        .toList())
+                .partitions(source.getPartitions().stream()
+                        .map(this::convertPartition)
+                        .toList())
+                .build();
+    }
+
+    private ImportPartitionStatusDto convertPartition(ImportPartitionStatus partition) {
+        LocalDateTime endTime = partition.getEndTime() != null ? partition.getEndTime() : LocalDateTime.now();
+        long durationMillis = partition.getStartTime() == null ? 0
+                : Duration.between(partition.getStartTime(), endTime).toMillis();
+        long rowsSinceStart = partition.getProcessedRows() - partition.getProcessedRowsAtStart();
+        return ImportPartitionStatusDto.builder()
+                .partition(partition.getPartition())
+                .bytes(partition.getBytes())
+                .processedRows(partition.getProcessedRows())
+                .durationMillis(durationMillis)
+                .rowsPerSecond(durationMillis == 0 ? 0 : rowsSinceStart * 1000.0 / durationMillis)
                 .build();
     }
 
+    private String describe(ImportStatus source) {
+        if (source.isFailed())
+            return "Import failed.";
+        if (source.isCompleted())
+            return "Import completed.";
+        if (source.isInProgress())
+            return "Import is in progress.";
+        return source.getJobId() == null ? "Import has not started yet." : "Import is queued.";
+    }
+
 }
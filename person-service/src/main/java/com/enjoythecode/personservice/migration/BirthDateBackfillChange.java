@@ -0,0 +1,70 @@
+package com.enjoythecode.personservice.migration;
+
+import com.enjoythecode.personservice.util.PeselDecoder;
+import liquibase.change.custom.CustomTaskChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+
+import java.sql.*;
+import java.time.LocalDate;
+
+/**
+ * Liquibase change which fills the 'birth_date' column of existing people with the birth date decoded from their
+ * PESEL. Decoding the century from the month digits in SQL would differ between MySQL and H2, so the rows are read
+ * and updated in JDBC batches with the same {@link PeselDecoder} the application uses for new people.
+ */
+public class BirthDateBackfillChange implements CustomTaskChange {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private int updatedRows;
+
+    @Override
+    public void execute(Database database) throws CustomChangeException {
+        Connection connection = ((JdbcConnection) database.getConnection()).getUnderlyingConnection();
+        try (Statement select = connection.createStatement();
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE people SET birth_date = ? WHERE id = ?")) {
+            select.setFetchSize(BATCH_SIZE);
+            try (ResultSet people = select.executeQuery("SELECT id, pesel FROM people")) {
+                int batched = 0;
+                while (people.next()) {
+                    LocalDate birthDate = PeselDecoder.decodeBirthDate(people.getString("pesel"));
+                    if (birthDate == null)
+                        continue;
+                    update.setDate(1, Date.valueOf(birthDate));
+                    update.setLong(2, people.getLong("id"));
+                    update.addBatch();
+                    if (++batched % BATCH_SIZE == 0)
+                        update.executeBatch();
+                }
+                update.executeBatch();
+                updatedRows = batched;
+            }
+        } catch (SQLException e) {
+            throw new CustomChangeException("Could not fill birth dates of people", e);
+        }
+    }
+
+    @Override
+    public String getConfirmationMessage() {
+        return "Birth date filled for " + updatedRows + " people";
+    }
+
+    @Override
+    public void setUp() {
+    }
+
+    @Override
+    public void setFileOpener(ResourceAccessor resourceAccessor) {
+    }
+
+    @Override
+    public ValidationErrors validate(Database database) {
+        return new ValidationErrors();
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.enjoythecode.personservice.model;
+
+import com.enjoythecode.personservice.exception.DictionaryValueNotFoundException;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable, in-memory copy of selected dictionaries, mapping value names to value IDs per dictionary.
+ * Used to resolve dictionary values locally, without calling 'dictionary-service' for every resolved name.
+ */
+public final class DictionarySnapshot {
+
+    private final Map<Long, Map<String, Long>> valueIdsByDictionaryId;
+
+    public DictionarySnapshot(Map<Long, Map<String, Long>> valueIdsByDictionaryId) {
+        this.valueIdsByDictionaryId = Map.copyOf(valueIdsByDictionaryId);
+    }
+
+    /**
+     * Returns the ID of the value with the given name in the given dictionary. Names are matched
+     * case-insensitively, ignoring surrounding whitespace.
+     *
+     * @param dictionaryId The ID of the dictionary.
+     * @param name The name of the dictionary value.
+     * @return The ID of the dictionary value.
+     * @throws DictionaryValueNotFoundException If the dictionary does not contain a value with the given name.
+     */
+    public Long getValueId(Long dictionaryId, String name) {
+        String normalizedName = normalize(name);
+        return Optional.ofNullable(valueIdsByDictionaryId.get(dictionaryId))
+                .map(values -> values.get(normalizedName))
+                .orElseThrow(() -> new DictionaryValueNotFoundException(dictionaryId, normalizedName));
+    }
+
+    public static String normalize(String name) {
+        return name == null ? null : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import lombok.*;
 
 import java.time.LocalDate;
+import java.util.Collection;
 
 @Getter
 @Setter
@@ -33,4 +34,11 @@ public class Employee extends Person {
         this.currentSalary = currentSalary;
     }
 
+    @Override
+    public void collectDictionaryValueIds(Collection<Long> dictionaryValueIds) {
+        super.collectDictionaryValueIds(dictionaryValueIds);
+        if (currentPositionId != null)
+            dictionaryValueIds.add(currentPositionId);
+    }
+
 }
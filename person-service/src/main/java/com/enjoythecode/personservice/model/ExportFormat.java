@@ -0,0 +1,42 @@
+package com.enjoythecode.personservice.model;
+
+import com.enjoythecode.personservice.exception.InvalidTypeException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * Formats of the people export.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+
+    /**
+     * Newline-delimited JSON: one person object per line.
+     */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /**
+     * CSV with a header row and a column for every property of every person type.
+     */
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+
+    private final String fileExtension;
+
+    /**
+     * Returns the format with the given name, ignoring case.
+     *
+     * @throws InvalidTypeException If there is no such format.
+     */
+    public static ExportFormat of(String name) {
+        return Arrays.stream(values())
+                .filter(format -> format.name().equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new InvalidTypeException("Unsupported export format '" + name + "'"));
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.enjoythecode.personservice.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of one partition of an import job, committed together with every written chunk. Rows before
+ * {@code nextOffset} are already stored (or rejected), so a failed job can be resumed from there.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+public class ImportCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String jobId;
+
+    private int partitionIndex;
+
+    private String fileName;
+
+    private String filePath;
+
+    /**
+     * Whether invalid rows are rejected instead of failing the job.
+     */
+    private boolean tolerant;
+
+    private long startOffset;
+
+    private long endOffset;
+
+    /**
+     * Number of the line at which the partition starts.
+     */
+    private long startLine;
+
+    private long nextOffset;
+
+    /**
+     * Number of the line at {@code nextOffset}.
+     */
+    private long nextLine;
+
+    private long committedRows;
+
+    private long committedChunks;
+
+    private long rejectedRows;
+
+    private LocalDateTime updatedAt;
+
+    public ImportCheckpoint(String jobId, int partitionIndex, String fileName, String filePath, boolean tolerant,
+                            long startOffset, long endOffset, long startLine) {
+        this.jobId = jobId;
+        this.partitionIndex = partitionIndex;
+        this.fileName = fileName;
+        this.filePath = filePath;
+        this.tolerant = tolerant;
+        this.startOffset = startOffset;
+        this.endOffset = endOffset;
+        this.startLine = startLine;
+        this.nextOffset = startOffset;
+        this.nextLine = startLine;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isFinished() {
+        return nextOffset >= endOffset;
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.enjoythecode.personservice.model;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of a single partition of an import job.
+ */
+@Getter
+@Setter
+public class ImportPartitionStatus {
+
+    private final int partition;
+
+    private final long bytes;
+
+    private volatile long processedRows;
+
+    /**
+     * Rows processed when the partition was (re)started, i.e. committed by the runs before a resume.
+     */
+    private volatile long processedRowsAtStart;
+
+    private volatile LocalDateTime startTime;
+
+    private volatile LocalDateTime endTime;
+
+    public ImportPartitionStatus(int partition, long bytes) {
+        this.partition = partition;
+        this.bytes = bytes;
+    }
+
+}
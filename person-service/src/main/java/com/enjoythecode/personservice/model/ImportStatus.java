@@ -1,22 +1,109 @@
 package com.enjoythecode.personservice.model;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Status of a single import job. The job is updated by an import worker thread and read by request threads,
+ * hence the volatile fields.
+ */
 @Getter
 @Setter
+@NoArgsConstructor
 public class ImportStatus {
 
-    private boolean inProgress;
+    private String jobId;
 
-    private boolean isCompleted;
+    private String fileName;
 
-    private LocalDateTime startTime;
+    private LocalDateTime submitTime;
 
-    private LocalDateTime endTime;
+    /**
+     * Whether invalid rows are rejected instead of failing the job.
+     */
+    private volatile boolean tolerant;
 
-    private long processedRows;
+    private volatile boolean inProgress;
+
+    private volatile boolean isCompleted;
+
+    private volatile boolean failed;
+
+    private volatile String errorMessage;
+
+    /**
+     * Whether the failed job kept its file and checkpoints, so it can be resumed.
+     */
+    private volatile boolean resumable;
+
+    private volatile LocalDateTime startTime;
+
+    private volatile LocalDateTime endTime;
+
+    /**
+     * Row counts updated concurrently by the importers of all partitions of the job.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final AtomicLong processedRows = new AtomicLong();
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final AtomicLong rejectedRows = new AtomicLong();
+
+    /**
+     * Dictionary values referenced by the file but missing in 'dictionary-service'. Rows using them are rejected
+     * in tolerant mode and fail the job otherwise.
+     */
+    private volatile List<UnknownDictionaryValue> unknownDictionaryValues = List.of();
+
+    private volatile List<ImportPartitionStatus> partitions = List.of();
+
+    public ImportStatus(String jobId, String fileName) {
+        this.jobId = jobId;
+        this.fileName = fileName;
+        this.submitTime = LocalDateTime.now();
+    }
+
+    public long getProcessedRows() {
+        return processedRows.get();
+    }
+
+    public void setProcessedRows(long processedRows) {
+        this.processedRows.set(processedRows);
+    }
+
+    /**
+     * Raises the processed rows to the given running total. Totals reported out of order by concurrent partitions
+     * never lower the count.
+     */
+    public void updateProcessedRows(long total) {
+        processedRows.accumulateAndGet(total, Math::max);
+    }
+
+    public long getRejectedRows() {
+        return rejectedRows.get();
+    }
+
+    public void setRejectedRows(long rejectedRows) {
+        this.rejectedRows.set(rejectedRows);
+    }
+
+    /**
+     * Raises the rejected rows to the given running total, like {@link #updateProcessedRows(long)}.
+     */
+    public void updateRejectedRows(long total) {
+        rejectedRows.accumulateAndGet(total, Math::max);
+    }
+
+    public boolean isFinished() {
+        return isCompleted || failed;
+    }
 
 }
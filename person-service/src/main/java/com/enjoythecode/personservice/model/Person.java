@@ -1,9 +1,14 @@
 package com.enjoythecode.personservice.model;
 
+import com.enjoythecode.personservice.repository.PersonSearchIndexListener;
+import com.enjoythecode.personservice.util.PeselDecoder;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Locale;
 
 @Getter
 @Setter
@@ -15,11 +20,18 @@ import java.io.Serializable;
 @Table(name = "people")
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "type")
+@EntityListeners(PersonSearchIndexListener.class)
 public class Person implements Serializable {
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Identifiers are allocated in pooled blocks from the 'id_generator' table, so that Hibernate can group
+     * inserts into JDBC batches (an IDENTITY column forces one round trip per inserted row).
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "person_id_generator")
+    @TableGenerator(name = "person_id_generator", table = "id_generator", pkColumnName = "generator_name",
+            valueColumnName = "next_value", pkColumnValue = "people", allocationSize = 100)
     private Long id;
 
     /**
@@ -28,30 +40,101 @@ public class Person implements Serializable {
     @Column(name = "type_id")
     private Long typeId;
 
+    @Setter(AccessLevel.NONE)
     private String firstName;
 
+    @Setter(AccessLevel.NONE)
     private String lastName;
 
+    @Setter(AccessLevel.NONE)
     private String pesel;
 
+    /**
+     * Sex derived from the PESEL whenever it is set, stored so that searches by sex can use an index.
+     */
+    @Setter(AccessLevel.NONE)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 1)
+    private Sex sex;
+
+    /**
+     * Birth date decoded from the PESEL whenever it is set, stored so that searches by age can use an index.
+     */
+    @Setter(AccessLevel.NONE)
+    private LocalDate birthDate;
+
     private Integer height;
 
     private Integer weight;
 
+    @Setter(AccessLevel.NONE)
     private String email;
 
+    /**
+     * Lower-case copies of the first name, last name and email, set together with them, so that case-insensitive
+     * searches compare indexed columns instead of wrapping the original columns in lower().
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String firstNameLower;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String lastNameLower;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String emailLower;
+
     @Version
     private Long version;
 
     public Person(Long typeId, String firstName, String lastName, String pesel, Integer height,
                   Integer weight, String email) {
         this.typeId = typeId;
-        this.firstName = firstName;
-        this.lastName = lastName;
-        this.pesel = pesel;
+        setFirstName(firstName);
+        setLastName(lastName);
+        setPesel(pesel);
         this.height = height;
         this.weight = weight;
+        setEmail(email);
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+        this.firstNameLower = toLowerCase(firstName);
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+        this.lastNameLower = toLowerCase(lastName);
+    }
+
+    public void setEmail(String email) {
         this.email = email;
+        this.emailLower = toLowerCase(email);
+    }
+
+    public void setPesel(String pesel) {
+        this.pesel = pesel;
+        this.sex = Sex.fromPesel(pesel);
+        this.birthDate = PeselDecoder.decodeBirthDate(pesel);
+    }
+
+    /**
+     * Adds the IDs of all dictionary values this person refers to, so that they can be resolved in bulk.
+     * Subclasses with their own dictionary-backed attributes add those as well.
+     */
+    public void collectDictionaryValueIds(Collection<Long> dictionaryValueIds) {
+        if (typeId != null)
+            dictionaryValueIds.add(typeId);
+    }
+
+    /**
+     * Returns the value in lower case, as stored in the lower-case lookup columns.
+     */
+    public static String toLowerCase(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
     }
 
 }
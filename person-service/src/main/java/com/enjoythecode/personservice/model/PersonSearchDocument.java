@@ -0,0 +1,12 @@
+package com.enjoythecode.personservice.model;
+
+/**
+ * The properties of a person stored in the full-text index of people.
+ */
+public record PersonSearchDocument(Long id, String firstName, String lastName, String email) {
+
+    public static PersonSearchDocument of(Person person) {
+        return new PersonSearchDocument(person.getId(), person.getFirstName(), person.getLastName(), person.getEmail());
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.enjoythecode.personservice.model;
+
+import com.enjoythecode.personservice.util.LongBloomFilter;
+import com.enjoythecode.personservice.util.LongHashSet;
+
+/**
+ * In-memory set of PESEL numbers used to detect duplicates during an import without a database round trip.
+ * A PESEL is a fixed 11-digit number, so it is stored as a primitive long. Lookups go through a Bloom filter
+ * first, which answers most queries for new numbers without locking; the exact answer comes from long hash sets
+ * split into lock-striped segments, so partitions of an import can use the index in parallel.
+ */
+public final class PeselIndex {
+
+    private static final int PESEL_LENGTH = 11;
+
+    private static final int SEGMENT_COUNT = 64;
+
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    private final LongBloomFilter bloomFilter;
+
+    private final LongHashSet[] segments = new LongHashSet[SEGMENT_COUNT];
+
+    /**
+     * @param expectedSize The expected number of PESEL numbers, used to size the index.
+     */
+    public PeselIndex(long expectedSize) {
+        this.bloomFilter = new LongBloomFilter(expectedSize, FALSE_POSITIVE_PROBABILITY);
+        int segmentSize = (int) Math.min(expectedSize / SEGMENT_COUNT + 1, Integer.MAX_VALUE);
+        for (int i = 0; i < SEGMENT_COUNT; i++)
+            segments[i] = new LongHashSet(segmentSize);
+    }
+
+    /**
+     * Returns whether the index contains the given PESEL. Always false for values which are not 11 digits,
+     * as those are not tracked.
+     */
+    public boolean contains(String pesel) {
+        long value = encode(pesel);
+        if (value < 0 || !bloomFilter.mightContain(value))
+            return false;
+        LongHashSet segment = segmentOf(value);
+        synchronized (segment) {
+            return segment.contains(value);
+        }
+    }
+
+    /**
+     * Adds the PESEL to the index.
+     *
+     * @return false if the index already contained the PESEL, true otherwise (including values which are not
+     * 11 digits, as those are not tracked).
+     */
+    public boolean add(String pesel) {
+        long value = encode(pesel);
+        if (value < 0)
+            return true;
+        LongHashSet segment = segmentOf(value);
+        synchronized (segment) {
+            if (!segment.add(value))
+                return false;
+            bloomFilter.put(value);
+            return true;
+        }
+    }
+
+    private LongHashSet segmentOf(long value) {
+        return segments[(int) (LongHashSet.mix(value) >>> 58)];
+    }
+
+    /**
+     * Encodes the PESEL as a long, or returns -1 if it is not a string of 11 digits.
+     */
+    static long encode(String pesel) {
+        if (pesel == null || pesel.length() != PESEL_LENGTH)
+            return -1;
+        long value = 0;
+        for (int i = 0; i < PESEL_LENGTH; i++) {
+            char c = pesel.charAt(i);
+            if (c < '0' || c > '9')
+                return -1;
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.enjoythecode.personservice.model;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Sex of a person, encoded in the tenth digit of their PESEL: odd for men, even for women.
+ */
+public enum Sex {
+
+    /**
+     * Man.
+     */
+    M,
+
+    /**
+     * Woman.
+     */
+    W;
+
+    private static final int SEX_DIGIT_INDEX = 9;
+
+    /**
+     * Returns the sex encoded in the given PESEL, or null if the PESEL has no digit at the position of the sex.
+     */
+    public static Sex fromPesel(String pesel) {
+        if (pesel == null || pesel.length() <= SEX_DIGIT_INDEX || !Character.isDigit(pesel.charAt(SEX_DIGIT_INDEX)))
+            return null;
+        return Character.digit(pesel.charAt(SEX_DIGIT_INDEX), 10) % 2 == 1 ? M : W;
+    }
+
+    /**
+     * Returns the sex with the given name, ignoring case.
+     */
+    public static Optional<Sex> of(String name) {
+        return Arrays.stream(values())
+                .filter(sex -> sex.name().equalsIgnoreCase(name))
+                .findFirst();
+    }
+
+}
@@ -4,6 +4,8 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import lombok.*;
 
+import java.util.Collection;
+
 @Getter
 @Setter
 @NoArgsConstructor
@@ -40,4 +42,13 @@ public class Student extends Person {
         this.scholarship = scholarship;
     }
 
+    @Override
+    public void collectDictionaryValueIds(Collection<Long> dictionaryValueIds) {
+        super.collectDictionaryValueIds(dictionaryValueIds);
+        if (universityNameId != null)
+            dictionaryValueIds.add(universityNameId);
+        if (fieldOfStudyId != null)
+            dictionaryValueIds.add(fieldOfStudyId);
+    }
+
 }
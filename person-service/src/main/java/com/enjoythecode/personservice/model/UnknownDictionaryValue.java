@@ -0,0 +1,19 @@
+package com.enjoythecode.personservice.model;
+
+import java.util.Comparator;
+
+/**
+ * A dictionary value name referenced by an imported file but missing in the given dictionary.
+ */
+public record UnknownDictionaryValue(Long dictionaryId, String name) implements Comparable<UnknownDictionaryValue> {
+
+    private static final Comparator<UnknownDictionaryValue> ORDER = Comparator
+            .comparing(UnknownDictionaryValue::dictionaryId)
+            .thenComparing(UnknownDictionaryValue::name);
+
+    @Override
+    public int compareTo(UnknownDictionaryValue other) {
+        return ORDER.compare(this, other);
+    }
+
+}
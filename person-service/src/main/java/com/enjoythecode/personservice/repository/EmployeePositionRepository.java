@@ -8,7 +8,7 @@ import java.util.List;
 
 public interface EmployeePositionRepository extends JpaRepository<EmployeePosition, Long> {
 
-    @Query("SELECT ep FROM EmployeePosition ep WHERE ep.employee.id = :employeeId")
+    @Query("SELECT ep FROM EmployeePosition ep WHERE ep.employee.id = :employeeId ORDER BY ep.startDate, ep.id")
     List<EmployeePosition> findByEmployeeId(long employeeId);
 
 }
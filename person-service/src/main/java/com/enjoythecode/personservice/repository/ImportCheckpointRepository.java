@@ -0,0 +1,24 @@
+package com.enjoythecode.personservice.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+import com.enjoythecode.personservice.model.ImportCheckpoint;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ImportCheckpointRepository extends JpaRepository<ImportCheckpoint, Long> {
+
+    List<ImportCheckpoint> findByJobIdOrderByPartitionIndex(String jobId);
+
+    @Query("SELECT DISTINCT c.jobId FROM ImportCheckpoint c WHERE c.updatedAt < :threshold")
+    List<String> findJobIdsUpdatedBefore(LocalDateTime threshold);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ImportCheckpoint c WHERE c.jobId = :jobId")
+    void deleteByJobId(String jobId);
+
+}
@@ -0,0 +1,71 @@
+package com.enjoythecode.personservice.repository;
+
+import com.enjoythecode.personservice.config.ImportProperties;
+import com.enjoythecode.personservice.model.ImportCheckpoint;
+import com.enjoythecode.personservice.model.Person;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Writes people in chunks, each chunk in its own transaction. Inserts are sent to the database as JDBC batches
+ * and the persistence context is flushed and cleared periodically, so memory usage does not grow with the chunk.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PersonBatchWriter {
+
+    private final EntityManager entityManager;
+
+    private final ImportProperties importProperties;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void writeChunk(List<? extends Person> people) {
+        persistAll(people);
+    }
+
+    /**
+     * Writes the chunk and stores the checkpoint of its partition in the same transaction, so the checkpoint
+     * never points past rows that were not committed, nor before rows that were.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void writeChunk(List<? extends Person> people, ImportCheckpoint checkpoint) {
+        persistAll(people);
+        entityManager.merge(checkpoint);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Writes a single person in its own transaction; used to isolate the rows of a chunk that failed as a whole.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void writeOne(Person person) {
+        entityManager.persist(person);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void saveCheckpoint(ImportCheckpoint checkpoint) {
+        entityManager.merge(checkpoint);
+    }
+
+    private void persistAll(List<? extends Person> people) {
+        int flushInterval = Math.max(1, importProperties.getFlushInterval());
+        for (int i = 0; i < people.size(); i++) {
+            entityManager.persist(people.get(i));
+            if ((i + 1) % flushInterval == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+}
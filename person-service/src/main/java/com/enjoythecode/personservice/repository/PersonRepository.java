@@ -5,9 +5,15 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import com.enjoythecode.personservice.model.Person;
+import com.enjoythecode.personservice.model.PersonSearchDocument;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface PersonRepository extends JpaRepository<Person, Long>, JpaSpecificationExecutor<Person> {
 
@@ -15,4 +21,21 @@ public interface PersonRepository extends JpaRepository<Person, Long>, JpaSpecif
 
     Page<Person> findAll(Specification<Person> specification, Pageable pageable);
 
+    /**
+     * Streams the PESEL numbers of all people, fetching them from the database in batches.
+     * Must be called within a transaction and the stream must be closed.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select p.pesel from Person p where p.pesel is not null")
+    Stream<String> streamAllPesels();
+
+    /**
+     * Streams the indexed properties of all people, fetching them from the database in batches.
+     * Must be called within a transaction and the stream must be closed.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.enjoythecode.personservice.model.PersonSearchDocument(p.id, p.firstName, p.lastName, " +
+            "p.email) from Person p")
+    Stream<PersonSearchDocument> streamAllSearchDocuments();
+
 }
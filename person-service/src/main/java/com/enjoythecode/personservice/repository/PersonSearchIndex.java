@@ -0,0 +1,290 @@
+package com.enjoythecode.personservice.repository;
+
+import com.enjoythecode.personservice.config.SearchIndexProperties;
+import com.enjoythecode.personservice.exception.SearchIndexRebuildInProgressException;
+import com.enjoythecode.personservice.exception.SearchQueryTooBroadException;
+import com.enjoythecode.personservice.model.PersonSearchDocument;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Full-text index of the names and emails of people, kept in-process with Lucene and stored in the configured
+ * directory. It answers prefix and fuzzy name queries with the IDs of the matching people, which the search
+ * specifications then filter by, so partial names and typos are found without scanning the 'people' table.
+ * <p>
+ * The index is updated by the {@link PersonSearchIndexListener} after every committed change of a person and can be
+ * rebuilt from the database at any time. A rebuild overwrites the documents in place and removes the ones it did
+ * not write only at the end, so searches keep seeing every person meanwhile; changes committed while it is running
+ * are applied again afterwards, so the rebuilt index does not miss them.
+ */
+@Slf4j
+@Repository
+public class PersonSearchIndex {
+
+    private static final String ID_FIELD = "id";
+
+    private static final String GENERATION_FIELD = "generation";
+
+    private static final List<String> TEXT_FIELDS = List.of("firstName", "lastName", "email");
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final PersonRepository personRepository;
+
+    private final SearchIndexProperties properties;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+
+    private final Directory directory;
+
+    private final boolean existedOnStart;
+
+    private final IndexWriter indexWriter;
+
+    private final SearcherManager searcherManager;
+
+    private final Object rebuildLock = new Object();
+
+    private List<Runnable> changesDuringRebuild;
+
+    /**
+     * Marks the documents written since the last rebuild started, to tell the stale ones apart at its end.
+     */
+    private volatile String generation = UUID.randomUUID().toString();
+
+    public PersonSearchIndex(PersonRepository personRepository, SearchIndexProperties properties) throws IOException {
+        this.personRepository = personRepository;
+        this.properties = properties;
+        if (properties.getDirectory() != null) {
+            Files.createDirectories(properties.getDirectory());
+            this.directory = FSDirectory.open(properties.getDirectory());
+        } else {
+            this.directory = new ByteBuffersDirectory();
+        }
+        this.existedOnStart = DirectoryReader.indexExists(directory);
+        this.indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(indexWriter, null);
+    }
+
+    /**
+     * Builds the index from the database when it does not exist yet, e.g. on the first start or when it is kept
+     * in memory.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildIfMissing() {
+        if (!existedOnStart)
+            log.info("Built search index of {} people", rebuild());
+    }
+
+    /**
+     * Returns the IDs of people whose first name, last name or email match every word of the query. A word matches
+     * words it is a prefix of and, when fuzzy, also words within a small edit distance of it.
+     *
+     * @param nameQuery The words to search for.
+     * @param fuzzy Whether to also match words with typos.
+     * @return The IDs of all matching people.
+     * @throws SearchQueryTooBroadException If the query matches more people than the configured maximum.
+     */
+    public List<Long> search(String nameQuery, boolean fuzzy) {
+        List<String> words = analyze(nameQuery);
+        if (words.isEmpty())
+            return List.of();
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        words.forEach(word -> query.add(wordQuery(word, fuzzy), BooleanClause.Occur.MUST));
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query.build(), properties.getMaxResults() + 1);
+                if (topDocs.scoreDocs.length > properties.getMaxResults())
+                    throw new SearchQueryTooBroadException("Name query '" + nameQuery + "' matches more than "
+                            + properties.getMaxResults() + " people, refine it or add other criteria");
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> ids = new ArrayList<>(topDocs.scoreDocs.length);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs)
+                    ids.add(Long.valueOf(storedFields.document(scoreDoc.doc).get(ID_FIELD)));
+                return ids;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Adds or replaces the documents of the given people and removes the documents of the deleted ones.
+     */
+    public void apply(Collection<PersonSearchDocument> documents, Collection<Long> deletedIds) {
+        synchronized (rebuildLock) {
+            if (changesDuringRebuild != null)
+                changesDuringRebuild.add(() -> write(documents, deletedIds));
+        }
+        write(documents, deletedIds);
+    }
+
+    /**
+     * Replaces the whole index with the people currently in the database.
+     *
+     * @return The number of indexed people.
+     */
+    @Transactional(readOnly = true)
+    public long rebuild() {
+        synchronized (rebuildLock) {
+            if (changesDuringRebuild != null)
+                throw new SearchIndexRebuildInProgressException("Search index is already being rebuilt");
+            changesDuringRebuild = new ArrayList<>();
+        }
+        List<Runnable> missedChanges;
+        long count = 0;
+        String rebuildGeneration = UUID.randomUUID().toString();
+        generation = rebuildGeneration;
+        try {
+            List<PersonSearchDocument> batch = new ArrayList<>(BATCH_SIZE);
+            try (Stream<PersonSearchDocument> documents = personRepository.streamAllSearchDocuments()) {
+                for (Iterator<PersonSearchDocument> iterator = documents.iterator(); iterator.hasNext(); ) {
+                    batch.add(iterator.next());
+                    if (batch.size() == BATCH_SIZE || !iterator.hasNext()) {
+                        count += batch.size();
+                        write(batch, List.of());
+                        batch.clear();
+                    }
+                }
+            }
+        } finally {
+            synchronized (rebuildLock) {
+                missedChanges = changesDuringRebuild;
+                changesDuringRebuild = null;
+            }
+        }
+        missedChanges.forEach(Runnable::run);
+        deleteStaleDocuments(rebuildGeneration);
+        commit();
+        return count;
+    }
+
+    @Scheduled(fixedDelayString = "${person.search-index.commit-interval:PT5S}")
+    public void commit() {
+        try {
+            if (indexWriter.hasUncommittedChanges())
+                indexWriter.commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        commit();
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    private void write(Collection<PersonSearchDocument> documents, Collection<Long> deletedIds) {
+        try {
+            for (PersonSearchDocument document : documents)
+                indexWriter.updateDocument(new Term(ID_FIELD, String.valueOf(document.id())), toDocument(document));
+            for (Long id : deletedIds)
+                indexWriter.deleteDocuments(new Term(ID_FIELD, String.valueOf(id)));
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Removes the documents of people who were not written since the rebuild started, i.e. no longer exist.
+     */
+    private void deleteStaleDocuments(String rebuildGeneration) {
+        try {
+            indexWriter.deleteDocuments(new BooleanQuery.Builder()
+                    .add(new MatchAllDocsQuery(), BooleanClause.Occur.FILTER)
+                    .add(new TermQuery(new Term(GENERATION_FIELD, rebuildGeneration)), BooleanClause.Occur.MUST_NOT)
+                    .build());
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Document toDocument(PersonSearchDocument person) {
+        Document document = new Document();
+        document.add(new StringField(ID_FIELD, String.valueOf(person.id()), Field.Store.YES));
+        document.add(new StringField(GENERATION_FIELD, generation, Field.Store.NO));
+        addText(document, "firstName", person.firstName());
+        addText(document, "lastName", person.lastName());
+        addText(document, "email", person.email());
+        return document;
+    }
+
+    private static void addText(Document document, String field, String value) {
+        if (value != null)
+            document.add(new TextField(field, value, Field.Store.NO));
+    }
+
+    /**
+     * Matches the word exactly (scored highest), as a prefix and, when fuzzy, with typos, in any of the fields.
+     */
+    private static Query wordQuery(String word, boolean fuzzy) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String field : TEXT_FIELDS) {
+            Term term = new Term(field, word);
+            query.add(new BoostQuery(new TermQuery(term), 2), BooleanClause.Occur.SHOULD);
+            query.add(new PrefixQuery(term), BooleanClause.Occur.SHOULD);
+            if (fuzzy)
+                query.add(new FuzzyQuery(term, maxEdits(word)), BooleanClause.Occur.SHOULD);
+        }
+        return query.build();
+    }
+
+    /**
+     * Allows no typo in words of up to two characters, one in words of up to five and two in longer words.
+     */
+    private static int maxEdits(String word) {
+        return word.length() <= 2 ? 0 : word.length() <= 5 ? 1 : 2;
+    }
+
+    private List<String> analyze(String text) {
+        List<String> words = new ArrayList<>();
+        try (TokenStream tokenStream = analyzer.tokenStream(TEXT_FIELDS.get(0), text)) {
+            CharTermAttribute term = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken())
+                words.add(term.toString());
+            tokenStream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return words;
+    }
+
+}
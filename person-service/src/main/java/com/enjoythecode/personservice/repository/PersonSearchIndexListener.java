@@ -0,0 +1,114 @@
+package com.enjoythecode.personservice.repository;
+
+import com.enjoythecode.personservice.model.Person;
+import com.enjoythecode.personservice.model.PersonSearchDocument;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Entity listener of {@link Person} which keeps the {@link PersonSearchIndex} in sync with every write path: adding,
+ * editing and deleting people as well as CSV imports. Changes are collected per transaction and applied to the index
+ * only once the transaction commits, so rolled back changes never reach it.
+ */
+@Slf4j
+@Component
+public class PersonSearchIndexListener {
+
+    private final PersonSearchIndex personSearchIndex;
+
+    public PersonSearchIndexListener(@Lazy PersonSearchIndex personSearchIndex) {
+        this.personSearchIndex = personSearchIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Person person) {
+        PendingChanges changes = getPendingChanges();
+        changes.documents.put(person.getId(), PersonSearchDocument.of(person));
+        changes.deletedIds.remove(person.getId());
+        applyIfNotInTransaction(changes);
+    }
+
+    @PostRemove
+    public void onRemoved(Person person) {
+        PendingChanges changes = getPendingChanges();
+        changes.documents.remove(person.getId());
+        changes.deletedIds.add(person.getId());
+        applyIfNotInTransaction(changes);
+    }
+
+    private PendingChanges getPendingChanges() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive())
+            return new PendingChanges();
+        PendingChanges changes = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (changes == null) {
+            PendingChanges newChanges = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, newChanges);
+            TransactionSynchronizationManager.registerSynchronization(new PendingChangesSynchronization(newChanges));
+            changes = newChanges;
+        }
+        return changes;
+    }
+
+    private void applyIfNotInTransaction(PendingChanges changes) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive())
+            apply(changes);
+    }
+
+    private void apply(PendingChanges changes) {
+        try {
+            personSearchIndex.apply(changes.documents.values(), changes.deletedIds);
+        } catch (RuntimeException e) {
+            log.error("Could not update the search index, rebuild it to include the latest changes", e);
+        }
+    }
+
+    private static class PendingChanges {
+
+        private final Map<Long, PersonSearchDocument> documents = new LinkedHashMap<>();
+
+        private final List<Long> deletedIds = new ArrayList<>();
+
+    }
+
+    /**
+     * Applies the changes of the transaction after it commits. Like Spring's own resource synchronizations, it unbinds
+     * the changes while the transaction is suspended, so an inner REQUIRES_NEW transaction collects its own changes.
+     */
+    @RequiredArgsConstructor
+    private class PendingChangesSynchronization implements TransactionSynchronization {
+
+        private final PendingChanges changes;
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PersonSearchIndexListener.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(PersonSearchIndexListener.this, changes);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PersonSearchIndexListener.this);
+            if (status == STATUS_COMMITTED)
+                apply(changes);
+        }
+
+    }
+
+}
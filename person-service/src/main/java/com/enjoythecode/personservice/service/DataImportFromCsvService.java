@@ -1,86 +1,394 @@
 package com.enjoythecode.personservice.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
-import com.enjoythecode.personservice.command.CreatePersonFromCsvCommand;
+import com.enjoythecode.personservice.config.ImportProperties;
+import com.enjoythecode.personservice.csv.CsvFilePartitioner;
+import com.enjoythecode.personservice.csv.FilePartition;
+import com.enjoythecode.personservice.csv.RejectedRowsFile;
 import com.enjoythecode.personservice.exception.DataImportFromFileException;
+import com.enjoythecode.personservice.exception.DictionaryValueNotFoundException;
+import com.enjoythecode.personservice.exception.DuplicatePeselException;
+import com.enjoythecode.personservice.exception.ImportJobNotFoundException;
 import com.enjoythecode.personservice.factory.cteatorfromcsv.PersonFromCsvFactory;
+import com.enjoythecode.personservice.model.DictionarySnapshot;
+import com.enjoythecode.personservice.model.ImportCheckpoint;
+import com.enjoythecode.personservice.model.ImportPartitionStatus;
 import com.enjoythecode.personservice.model.ImportStatus;
-import com.enjoythecode.personservice.model.Person;
-import com.enjoythecode.personservice.repository.PersonRepository;
+import com.enjoythecode.personservice.model.PeselIndex;
+import com.enjoythecode.personservice.repository.ImportCheckpointRepository;
+import com.enjoythecode.personservice.repository.PersonBatchWriter;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.locks.ReentrantLock;
-import java.util.stream.Stream;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
+/**
+ * This service imports people from CSV files. Every upload becomes an import job: the file is stored
+ * in the work directory and processed by the import worker pool, while the job status is kept
+ * in the {@link ImportJobRegistry}. A job splits its file into line-aligned partitions which are parsed
+ * and written in parallel on the partition pool, each partition through its own transactions.
+ * <p>
+ * Duplicate PESEL numbers, both within the file and against the stored people, are detected in memory
+ * with a {@link PeselIndex} seeded from the database before the partitions start.
+ * <p>
+ * Every written chunk advances the {@link ImportCheckpoint} of its partition in the same transaction.
+ * A failed job keeps its file and checkpoints, so it can be resumed without reprocessing committed rows.
+ * <p>
+ * A tolerant job rejects invalid rows instead of failing and records them, with their line numbers and
+ * the reasons, in a rejected rows file which can be downloaded after the import.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class DataImportFromCsvService {
 
-    private final PersonRepository personRepository;
+    private static final String REJECTED_ROWS_SUFFIX = "-rejects.csv";
+
+    /**
+     * Approximate size of a CSV row in bytes, used to estimate the number of rows of a file.
+     */
+    private static final int ESTIMATED_ROW_SIZE = 64;
+
+    private final PersonBatchWriter personBatchWriter;
 
     private final PersonFromCsvFactory personFromCsvFactory;
 
-    private ImportStatus importStatus;
+    private final ImportProperties importProperties;
+
+    private final DictionarySnapshotService dictionarySnapshotService;
+
+    private final PeselIndexService peselIndexService;
+
+    private final ImportJobRegistry importJobRegistry;
+
+    private final ImportCheckpointRepository importCheckpointRepository;
+
+    @Qualifier("importTaskExecutor")
+    private final TaskExecutor importTaskExecutor;
+
+    @Qualifier("importPartitionPool")
+    private final ForkJoinPool importPartitionPool;
+
+    /**
+     * Stores the file and queues an import job for it.
+     *
+     * @param file The CSV file to import.
+     * @param tolerant Whether invalid rows are rejected instead of failing the job.
+     * @return The status of the queued job, including its job ID.
+     * @throws DataImportFromFileException If the file is empty or the import queue is full.
+     */
+    public ImportStatus submitImport(MultipartFile file, boolean tolerant) {
+        if (file == null || file.isEmpty())
+            throw new DataImportFromFileException("File is empty or does not exist.");
+        ImportStatus importStatus = importJobRegistry.register(file.getOriginalFilename());
+        importStatus.setTolerant(tolerant);
+        Path storedFile;
+        try {
+            storedFile = store(file, importStatus.getJobId());
+        } catch (DataImportFromFileException e) {
+            importJobRegistry.remove(importStatus.getJobId());
+            throw e;
+        }
+        try {
+            submit(importStatus, () -> runImport(importStatus, storedFile, tolerant, null));
+        } catch (DataImportFromFileException e) {
+            deleteQuietly(storedFile);
+            throw e;
+        }
+        return importStatus;
+    }
+
+    /**
+     * Queues a failed import job again. The job continues from the checkpoints of its partitions, skipping
+     * the rows that have already been committed.
+     *
+     * @param jobId The ID of the failed job.
+     * @return The status of the resumed job.
+     * @throws ImportJobNotFoundException If there are no checkpoints of the job.
+     * @throws DataImportFromFileException If the job is still running, has completed, its file is no longer
+     * available or the import queue is full.
+     */
+    public ImportStatus resumeImport(String jobId) {
+        importJobRegistry.findByJobId(jobId).ifPresent(importStatus -> {
+            if (!importStatus.isFinished())
+                throw new DataImportFromFileException("Import job with id " + jobId + " is still running.");
+            if (importStatus.isCompleted())
+                throw new DataImportFromFileException("Import job with id " + jobId + " has already completed.");
+        });
+        List<ImportCheckpoint> checkpoints = importCheckpointRepository.findByJobIdOrderByPartitionIndex(jobId);
+        if (checkpoints.isEmpty())
+            throw new ImportJobNotFoundException("No checkpoint found for import job with id " + jobId);
+        Path storedFile = Path.of(checkpoints.get(0).getFilePath());
+        if (!Files.isReadable(storedFile))
+            throw new DataImportFromFileException("The file of import job with id " + jobId +
+                    " is no longer available.");
+        ImportStatus importStatus = importJobRegistry.register(jobId, checkpoints.get(0).getFileName());
+        boolean tolerant = checkpoints.get(0).isTolerant();
+        importStatus.setTolerant(tolerant);
+        submit(importStatus, () -> runImport(importStatus, storedFile, tolerant, checkpoints));
+        return importStatus;
+    }
+
+    public ImportStatus getImportStatus(String jobId) {
+        return importJobRegistry.getByJobId(jobId);
+    }
+
+    public ImportStatus getLatestImportStatus() {
+        return importJobRegistry.getLatest();
+    }
+
+    public List<ImportStatus> getImportStatuses() {
+        return importJobRegistry.getAll();
+    }
+
+    /**
+     * Returns the CSV file with the rows rejected by a tolerant import job. The file is kept after the job
+     * has finished, until the retention period expires.
+     *
+     * @param jobId The ID of the import job.
+     * @return The path of the rejected rows file.
+     * @throws ImportJobNotFoundException If no rejected rows were recorded for the job.
+     */
+    public Path getRejectedRows(String jobId) {
+        Path rejectedRowsFile = rejectedRowsPath(jobId);
+        if (!Files.isReadable(rejectedRowsFile))
+            throw new ImportJobNotFoundException("No rejected rows recorded for import job with id " + jobId);
+        return rejectedRowsFile;
+    }
+
+    /**
+     * Removes statuses of finished jobs, files and checkpoints of jobs which were not resumed, and rejected
+     * rows files after the retention period.
+     */
+    @Scheduled(fixedDelayString = "${person.import.cleanup-interval:PT10M}")
+    public void removeExpiredJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(importProperties.getJobRetention());
+        importJobRegistry.removeJobsFinishedBefore(threshold);
+        importCheckpointRepository.findJobIdsUpdatedBefore(threshold).stream()
+                .filter(jobId -> importJobRegistry.findByJobId(jobId).map(ImportStatus::isFinished).orElse(true))
+                .forEach(this::discardCheckpoints);
+        removeRejectedRowsFilesModifiedBefore(threshold);
+    }
+
+    private void removeRejectedRowsFilesModifiedBefore(LocalDateTime threshold) {
+        Path workDirectory = importProperties.getWorkDirectory();
+        if (!Files.isDirectory(workDirectory))
+            return;
+        Instant modifiedBefore = threshold.atZone(ZoneId.systemDefault()).toInstant();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(workDirectory, "*" + REJECTED_ROWS_SUFFIX)) {
+            for (Path file : files) {
+                String jobId = file.getFileName().toString().replace(REJECTED_ROWS_SUFFIX, "");
+                boolean running = importJobRegistry.findByJobId(jobId).map(status -> !status.isFinished()).orElse(false);
+                if (!running && Files.getLastModifiedTime(file).toInstant().isBefore(modifiedBefore))
+                    deleteQuietly(file);
+            }
+        } catch (IOException e) {
+            log.warn("Unable to remove expired rejected rows files from {}", workDirectory, e);
+        }
+    }
+
+    private Path rejectedRowsPath(String jobId) {
+        return importProperties.getWorkDirectory().resolve(jobId + REJECTED_ROWS_SUFFIX).toAbsolutePath();
+    }
 
-    private final ReentrantLock importLock = new ReentrantLock();
+    private void submit(ImportStatus importStatus, Runnable job) {
+        try {
+            importTaskExecutor.execute(job);
+        } catch (TaskRejectedException e) {
+            importJobRegistry.remove(importStatus.getJobId());
+            throw new DataImportFromFileException("Too many imports are waiting. Try again later.");
+        }
+    }
 
-    @Async("threadPoolTaskExecutor")
-    public CompletableFuture<Void> importPeopleFromCsvFile(MultipartFile file) {
-        importStatus = new ImportStatus();
-        CompletableFuture<Void> future = new CompletableFuture<>();
-        if (importLock.tryLock()) {
+    /**
+     * Runs the import job.
+     *
+     * @param checkpoints The checkpoints to continue from, or null for a new job.
+     */
+    private void runImport(ImportStatus importStatus, Path file, boolean tolerant, List<ImportCheckpoint> checkpoints) {
+        importStatus.setInProgress(true);
+        importStatus.setStartTime(LocalDateTime.now());
+        ImportJob job = null;
+        boolean checkpointed = checkpoints != null;
+        try {
+            if (!checkpointed) {
+                checkpoints = createCheckpoints(importStatus, file, tolerant);
+                checkpointed = true;
+            }
+            DictionarySnapshot dictionarySnapshot = dictionarySnapshotService
+                    .loadSnapshot(DictionarySnapshotService.IMPORT_DICTIONARY_IDS);
+            List<ImportPartitionStatus> partitionStatuses = checkpoints.stream()
+                    .map(checkpoint -> {
+                        ImportPartitionStatus partitionStatus = new ImportPartitionStatus(
+                                checkpoint.getPartitionIndex(), checkpoint.getEndOffset() - checkpoint.getStartOffset());
+                        partitionStatus.setProcessedRows(checkpoint.getCommittedRows());
+                        return partitionStatus;
+                    })
+                    .toList();
+            importStatus.setPartitions(partitionStatuses);
+            PeselIndex peselIndex = peselIndexService.loadIndex(Files.size(file) / ESTIMATED_ROW_SIZE);
+            long rejectedRows = checkpoints.stream().mapToLong(ImportCheckpoint::getRejectedRows).sum();
+            RejectedRowsFile rejectedRowsFile = tolerant
+                    ? new RejectedRowsFile(rejectedRowsPath(importStatus.getJobId()), rejectedRows)
+                    : null;
+            importStatus.setRejectedRows(rejectedRows);
+            job = new ImportJob(importStatus, file, dictionarySnapshot, peselIndex, rejectedRowsFile, checkpoints.stream()
+                    .mapToLong(ImportCheckpoint::getCommittedRows)
+                    .sum());
+            importStatus.setProcessedRows(job.getImportedCount().get());
+            ImportJob runningJob = job;
+            List<Future<Void>> futures = checkpoints.stream()
+                    .filter(checkpoint -> !checkpoint.isFinished())
+                    .<Future<Void>>map(checkpoint -> importPartitionPool.submit(() -> {
+                        try {
+                            new PartitionImporter(runningJob, checkpoint,
+                                    partitionStatuses.get(checkpoint.getPartitionIndex()), personFromCsvFactory,
+                                    personBatchWriter, importProperties.getChunkSize()).run();
+                            return (Void) null;
+                        } catch (Exception e) {
+                            runningJob.abort();
+                            throw e;
+                        }
+                    }))
+                    .toList();
+            awaitPartitions(futures);
+            if (job.isValidatingOnly())
+                throw new DictionaryValueNotFoundException(describeUnknownDictionaryValues(job));
+            publishResults(importStatus, job);
+            importStatus.setCompleted(true);
+            discardCheckpoints(importStatus.getJobId());
+        } catch (DataIntegrityViolationException | DuplicatePeselException e) {
+            publishResults(importStatus, job);
+            fail(importStatus, PartitionImporter.DUPLICATE_ENTRY, checkpointed);
+        } catch (Exception e) {
+            publishResults(importStatus, job);
+            fail(importStatus, "Error during data import. Invalid file content. Message: " + e.getMessage(),
+                    checkpointed);
+        } finally {
+            if (!checkpointed)
+                deleteQuietly(file);
+            importStatus.setInProgress(false);
+        }
+    }
+
+    private static String describeUnknownDictionaryValues(ImportJob job) {
+        return "Unknown dictionary values: " + job.getUnknownDictionaryValues().stream()
+                .map(value -> "'" + value.name() + "' in the dictionary with id " + value.dictionaryId())
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Fills in the final results of the job: the exact row counts, which are only raised to running totals while
+     * it runs, and the results which are not updated at all meanwhile. Called before the job is marked completed or
+     * failed, so a finished job is always reported with them.
+     */
+    private void publishResults(ImportStatus importStatus, ImportJob job) {
+        if (job != null) {
+            importStatus.setProcessedRows(job.getImportedCount().get());
+            if (job.getRejectedRowsFile() != null)
+                importStatus.setRejectedRows(job.getRejectedRowsFile().getCount());
+            importStatus.setUnknownDictionaryValues(List.copyOf(job.getUnknownDictionaryValues()));
+        }
+        importStatus.setEndTime(LocalDateTime.now());
+    }
+
+    /**
+     * Splits the file into partitions and saves their initial checkpoints. The line feeds of the partitions
+     * are counted in parallel to find the line at which each partition starts; line 1 is the header.
+     */
+    private List<ImportCheckpoint> createCheckpoints(ImportStatus importStatus, Path file, boolean tolerant)
+            throws IOException, ExecutionException, InterruptedException {
+        List<FilePartition> partitions = CsvFilePartitioner.partition(file, importProperties.getWriterThreads(),
+                importProperties.getMinPartitionSize().toBytes());
+        long[] lineFeeds = importPartitionPool.submit(() -> partitions.parallelStream()
+                .mapToLong(partition -> countLineFeeds(file, partition))
+                .toArray()).get();
+        List<ImportCheckpoint> checkpoints = new ArrayList<>(partitions.size());
+        long startLine = 2;
+        for (FilePartition partition : partitions) {
+            checkpoints.add(new ImportCheckpoint(importStatus.getJobId(), partition.getIndex(),
+                    importStatus.getFileName(), file.toString(), tolerant, partition.getStart(), partition.getEnd(),
+                    startLine));
+            startLine += lineFeeds[partition.getIndex()];
+        }
+        return importCheckpointRepository.saveAll(checkpoints);
+    }
+
+    private static long countLineFeeds(Path file, FilePartition partition) {
+        try {
+            return CsvFilePartitioner.countLineFeeds(file, partition);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Waits for all partitions and rethrows the first failure.
+     */
+    private void awaitPartitions(List<Future<Void>> futures) throws Exception {
+        Exception failure = null;
+        for (Future<Void> future : futures) {
             try {
-                if (file == null || file.isEmpty()) {
-                    future.completeExceptionally(new DataImportFromFileException("File is empty or does not exist."));
-                }
-                importStatus.setInProgress(true);
-                importStatus.setStartTime(LocalDateTime.now());
-                Stream<String> lines = new BufferedReader(new InputStreamReader(file.getInputStream())).lines();
-                AtomicLong importedCount = new AtomicLong(0);
-                try {
-                    lines
-                            .skip(1)
-                            .map(line -> line.split(","))
-                            .filter(parameters -> parameters.length > 0)
-                            .forEach(parameters -> {
-                                String personType = parameters[0].trim();
-                                CreatePersonFromCsvCommand command = new CreatePersonFromCsvCommand(personType, parameters);
-                                Person person = personFromCsvFactory.create(command);
-                                personRepository.save(person);
-                                importStatus.setProcessedRows(importedCount.incrementAndGet());
-                            });
-                } catch (DataIntegrityViolationException e) {
-                    future.completeExceptionally(new DataImportFromFileException("Duplicate entry. " +
-                            "Constraint violation: UC_PERSON_PESEL"));
-                }
-            } catch (Exception e) {
-                future.completeExceptionally(new DataImportFromFileException("Error during data import. " +
-                        "Invalid file content. Message: " + e.getMessage()));
-            } finally {
-                if (!future.isCompletedExceptionally()) {
-                    importStatus.setCompleted(true);
-                }
-                importStatus.setInProgress(false);
-                importStatus.setEndTime(LocalDateTime.now());
-                future.complete(null);
-                importLock.unlock();
+                future.get();
+            } catch (ExecutionException e) {
+                if (failure == null)
+                    failure = e.getCause() instanceof Exception cause ? cause : e;
             }
-        } else {
-            future.completeExceptionally(new DataImportFromFileException("Another import is already in progress."));
         }
-        return future;
+        if (failure != null)
+            throw failure;
     }
 
-    public ImportStatus getImportStatus() {
-        return importStatus;
+    private void fail(ImportStatus importStatus, String errorMessage, boolean resumable) {
+        importStatus.setErrorMessage(errorMessage);
+        importStatus.setResumable(resumable);
+        importStatus.setFailed(true);
+    }
+
+    private void discardCheckpoints(String jobId) {
+        importCheckpointRepository.findByJobIdOrderByPartitionIndex(jobId).stream()
+                .map(ImportCheckpoint::getFilePath)
+                .distinct()
+                .forEach(filePath -> deleteQuietly(Path.of(filePath)));
+        importCheckpointRepository.deleteByJobId(jobId);
+    }
+
+    private Path store(MultipartFile file, String jobId) {
+        try {
+            Path workDirectory = Files.createDirectories(importProperties.getWorkDirectory());
+            Path storedFile = workDirectory.resolve(jobId + ".csv").toAbsolutePath();
+            file.transferTo(storedFile);
+            return storedFile;
+        } catch (IOException e) {
+            throw new DataImportFromFileException("Unable to store the uploaded file. Message: " + e.getMessage());
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Unable to delete import file {}", file, e);
+        }
     }
 
 }
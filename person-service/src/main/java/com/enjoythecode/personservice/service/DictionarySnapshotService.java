@@ -0,0 +1,42 @@
+package com.enjoythecode.personservice.service;
+
+import com.enjoythecode.personservice.api.DictionaryServiceClient;
+import com.enjoythecode.personservice.dto.DictionaryValueSimpleDto;
+import com.enjoythecode.personservice.model.DictionarySnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * This service builds dictionary snapshots from the 'dictionary-service' data, fetching each dictionary
+ * with a single Feign call.
+ */
+@Service
+@RequiredArgsConstructor
+public class DictionarySnapshotService {
+
+    /**
+     * Dictionaries referenced by CSV rows: 'types' (1), 'positions' (2), 'university names' (3)
+     * and 'fields of study' (4).
+     */
+    public static final List<Long> IMPORT_DICTIONARY_IDS = List.of(1L, 2L, 3L, 4L);
+
+    private final DictionaryServiceClient dictionaryServiceClient;
+
+    public DictionarySnapshot loadSnapshot(Collection<Long> dictionaryIds) {
+        Map<Long, Map<String, Long>> valueIdsByDictionaryId = new HashMap<>();
+        dictionaryIds.forEach(dictionaryId -> valueIdsByDictionaryId.put(dictionaryId,
+                dictionaryServiceClient.getValuesByDictionaryId(dictionaryId).stream()
+                        .collect(Collectors.toMap(
+                                value -> DictionarySnapshot.normalize(value.getName()),
+                                DictionaryValueSimpleDto::getId,
+                                (first, second) -> first))));
+        return new DictionarySnapshot(valueIdsByDictionaryId);
+    }
+
+}
@@ -1,8 +1,9 @@
 package com.enjoythecode.personservice.service;
 
-import com.enjoythecode.personservice.api.DictionaryServiceClient;
+import com.enjoythecode.personservice.api.AsyncDictionaryServiceClient;
 import com.enjoythecode.personservice.command.CreateEmployeePositionCommand;
 import com.enjoythecode.personservice.command.UpdateEmployeePositionEndDateCommand;
+import com.enjoythecode.personservice.dto.DictionaryValueSimpleDto;
 import com.enjoythecode.personservice.exception.IllegalEmploymentDateException;
 import com.enjoythecode.personservice.exception.InvalidEntityException;
 import com.enjoythecode.personservice.exception.InvalidIdException;
@@ -19,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -30,15 +32,21 @@ public class EmployeePositionService {
 
     private final ModelMapper modelMapper;
 
-    private final DictionaryServiceClient dictionaryServiceClient;
+    private final AsyncDictionaryServiceClient asyncDictionaryServiceClient;
 
+    /**
+     * Resolves the new position in 'dictionary-service' while the employee and their positions are being loaded.
+     */
     @Transactional
     public EmployeePosition addPositionToEmployee(Long employeeId, CreateEmployeePositionCommand command) {
+        CompletableFuture<Long> newPositionIdLookup = asyncDictionaryServiceClient
+                .getDictionaryValueById(command.getPositionId())
+                .thenCompose(position -> asyncDictionaryServiceClient
+                        .getDictionaryValueByDictionaryIdAndName(2L, position.getName()))
+                .thenApply(DictionaryValueSimpleDto::getId);
         Employee employee = employeeService.getById(employeeId);
-        String newPositionName = dictionaryServiceClient.getDictionaryValueById(command.getPositionId()).getName();
-        Long newPositionId = dictionaryServiceClient
-                .getDictionaryValueByDictionaryIdAndName(2L, newPositionName).getId();
         List<EmployeePosition> existingPositions = employeePositionRepository.findByEmployeeId(employeeId);
+        Long newPositionId = AsyncDictionaryServiceClient.join(newPositionIdLookup);
         boolean allPositionsHaveEndDate = existingPositions.stream()
                 .allMatch(existingPosition -> existingPosition.getEndDate() != null);
         if (!allPositionsHaveEndDate)
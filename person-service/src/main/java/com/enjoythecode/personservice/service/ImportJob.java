@@ -0,0 +1,94 @@
+package com.enjoythecode.personservice.service;
+
+import com.enjoythecode.personservice.csv.RejectedRow;
+import com.enjoythecode.personservice.csv.RejectedRowsFile;
+import com.enjoythecode.personservice.model.DictionarySnapshot;
+import com.enjoythecode.personservice.model.ImportStatus;
+import com.enjoythecode.personservice.model.PeselIndex;
+import com.enjoythecode.personservice.model.UnknownDictionaryValue;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * State of a running import job shared by the importers of its partitions.
+ */
+@Getter
+class ImportJob {
+
+    private final ImportStatus importStatus;
+
+    private final Path file;
+
+    private final DictionarySnapshot dictionarySnapshot;
+
+    /**
+     * PESEL numbers stored before the job or accepted by it so far.
+     */
+    private final PeselIndex peselIndex;
+
+    /**
+     * File collecting rejected rows; null unless the job is tolerant.
+     */
+    private final RejectedRowsFile rejectedRowsFile;
+
+    private final Set<UnknownDictionaryValue> unknownDictionaryValues = new ConcurrentSkipListSet<>();
+
+    private final AtomicLong importedCount;
+
+    private final AtomicBoolean aborted = new AtomicBoolean(false);
+
+    /**
+     * Set by a strict job on its first unknown dictionary value: nothing is written afterwards, the rest of the file
+     * is only checked for further unknown values, so the job can fail with all of them at once.
+     */
+    private final AtomicBoolean validatingOnly = new AtomicBoolean(false);
+
+    ImportJob(ImportStatus importStatus, Path file, DictionarySnapshot dictionarySnapshot, PeselIndex peselIndex,
+              RejectedRowsFile rejectedRowsFile, long importedCount) {
+        this.importStatus = importStatus;
+        this.file = file;
+        this.dictionarySnapshot = dictionarySnapshot;
+        this.peselIndex = peselIndex;
+        this.rejectedRowsFile = rejectedRowsFile;
+        this.importedCount = new AtomicLong(importedCount);
+    }
+
+    boolean isTolerant() {
+        return rejectedRowsFile != null;
+    }
+
+    boolean isAborted() {
+        return aborted.get();
+    }
+
+    void abort() {
+        aborted.set(true);
+    }
+
+    boolean isValidatingOnly() {
+        return validatingOnly.get();
+    }
+
+    void stopWriting() {
+        validatingOnly.set(true);
+    }
+
+    void addImportedRows(int rows) {
+        importStatus.updateProcessedRows(importedCount.addAndGet(rows));
+    }
+
+    void appendRejectedRows(Collection<RejectedRow> rejectedRows) throws IOException {
+        if (rejectedRowsFile == null || rejectedRows.isEmpty())
+            return;
+        rejectedRowsFile.append(rejectedRows);
+        importStatus.updateRejectedRows(rejectedRowsFile.getCount());
+    }
+
+}
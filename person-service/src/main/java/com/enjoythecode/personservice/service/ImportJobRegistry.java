@@ -0,0 +1,72 @@
+package com.enjoythecode.personservice.service;
+
+import com.enjoythecode.personservice.exception.ImportJobNotFoundException;
+import com.enjoythecode.personservice.model.ImportStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This service keeps the statuses of import jobs by job ID.
+ */
+@Service
+public class ImportJobRegistry {
+
+    private final Map<String, ImportStatus> jobs = new ConcurrentHashMap<>();
+
+    public ImportStatus register(String fileName) {
+        return register(UUID.randomUUID().toString(), fileName);
+    }
+
+    /**
+     * Registers a new status for the job, replacing the previous status of the job if present.
+     */
+    public ImportStatus register(String jobId, String fileName) {
+        ImportStatus importStatus = new ImportStatus(jobId, fileName);
+        jobs.put(jobId, importStatus);
+        return importStatus;
+    }
+
+    public void remove(String jobId) {
+        jobs.remove(jobId);
+    }
+
+    public Optional<ImportStatus> findByJobId(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    public ImportStatus getByJobId(String jobId) {
+        return findByJobId(jobId)
+                .orElseThrow(() -> new ImportJobNotFoundException("Import job with id " + jobId + " not found"));
+    }
+
+    /**
+     * @return Statuses of all retained jobs, the most recently submitted first.
+     */
+    public List<ImportStatus> getAll() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparing(ImportStatus::getSubmitTime).reversed())
+                .toList();
+    }
+
+    /**
+     * @return Status of the most recently submitted job, or an empty status if no job is retained.
+     */
+    public ImportStatus getLatest() {
+        return jobs.values().stream()
+                .max(Comparator.comparing(ImportStatus::getSubmitTime))
+                .orElseGet(ImportStatus::new);
+    }
+
+    public void removeJobsFinishedBefore(LocalDateTime threshold) {
+        jobs.values().removeIf(job -> job.isFinished() && job.getEndTime() != null
+                && job.getEndTime().isBefore(threshold));
+    }
+
+}
@@ -0,0 +1,213 @@
+package com.enjoythecode.personservice.service;
+
+import com.enjoythecode.personservice.command.CreatePersonFromCsvCommand;
+import com.enjoythecode.personservice.csv.CsvRow;
+import com.enjoythecode.personservice.csv.CsvTokenizer;
+import com.enjoythecode.personservice.csv.FilePartition;
+import com.enjoythecode.personservice.csv.RejectedRow;
+import com.enjoythecode.personservice.exception.DictionaryValueNotFoundException;
+import com.enjoythecode.personservice.exception.DuplicatePeselException;
+import com.enjoythecode.personservice.factory.cteatorfromcsv.PersonFromCsvFactory;
+import com.enjoythecode.personservice.model.ImportCheckpoint;
+import com.enjoythecode.personservice.model.ImportPartitionStatus;
+import com.enjoythecode.personservice.model.Person;
+import com.enjoythecode.personservice.model.UnknownDictionaryValue;
+import com.enjoythecode.personservice.repository.PersonBatchWriter;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Imports the rows of one partition of an import job, starting at the partition checkpoint. Accepted rows are
+ * written in chunks, each chunk together with the updated checkpoint. Rows whose PESEL is already stored or
+ * has been accepted earlier in the file are detected in memory with the PESEL index of the job, before the
+ * person is created.
+ * <p>
+ * In tolerant mode invalid rows are rejected instead of failing the job. A chunk rejected by the database
+ * is retried row by row to isolate the offending rows. Rejected rows are held only until their chunk is
+ * committed and then appended to the rejected rows file of the job, so memory usage is bounded by the chunk size.
+ * In strict mode an unknown dictionary value stops the writing of all partitions, which then only check the rest
+ * of their rows for further unknown values.
+ */
+class PartitionImporter {
+
+    static final String DUPLICATE_ENTRY = "Duplicate entry. Constraint violation: UC_PERSON_PESEL";
+
+    private static final int PESEL_COLUMN = 3;
+
+    private final ImportJob job;
+
+    private final ImportCheckpoint checkpoint;
+
+    private final ImportPartitionStatus partitionStatus;
+
+    private final PersonFromCsvFactory personFromCsvFactory;
+
+    private final PersonBatchWriter personBatchWriter;
+
+    private final int chunkSize;
+
+    private final List<Person> chunk;
+
+    private final long[] chunkLines;
+
+    private final long[] chunkOffsets;
+
+    private final List<RejectedRow> rejectedRows = new ArrayList<>();
+
+    PartitionImporter(ImportJob job, ImportCheckpoint checkpoint, ImportPartitionStatus partitionStatus,
+                      PersonFromCsvFactory personFromCsvFactory, PersonBatchWriter personBatchWriter, int chunkSize) {
+        this.job = job;
+        this.checkpoint = checkpoint;
+        this.partitionStatus = partitionStatus;
+        this.personFromCsvFactory = personFromCsvFactory;
+        this.personBatchWriter = personBatchWriter;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.chunk = new ArrayList<>(this.chunkSize);
+        this.chunkLines = new long[this.chunkSize];
+        this.chunkOffsets = new long[this.chunkSize];
+    }
+
+    /**
+     * Imports the partition. Stops early once another partition of the same job has failed.
+     */
+    void run() throws IOException {
+        partitionStatus.setProcessedRowsAtStart(partitionStatus.getProcessedRows());
+        partitionStatus.setStartTime(LocalDateTime.now());
+        FilePartition partition = new FilePartition(checkpoint.getPartitionIndex(), checkpoint.getNextOffset(),
+                checkpoint.getEndOffset());
+        try (CsvTokenizer tokenizer = CsvTokenizer.open(job.getFile(), partition, checkpoint.getNextLine())) {
+            CsvRow row;
+            while (!job.isAborted() && (row = tokenizer.next()) != null) {
+                Person person = createPerson(row);
+                if (job.isValidatingOnly()) {
+                    chunk.clear();
+                    continue;
+                }
+                if (person != null) {
+                    chunkLines[chunk.size()] = row.getLineNumber();
+                    chunkOffsets[chunk.size()] = row.getOffset();
+                    chunk.add(person);
+                }
+                if (chunk.size() >= chunkSize || rejectedRows.size() >= chunkSize)
+                    commit(tokenizer.getOffset(), tokenizer.getLineNumber());
+            }
+            if (!job.isAborted() && !job.isValidatingOnly())
+                commit(tokenizer.getOffset(), tokenizer.getLineNumber());
+        } finally {
+            partitionStatus.setEndTime(LocalDateTime.now());
+        }
+    }
+
+    private Person createPerson(CsvRow row) {
+        try {
+            if (!job.isValidatingOnly() && job.getPeselIndex().contains(row.getString(PESEL_COLUMN)))
+                throw new DuplicatePeselException(DUPLICATE_ENTRY);
+            CreatePersonFromCsvCommand command = new CreatePersonFromCsvCommand(row.getString(0), row);
+            Person person = personFromCsvFactory.create(command, job.getDictionarySnapshot());
+            if (job.isValidatingOnly())
+                return null;
+            if (!job.getPeselIndex().add(person.getPesel()))
+                throw new DuplicatePeselException(DUPLICATE_ENTRY);
+            return person;
+        } catch (DictionaryValueNotFoundException e) {
+            if (e.getName() == null && !job.isTolerant())
+                throw e;
+            if (e.getName() != null)
+                job.getUnknownDictionaryValues().add(new UnknownDictionaryValue(e.getDictionaryId(), e.getName()));
+            if (job.isTolerant())
+                reject(row, e.getMessage());
+            else
+                job.stopWriting();
+        } catch (RuntimeException e) {
+            if (job.isValidatingOnly())
+                return null;
+            if (!job.isTolerant())
+                throw e;
+            reject(row, describe(e));
+        }
+        return null;
+    }
+
+    private void reject(CsvRow row, String reason) {
+        if (job.isTolerant())
+            rejectedRows.add(new RejectedRow(row.getLineNumber(), reason, row.getRaw()));
+    }
+
+    /**
+     * Writes the chunk with the checkpoint moved to {@code nextOffset} and appends the rejected rows.
+     */
+    private void commit(long nextOffset, long nextLine) throws IOException {
+        if (chunk.isEmpty() && rejectedRows.isEmpty())
+            return;
+        long committedRows = checkpoint.getCommittedRows();
+        long committedChunks = checkpoint.getCommittedChunks();
+        long rejectedBefore = checkpoint.getRejectedRows();
+        int written = chunk.size();
+        updateCheckpoint(nextOffset, nextLine, committedRows + written, committedChunks + 1,
+                rejectedBefore + rejectedRows.size());
+        try {
+            personBatchWriter.writeChunk(chunk, checkpoint);
+        } catch (DataIntegrityViolationException e) {
+            if (!job.isTolerant())
+                throw e;
+            written = writeRowByRow();
+            updateCheckpoint(nextOffset, nextLine, committedRows + written, committedChunks + 1,
+                    rejectedBefore + rejectedRows.size());
+            personBatchWriter.saveCheckpoint(checkpoint);
+        }
+        rejectedRows.sort(Comparator.comparingLong(RejectedRow::getLineNumber));
+        job.appendRejectedRows(rejectedRows);
+        partitionStatus.setProcessedRows(partitionStatus.getProcessedRows() + written);
+        job.addImportedRows(written);
+        chunk.clear();
+        rejectedRows.clear();
+    }
+
+    private int writeRowByRow() throws IOException {
+        int written = 0;
+        for (int i = 0; i < chunk.size(); i++) {
+            Person person = chunk.get(i);
+            person.setId(null);
+            person.setVersion(null);
+            try {
+                personBatchWriter.writeOne(person);
+                written++;
+            } catch (DataIntegrityViolationException e) {
+                rejectedRows.add(new RejectedRow(chunkLines[i], DUPLICATE_ENTRY, readRaw(chunkOffsets[i], chunkLines[i])));
+            }
+        }
+        return written;
+    }
+
+    private String readRaw(long offset, long lineNumber) throws IOException {
+        FilePartition partition = new FilePartition(checkpoint.getPartitionIndex(), offset, checkpoint.getEndOffset());
+        try (CsvTokenizer tokenizer = CsvTokenizer.open(job.getFile(), partition, lineNumber)) {
+            return tokenizer.next().getRaw();
+        }
+    }
+
+    private void updateCheckpoint(long nextOffset, long nextLine, long committedRows, long committedChunks,
+                                  long rejected) {
+        checkpoint.setNextOffset(nextOffset);
+        checkpoint.setNextLine(nextLine);
+        checkpoint.setCommittedRows(committedRows);
+        checkpoint.setCommittedChunks(committedChunks);
+        checkpoint.setRejectedRows(rejected);
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+    }
+
+    private static String describe(RuntimeException e) {
+        if (e instanceof NumberFormatException)
+            return "Invalid number. " + e.getMessage();
+        if (e instanceof DateTimeException)
+            return "Invalid date. " + e.getMessage();
+        return e.getMessage();
+    }
+
+}
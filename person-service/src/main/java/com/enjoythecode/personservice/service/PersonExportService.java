@@ -0,0 +1,175 @@
+package com.enjoythecode.personservice.service;
+
+import com.enjoythecode.personservice.dto.PersonDto;
+import com.enjoythecode.personservice.factory.converter.PersonDtoConverterFactory;
+import com.enjoythecode.personservice.factory.specification.PersonSearchSpecification;
+import com.enjoythecode.personservice.model.ExportFormat;
+import com.enjoythecode.personservice.model.Person;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * This service exports people matching the search parameters as NDJSON or CSV. People are read through
+ * a server-side cursor and written to the response one by one; every written entity is detached, so memory
+ * usage does not grow with the number of exported people.
+ */
+@Service
+public class PersonExportService {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final TypeReference<Map<String, Object>> PROPERTIES_TYPE = new TypeReference<>() {
+    };
+
+    private final PersonSearchSpecification personSearchSpecification;
+
+    private final PersonDtoConverterFactory personDtoConverterFactory;
+
+    private final EntityManager entityManager;
+
+    private final ObjectMapper objectMapper;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * CSV columns: the properties of all person DTO types, in declaration order.
+     */
+    private final List<String> csvColumns;
+
+    public PersonExportService(PersonSearchSpecification personSearchSpecification,
+                               PersonDtoConverterFactory personDtoConverterFactory, EntityManager entityManager,
+                               ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.personSearchSpecification = personSearchSpecification;
+        this.personDtoConverterFactory = personDtoConverterFactory;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper.copy().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.csvColumns = findCsvColumns(objectMapper);
+    }
+
+    /**
+     * Prepares the export of people matching the parameters. The parameters are resolved immediately,
+     * so invalid parameters are reported before the response is committed; the people are read when
+     * the returned body is written.
+     *
+     * @param parameters The search parameters, as accepted by {@link PersonSearchSpecification#filterByCriteria}.
+     * @param format The export format.
+     * @return The response body writing the export.
+     */
+    public StreamingResponseBody export(Map<String, String> parameters, ExportFormat format) {
+        Specification<Person> specification = personSearchSpecification.filterByCriteria(parameters);
+        return outputStream -> transactionTemplate.executeWithoutResult(status -> {
+            try {
+                write(specification, format, outputStream);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void write(Specification<Person> specification, ExportFormat format, OutputStream outputStream)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        try (Stream<Person> people = streamPeople(specification)) {
+            switch (format) {
+                case NDJSON -> writeNdjson(people, writer);
+                case CSV -> writeCsv(people, writer);
+            }
+        }
+        writer.flush();
+    }
+
+    private Stream<Person> streamPeople(Specification<Person> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Person> query = criteriaBuilder.createQuery(Person.class);
+        Root<Person> root = query.from(Person.class);
+        query.where(specification.toPredicate(root, query, criteriaBuilder));
+        query.orderBy(criteriaBuilder.asc(root.get("id")));
+        return entityManager.createQuery(query)
+                .setHint(AvailableHints.HINT_FETCH_SIZE, FETCH_SIZE)
+                .setHint(AvailableHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private void writeNdjson(Stream<Person> people, Writer writer) throws IOException {
+        ObjectWriter objectWriter = objectMapper.writerFor(PersonDto.class);
+        for (Person person : (Iterable<Person>) people::iterator) {
+            objectWriter.writeValue(writer, convert(person));
+            writer.write('\n');
+        }
+    }
+
+    private void writeCsv(Stream<Person> people, Writer writer) throws IOException {
+        writeCsvRow(writer, csvColumns);
+        for (Person person : (Iterable<Person>) people::iterator) {
+            Map<String, Object> properties = objectMapper.convertValue(convert(person), PROPERTIES_TYPE);
+            writeCsvRow(writer, csvColumns.stream()
+                    .map(properties::get)
+                    .toList());
+        }
+    }
+
+    private PersonDto convert(Person person) {
+        PersonDto personDto = personDtoConverterFactory.convert(person);
+        entityManager.detach(person);
+        return personDto;
+    }
+
+    private static void writeCsvRow(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0)
+                writer.write(',');
+            Object value = values.get(i);
+            if (value != null)
+                writer.write(quote(value.toString()));
+        }
+        writer.write('\n');
+    }
+
+    private static String quote(String value) {
+        boolean quoted = value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0
+                || value.indexOf('\r') >= 0;
+        return quoted ? "\"" + value.replace("\"", "\"\"") + "\"" : value;
+    }
+
+    private static List<String> findCsvColumns(ObjectMapper objectMapper) {
+        Set<String> columns = new LinkedHashSet<>();
+        Stream.concat(Stream.of(PersonDto.class), Arrays.stream(PersonDto.class.getAnnotation(JsonSubTypes.class).value())
+                        .map(JsonSubTypes.Type::value))
+                .map(type -> objectMapper.getSerializationConfig().introspect(objectMapper.constructType(type)))
+                .forEach(description -> description.findProperties().stream()
+                        .map(BeanPropertyDefinition::getName)
+                        .forEach(columns::add));
+        return List.copyOf(columns);
+    }
+
+}
@@ -3,32 +3,50 @@ package com.enjoythecode.personservice.service;
 import com.enjoythecode.personservice.api.DictionaryServiceClient;
 import com.enjoythecode.personservice.command.CreatePersonCommand;
 import com.enjoythecode.personservice.command.UpdatePersonCommand;
+import com.enjoythecode.personservice.exception.InvalidCursorException;
 import com.enjoythecode.personservice.exception.InvalidEntityException;
 import com.enjoythecode.personservice.exception.InvalidIdException;
 import com.enjoythecode.personservice.exception.PersonNotFoundException;
 import com.enjoythecode.personservice.exception.UpdateOptimisticLockingException;
+import com.enjoythecode.personservice.factory.PersonTypeRegistry;
 import com.enjoythecode.personservice.factory.creator.PersonFactory;
 import com.enjoythecode.personservice.factory.specification.PersonSearchSpecification;
 import com.enjoythecode.personservice.factory.updater.PersonUpdaterFactory;
 import com.enjoythecode.personservice.model.Person;
 import com.enjoythecode.personservice.repository.PersonRepository;
+import com.enjoythecode.personservice.util.KeysetCursorCodec;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class PersonService {
 
+    private static final String ID_PROPERTY = "id";
+
+    /**
+     * Properties which may be used as keyset pagination sort keys; all are non-null columns.
+     */
+    private static final Set<String> KEYSET_SORT_PROPERTIES = Set.of(ID_PROPERTY, "typeId", "firstName",
+            "lastName", "pesel");
+
     private final PersonRepository personRepository;
 
     private final PersonUpdaterFactory personUpdaterFactory;
@@ -39,12 +57,54 @@ public class PersonService {
 
     private final DictionaryServiceClient dictionaryServiceClient;
 
+    private final PersonTypeRegistry personTypeRegistry;
+
+    private final EntityManager entityManager;
+
     @Transactional(readOnly = true)
     public Page<Person> getPeople(Map<String, String> params, Pageable pageable) {
         Specification<Person> specification = personSearchSpecification.filterByCriteria(params);
         return personRepository.findAll(specification, pageable);
     }
 
+    /**
+     * Returns the people following the cursor, using keyset pagination: rows are selected by comparing
+     * the sort key with the key of the last row of the previous window, and no count query is run, so
+     * the cost does not depend on how deep the window is. The id is always the last sort key, which makes
+     * the order stable.
+     *
+     * @param params The search parameters.
+     * @param after The cursor of the previous window, or an empty string for the first window.
+     * @param size The maximum number of people in the window.
+     * @param sort The order of people; only non-null properties are supported. Defaults to the id.
+     * @return The window of people with the position of its last person.
+     * @throws InvalidCursorException If the cursor is malformed or was issued for a different order.
+     */
+    @Transactional(readOnly = true)
+    public Window<Person> getPeopleAfter(Map<String, String> params, String after, int size, Sort sort) {
+        Sort keysetSort = sort.getOrderFor(ID_PROPERTY) != null ? sort : sort.and(Sort.by(ID_PROPERTY));
+        Set<String> keys = new LinkedHashSet<>();
+        keysetSort.forEach(order -> {
+            if (!KEYSET_SORT_PROPERTIES.contains(order.getProperty()))
+                throw new InvalidCursorException("Sorting by '" + order.getProperty() +
+                        "' is not supported with cursor pagination");
+            keys.add(order.getProperty());
+        });
+        KeysetScrollPosition position = ScrollPosition.keyset();
+        if (!after.isEmpty()) {
+            position = KeysetCursorCodec.decode(after, key -> entityManager.getMetamodel()
+                    .entity(Person.class).getAttribute(key).getJavaType());
+            if (!position.getKeys().keySet().equals(keys))
+                throw new InvalidCursorException("Cursor was issued for a different order");
+        }
+        Specification<Person> specification = personSearchSpecification.filterByCriteria(params);
+        KeysetScrollPosition start = position;
+        return personRepository.findBy(specification, query -> query
+                .sortBy(keysetSort)
+                .limit(size)
+                .scroll(start));
+    }
+
     public Person edit(Long id, UpdatePersonCommand command) {
         if (!id.equals(command.getId()))
             throw new InvalidIdException("Identifiers provided in path variable and request body do not match");
@@ -84,6 +144,7 @@ public class PersonService {
 
     public void createNewType(String name) {
         dictionaryServiceClient.addValueToTypeDictionary(name);
+        personTypeRegistry.load();
     }
 
 }
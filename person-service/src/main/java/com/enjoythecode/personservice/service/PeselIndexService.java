@@ -0,0 +1,35 @@
+package com.enjoythecode.personservice.service;
+
+import com.enjoythecode.personservice.model.PeselIndex;
+import com.enjoythecode.personservice.repository.PersonRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+/**
+ * This service builds PESEL indexes seeded with the PESEL numbers already stored in the database.
+ */
+@Service
+@RequiredArgsConstructor
+public class PeselIndexService {
+
+    private final PersonRepository personRepository;
+
+    /**
+     * Loads the stored PESEL numbers into a new index, streaming them without loading the entities.
+     *
+     * @param expectedNewRows The number of PESEL numbers expected to be added to the index later.
+     * @return The seeded index.
+     */
+    @Transactional(readOnly = true)
+    public PeselIndex loadIndex(long expectedNewRows) {
+        PeselIndex peselIndex = new PeselIndex(personRepository.count() + expectedNewRows);
+        try (Stream<String> pesels = personRepository.streamAllPesels()) {
+            pesels.forEach(peselIndex::add);
+        }
+        return peselIndex;
+    }
+
+}
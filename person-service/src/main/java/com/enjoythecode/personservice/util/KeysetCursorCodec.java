@@ -0,0 +1,61 @@
+package com.enjoythecode.personservice.util;
+
+import com.enjoythecode.personservice.exception.InvalidCursorException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Encodes keyset scroll positions as opaque, URL-safe cursor tokens and decodes them back. A token is
+ * the Base64-encoded JSON map of the sort keys of the last returned row.
+ */
+public final class KeysetCursorCodec {
+
+    private static final TypeReference<LinkedHashMap<String, Object>> KEYS_TYPE = new TypeReference<>() {
+    };
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    private KeysetCursorCodec() {
+    }
+
+    public static String encode(KeysetScrollPosition position) {
+        try {
+            byte[] json = OBJECT_MAPPER.writeValueAsBytes(position.getKeys());
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to encode keyset position " + position, e);
+        }
+    }
+
+    /**
+     * Decodes the token into a forward keyset position.
+     *
+     * @param token The cursor token.
+     * @param keyTypes Returns the type of the value of the given key, used to restore values which JSON
+     *                 does not preserve (e.g. a Long read back as an Integer).
+     * @throws InvalidCursorException If the token is malformed.
+     */
+    public static KeysetScrollPosition decode(String token, Function<String, Class<?>> keyTypes) {
+        try {
+            Map<String, Object> keys = OBJECT_MAPPER.readValue(Base64.getUrlDecoder().decode(token), KEYS_TYPE);
+            Map<String, Object> typedKeys = new LinkedHashMap<>();
+            keys.forEach((key, value) -> typedKeys.put(key,
+                    DefaultConversionService.getSharedInstance().convert(value, keyTypes.apply(key))));
+            return ScrollPosition.forward(typedKeys);
+        } catch (IllegalArgumentException | ConversionException | IOException e) {
+            throw new InvalidCursorException("Invalid cursor '" + token + "'");
+        }
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.enjoythecode.personservice.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter of primitive longs. Answers whether a value might have been added, with no false negatives
+ * and a false positive probability chosen at construction. Bits are set with atomic operations,
+ * so the filter can be read and updated from several threads without locking.
+ */
+public final class LongBloomFilter {
+
+    private final AtomicLongArray bits;
+
+    private final long bitCount;
+
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions The number of values the filter is sized for.
+     * @param falsePositiveProbability The false positive probability at the expected number of values.
+     */
+    public LongBloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        long insertions = Math.max(expectedInsertions, 1);
+        long optimalBits = (long) (-insertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Math.max((optimalBits + 63) / 64, 1), Integer.MAX_VALUE - 8);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = (int) Math.max(1, Math.round((double) bitCount / insertions * Math.log(2)));
+    }
+
+    public void put(long value) {
+        long hash = LongHashSet.mix(value);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = Math.floorMod(hash1 + (long) i * hash2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            while (((current = bits.get(word)) & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                // another thread has changed the word in the meantime; retry
+            }
+        }
+    }
+
+    public boolean mightContain(long value) {
+        long hash = LongHashSet.mix(value);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = Math.floorMod(hash1 + (long) i * hash2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0)
+                return false;
+        }
+        return true;
+    }
+
+}
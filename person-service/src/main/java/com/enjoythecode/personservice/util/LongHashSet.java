@@ -0,0 +1,110 @@
+package com.enjoythecode.personservice.util;
+
+/**
+ * Set of primitive longs using open addressing with linear probing. Stores values in a flat array,
+ * so it needs neither boxing nor an entry object per element. Not thread-safe.
+ */
+public final class LongHashSet {
+
+    private static final long EMPTY = 0L;
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private long[] table;
+
+    private int mask;
+
+    private int size;
+
+    /**
+     * The value 0 marks empty slots, so its membership is tracked separately.
+     */
+    private boolean containsZero;
+
+    public LongHashSet(int expectedSize) {
+        int capacity = tableSizeFor(Math.max(expectedSize, 8));
+        table = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    public boolean contains(long value) {
+        if (value == EMPTY)
+            return containsZero;
+        int index = indexOf(value);
+        long slot;
+        while ((slot = table[index]) != EMPTY) {
+            if (slot == value)
+                return true;
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Adds the value to the set.
+     *
+     * @return true if the set did not contain the value yet.
+     */
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            boolean added = !containsZero;
+            containsZero = true;
+            if (added)
+                size++;
+            return added;
+        }
+        int index = indexOf(value);
+        long slot;
+        while ((slot = table[index]) != EMPTY) {
+            if (slot == value)
+                return false;
+            index = (index + 1) & mask;
+        }
+        table[index] = value;
+        if (++size > table.length / 2)
+            resize();
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void resize() {
+        if (table.length >= MAX_CAPACITY)
+            throw new IllegalStateException("LongHashSet cannot grow beyond " + MAX_CAPACITY + " slots");
+        long[] oldTable = table;
+        table = new long[oldTable.length * 2];
+        mask = table.length - 1;
+        for (long value : oldTable) {
+            if (value == EMPTY)
+                continue;
+            int index = indexOf(value);
+            while (table[index] != EMPTY)
+                index = (index + 1) & mask;
+            table[index] = value;
+        }
+    }
+
+    private int indexOf(long value) {
+        return (int) mix(value) & mask;
+    }
+
+    /**
+     * Finalization step of MurmurHash3, spreading sequential values over the whole table.
+     */
+    public static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        long capacity = Long.highestOneBit((long) expectedSize * 2 - 1) << 1;
+        return (int) Math.min(capacity, MAX_CAPACITY);
+    }
+
+}
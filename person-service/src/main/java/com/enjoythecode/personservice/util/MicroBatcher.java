@@ -0,0 +1,111 @@
+package com.enjoythecode.personservice.util;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent single-key loads into bulk loads. Concurrent loads of the same key share one future,
+ * and the distinct keys requested within the batch window are loaded together with one call of the batch loader.
+ * A batch is loaded as soon as it reaches the maximum size, otherwise when the window elapses.
+ * <p>
+ * Keys the batch loader does not return complete exceptionally with the exception built for them, and a failure
+ * of the batch loader fails every key of the batch. Nothing is cached: once a future completes, the next load
+ * of its key starts a new batch.
+ *
+ * @param <K> The type of keys.
+ * @param <V> The type of loaded values.
+ */
+public final class MicroBatcher<K, V> {
+
+    private final Function<Set<K>, Map<K, V>> batchLoader;
+
+    private final Function<K, RuntimeException> missingKeyException;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final long windowNanos;
+
+    private final int maxBatchSize;
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final Object lock = new Object();
+
+    private Set<K> pending = new LinkedHashSet<>();
+
+    private boolean flushScheduled;
+
+    /**
+     * @param batchLoader Loads the values of a batch of keys.
+     * @param missingKeyException Builds the exception for a key the batch loader did not return.
+     * @param scheduler Runs the batches whose window elapsed.
+     * @param window How long the first key of a batch waits for others. A zero window loads every key at once.
+     * @param maxBatchSize The number of keys at which a batch is loaded without waiting for the window.
+     */
+    public MicroBatcher(Function<Set<K>, Map<K, V>> batchLoader, Function<K, RuntimeException> missingKeyException,
+                        ScheduledExecutorService scheduler, Duration window, int maxBatchSize) {
+        this.batchLoader = batchLoader;
+        this.missingKeyException = missingKeyException;
+        this.scheduler = scheduler;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = Math.max(maxBatchSize, 1);
+    }
+
+    public CompletableFuture<V> load(K key) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null)
+            return existing;
+        Set<K> fullBatch = null;
+        synchronized (lock) {
+            pending.add(key);
+            if (windowNanos <= 0 || pending.size() >= maxBatchSize) {
+                fullBatch = pending;
+                pending = new LinkedHashSet<>();
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                scheduler.schedule(this::flushPending, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        if (fullBatch != null)
+            loadBatch(fullBatch);
+        return future;
+    }
+
+    private void flushPending() {
+        Set<K> batch;
+        synchronized (lock) {
+            batch = pending;
+            pending = new LinkedHashSet<>();
+            flushScheduled = false;
+        }
+        if (!batch.isEmpty())
+            loadBatch(batch);
+    }
+
+    private void loadBatch(Set<K> batch) {
+        Map<K, V> values;
+        try {
+            values = batchLoader.apply(batch);
+        } catch (RuntimeException e) {
+            batch.forEach(key -> inFlight.remove(key).completeExceptionally(e));
+            return;
+        }
+        for (K key : batch) {
+            CompletableFuture<V> future = inFlight.remove(key);
+            V value = values.get(key);
+            if (value != null)
+                future.complete(value);
+            else
+                future.completeExceptionally(missingKeyException.apply(key));
+        }
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.enjoythecode.personservice.util;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/**
+ * Decodes the birth date encoded in the first six digits of a PESEL number (YYMMDD). The century is encoded
+ * in the month: 81-92 for the 1800s, 01-12 for the 1900s, 21-32 for the 2000s, 41-52 for the 2100s and
+ * 61-72 for the 2200s.
+ */
+public final class PeselDecoder {
+
+    private static final int BIRTH_DATE_LENGTH = 6;
+
+    private PeselDecoder() {
+    }
+
+    /**
+     * Returns the birth date encoded in the PESEL, or null if it does not start with a valid date.
+     */
+    public static LocalDate decodeBirthDate(String pesel) {
+        if (pesel == null || pesel.length() < BIRTH_DATE_LENGTH)
+            return null;
+        for (int i = 0; i < BIRTH_DATE_LENGTH; i++) {
+            if (!Character.isDigit(pesel.charAt(i)))
+                return null;
+        }
+        int year = Integer.parseInt(pesel, 0, 2, 10);
+        int encodedMonth = Integer.parseInt(pesel, 2, 4, 10);
+        int day = Integer.parseInt(pesel, 4, 6, 10);
+        int century = switch (encodedMonth / 20) {
+            case 0 -> 1900;
+            case 1 -> 2000;
+            case 2 -> 2100;
+            case 3 -> 2200;
+            default -> 1800;
+        };
+        try {
+            return LocalDate.of(century + year, encodedMonth % 20, day);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+}
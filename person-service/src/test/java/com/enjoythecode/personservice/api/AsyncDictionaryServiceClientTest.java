@@ -0,0 +1,66 @@
+package com.enjoythecode.personservice.api;
+
+import com.enjoythecode.personservice.dto.DictionaryValueSimpleDto;
+import com.enjoythecode.personservice.exception.DictionaryValueNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+class AsyncDictionaryServiceClientTest {
+
+    private DictionaryServiceClient dictionaryServiceClient;
+
+    private ExecutorService executor;
+
+    private AsyncDictionaryServiceClient asyncDictionaryServiceClient;
+
+    @BeforeEach
+    public void setUp() {
+        dictionaryServiceClient = Mockito.mock(DictionaryServiceClient.class);
+        executor = Executors.newFixedThreadPool(2);
+        asyncDictionaryServiceClient = new AsyncDictionaryServiceClient(dictionaryServiceClient, executor);
+    }
+
+    @Test
+    public void shouldRunIndependentLookupsInParallel() {
+        //given
+        CountDownLatch bothLookupsStarted = new CountDownLatch(2);
+        when(dictionaryServiceClient.getDictionaryValueById(Mockito.anyLong())).thenAnswer(invocation -> {
+            bothLookupsStarted.countDown();
+            if (!bothLookupsStarted.await(5, TimeUnit.SECONDS))
+                throw new IllegalStateException("Lookups were not run in parallel");
+            return new DictionaryValueSimpleDto(invocation.getArgument(0), "value");
+        });
+        //when
+        CompletableFuture<DictionaryValueSimpleDto> universityName = asyncDictionaryServiceClient.getDictionaryValueById(5L);
+        CompletableFuture<DictionaryValueSimpleDto> fieldOfStudy = asyncDictionaryServiceClient.getDictionaryValueById(6L);
+        //then
+        assertEquals(5L, AsyncDictionaryServiceClient.join(universityName).getId());
+        assertEquals(6L, AsyncDictionaryServiceClient.join(fieldOfStudy).getId());
+    }
+
+    @Test
+    public void shouldRethrowExceptionOfFailedLookup() {
+        //given
+        when(dictionaryServiceClient.getDictionaryValueByDictionaryIdAndName(2L, "director"))
+                .thenThrow(new DictionaryValueNotFoundException("Dictionary value 'director' not found."));
+        //when
+        CompletableFuture<DictionaryValueSimpleDto> position =
+                asyncDictionaryServiceClient.getDictionaryValueByDictionaryIdAndName(2L, "director");
+        //then
+        assertThrows(DictionaryValueNotFoundException.class, () -> AsyncDictionaryServiceClient.join(position));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+}
@@ -0,0 +1,157 @@
+package com.enjoythecode.personservice.api;
+
+import com.enjoythecode.personservice.config.DictionaryCacheProperties;
+import com.enjoythecode.personservice.dto.DictionaryCacheStatsDto;
+import com.enjoythecode.personservice.dto.DictionaryValueSimpleDto;
+import feign.FeignException;
+import feign.Request;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachingDictionaryServiceClientTest {
+
+    private DictionaryServiceClient dictionaryServiceFeignClient;
+
+    private DictionaryCache dictionaryCache;
+
+    private CachingDictionaryServiceClient cachingDictionaryServiceClient;
+
+    @BeforeEach
+    public void setUp() {
+        dictionaryServiceFeignClient = Mockito.mock(DictionaryServiceClient.class);
+        dictionaryCache = new DictionaryCache(new DictionaryCacheProperties());
+        cachingDictionaryServiceClient = new CachingDictionaryServiceClient(dictionaryServiceFeignClient, dictionaryCache);
+    }
+
+    @Test
+    public void shouldFetchDictionaryValueOnlyOnce() {
+        //given
+        DictionaryValueSimpleDto manager = new DictionaryValueSimpleDto(2L, "manager");
+        when(dictionaryServiceFeignClient.getDictionaryValueById(2L)).thenReturn(manager);
+        //when
+        cachingDictionaryServiceClient.getDictionaryValueById(2L);
+        DictionaryValueSimpleDto value = cachingDictionaryServiceClient.getDictionaryValueById(2L);
+        //then
+        assertSame(manager, value);
+        verify(dictionaryServiceFeignClient, times(1)).getDictionaryValueById(2L);
+        DictionaryCacheStatsDto stats = dictionaryCache.getStats().get(0);
+        assertEquals("valuesById", stats.getCache());
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+    }
+
+    @Test
+    public void shouldCacheValuesOfLoadedDictionaryByIdAndName() {
+        //given
+        DictionaryValueSimpleDto employee = new DictionaryValueSimpleDto(1L, "employee");
+        DictionaryValueSimpleDto student = new DictionaryValueSimpleDto(3L, "student");
+        when(dictionaryServiceFeignClient.getValuesByDictionaryId(1L)).thenReturn(List.of(employee, student));
+        //when
+        cachingDictionaryServiceClient.getValuesByDictionaryId(1L);
+        DictionaryValueSimpleDto byId = cachingDictionaryServiceClient.getDictionaryValueById(3L);
+        DictionaryValueSimpleDto byName = cachingDictionaryServiceClient.getDictionaryValueByDictionaryIdAndName(1L, "employee");
+        //then
+        assertSame(student, byId);
+        assertSame(employee, byName);
+        verify(dictionaryServiceFeignClient, never()).getDictionaryValueById(anyLong());
+        verify(dictionaryServiceFeignClient, never()).getDictionaryValueByDictionaryIdAndName(anyLong(), anyString());
+    }
+
+    @Test
+    public void shouldFetchAgainAfterFlushAndAfterTypeIsAdded() {
+        //given
+        when(dictionaryServiceFeignClient.getValuesByDictionaryId(1L))
+                .thenReturn(List.of(new DictionaryValueSimpleDto(1L, "employee")));
+        when(dictionaryServiceFeignClient.getDictionaryValueById(1L))
+                .thenReturn(new DictionaryValueSimpleDto(1L, "employee"));
+        cachingDictionaryServiceClient.getValuesByDictionaryId(1L);
+        cachingDictionaryServiceClient.getDictionaryValueById(1L);
+        //when
+        cachingDictionaryServiceClient.addValueToTypeDictionary("pensioner");
+        cachingDictionaryServiceClient.getValuesByDictionaryId(1L);
+        dictionaryCache.invalidateAll();
+        cachingDictionaryServiceClient.getDictionaryValueById(1L);
+        //then
+        verify(dictionaryServiceFeignClient, times(2)).getValuesByDictionaryId(1L);
+        verify(dictionaryServiceFeignClient, times(1)).getDictionaryValueById(1L);
+    }
+
+    @Test
+    public void shouldFetchOnlyMissingValuesInOneBulkCall() {
+        //given
+        DictionaryValueSimpleDto manager = new DictionaryValueSimpleDto(2L, "manager");
+        DictionaryValueSimpleDto student = new DictionaryValueSimpleDto(3L, "student");
+        when(dictionaryServiceFeignClient.getDictionaryValueById(2L)).thenReturn(manager);
+        when(dictionaryServiceFeignClient.getDictionaryValuesByIds(Set.of(3L, 4L))).thenReturn(List.of(student));
+        cachingDictionaryServiceClient.getDictionaryValueById(2L);
+        //when
+        List<DictionaryValueSimpleDto> values = cachingDictionaryServiceClient.getDictionaryValuesByIds(List.of(2L, 3L, 4L));
+        DictionaryValueSimpleDto byId = cachingDictionaryServiceClient.getDictionaryValueById(3L);
+        //then
+        assertEquals(2, values.size());
+        assertTrue(values.containsAll(List.of(manager, student)));
+        assertSame(student, byId);
+        verify(dictionaryServiceFeignClient, times(1)).getDictionaryValuesByIds(Set.of(3L, 4L));
+        verify(dictionaryServiceFeignClient, never()).getDictionaryValueById(3L);
+    }
+
+    @Test
+    public void shouldResolveOnlyMissingNamesInOneBulkCall() {
+        //given
+        when(dictionaryServiceFeignClient.getValuesByDictionaryId(1L))
+                .thenReturn(List.of(new DictionaryValueSimpleDto(1L, "employee")));
+        when(dictionaryServiceFeignClient.getDictionaryValueIdsByNames(Map.of(2L, Set.of("manager"))))
+                .thenReturn(Map.of(2L, Map.of("manager", 5L)));
+        cachingDictionaryServiceClient.getValuesByDictionaryId(1L);
+        //when
+        Map<Long, Map<String, Long>> ids = cachingDictionaryServiceClient.getDictionaryValueIdsByNames(
+                Map.of(1L, Set.of("employee"), 2L, Set.of("manager")));
+        DictionaryValueSimpleDto byName = cachingDictionaryServiceClient.getDictionaryValueByDictionaryIdAndName(2L, "manager");
+        //then
+        assertEquals(Map.of(1L, Map.of("employee", 1L), 2L, Map.of("manager", 5L)), ids);
+        assertEquals(5L, byName.getId());
+        verify(dictionaryServiceFeignClient, times(1)).getDictionaryValueIdsByNames(Map.of(2L, Set.of("manager")));
+        verify(dictionaryServiceFeignClient, never()).getDictionaryValueByDictionaryIdAndName(anyLong(), anyString());
+    }
+
+    @Test
+    public void shouldServeLastKnownValueOfExpiredEntryWhileDictionaryServiceIsUnavailable() {
+        //given
+        AtomicLong nanoTime = new AtomicLong();
+        dictionaryCache = new DictionaryCache(new DictionaryCacheProperties(), nanoTime::get);
+        cachingDictionaryServiceClient = new CachingDictionaryServiceClient(dictionaryServiceFeignClient, dictionaryCache);
+        DictionaryValueSimpleDto manager = new DictionaryValueSimpleDto(2L, "manager");
+        when(dictionaryServiceFeignClient.getDictionaryValueById(2L))
+                .thenReturn(manager)
+                .thenThrow(CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("test")))
+                .thenReturn(new DictionaryValueSimpleDto(2L, "director"));
+        Request request = Request.create(Request.HttpMethod.GET, "/api/dictionaryvalues/3", Map.of(), null,
+                StandardCharsets.UTF_8, null);
+        when(dictionaryServiceFeignClient.getDictionaryValueById(3L))
+                .thenThrow(new FeignException.NotFound("Not Found", request, null, null));
+        cachingDictionaryServiceClient.getDictionaryValueById(2L);
+        nanoTime.addAndGet(Duration.ofHours(1).toNanos());
+        //when
+        DictionaryValueSimpleDto stale = cachingDictionaryServiceClient.getDictionaryValueById(2L);
+        DictionaryValueSimpleDto revalidated = cachingDictionaryServiceClient.getDictionaryValueById(2L);
+        //then
+        assertSame(manager, stale);
+        assertEquals("director", revalidated.getName());
+        assertThrows(FeignException.NotFound.class, () -> cachingDictionaryServiceClient.getDictionaryValueById(3L));
+        assertEquals(1, dictionaryCache.getStats().get(0).getStaleHits());
+    }
+
+}
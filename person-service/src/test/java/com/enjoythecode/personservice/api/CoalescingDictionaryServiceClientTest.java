@@ -0,0 +1,92 @@
+package com.enjoythecode.personservice.api;
+
+import com.enjoythecode.personservice.config.DictionaryClientProperties;
+import com.enjoythecode.personservice.dto.DictionaryValueSimpleDto;
+import com.enjoythecode.personservice.exception.DictionaryValueNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CoalescingDictionaryServiceClientTest {
+
+    private DictionaryServiceClient dictionaryServiceFeignClient;
+
+    private CoalescingDictionaryServiceClient coalescingDictionaryServiceClient;
+
+    @BeforeEach
+    public void setUp() {
+        dictionaryServiceFeignClient = Mockito.mock(DictionaryServiceClient.class);
+        DictionaryClientProperties properties = new DictionaryClientProperties();
+        properties.setBatchWindow(Duration.ofMillis(200));
+        coalescingDictionaryServiceClient = new CoalescingDictionaryServiceClient(dictionaryServiceFeignClient,
+                properties);
+    }
+
+    @Test
+    public void shouldMergeConcurrentLookupsIntoOneBulkRequest() throws Exception {
+        //given
+        when(dictionaryServiceFeignClient.getDictionaryValuesByIds(any())).thenReturn(List.of(
+                new DictionaryValueSimpleDto(1L, "employee"),
+                new DictionaryValueSimpleDto(2L, "manager"),
+                new DictionaryValueSimpleDto(3L, "student")));
+        ExecutorService executor = Executors.newFixedThreadPool(9);
+        CountDownLatch start = new CountDownLatch(1);
+        //when
+        List<Future<DictionaryValueSimpleDto>> lookups = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            long id = i % 3 + 1;
+            lookups.add(executor.submit(() -> {
+                start.await();
+                return coalescingDictionaryServiceClient.getDictionaryValueById(id);
+            }));
+        }
+        start.countDown();
+        //then
+        for (int i = 0; i < 9; i++)
+            assertEquals(i % 3 + 1, lookups.get(i).get(5, TimeUnit.SECONDS).getId());
+        verify(dictionaryServiceFeignClient, times(1)).getDictionaryValuesByIds(Set.of(1L, 2L, 3L));
+        verify(dictionaryServiceFeignClient, never()).getDictionaryValueById(any());
+        executor.shutdown();
+    }
+
+    @Test
+    public void shouldThrowDictionaryValueNotFoundExceptionForValueMissingFromBulkResponse() {
+        //given
+        when(dictionaryServiceFeignClient.getDictionaryValuesByIds(Set.of(7L))).thenReturn(List.of());
+        //when
+        DictionaryValueNotFoundException exception = assertThrows(DictionaryValueNotFoundException.class,
+                () -> coalescingDictionaryServiceClient.getDictionaryValueById(7L));
+        //then
+        assertEquals("Dictionary value with id 7 not found.", exception.getMessage());
+    }
+
+    @Test
+    public void shouldMatchNamesInBulkResponseIgnoringCase() {
+        //given
+        when(dictionaryServiceFeignClient.getDictionaryValueIdsByNames(Map.of(2L, Set.of("MANAGER"))))
+                .thenReturn(Map.of(2L, Map.of("Manager", 5L)));
+        //when
+        DictionaryValueSimpleDto value = coalescingDictionaryServiceClient.getDictionaryValueByDictionaryIdAndName(
+                2L, "MANAGER");
+        //then
+        assertEquals(5L, value.getId());
+        assertEquals("Manager", value.getName());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        coalescingDictionaryServiceClient.shutdown();
+    }
+
+}
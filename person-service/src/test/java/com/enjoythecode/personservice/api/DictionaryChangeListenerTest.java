@@ -0,0 +1,75 @@
+package com.enjoythecode.personservice.api;
+
+import com.enjoythecode.personservice.config.DictionaryCacheProperties;
+import com.enjoythecode.personservice.config.DictionaryClientProperties;
+import com.enjoythecode.personservice.dto.DictionarySnapshotDto;
+import com.enjoythecode.personservice.dto.DictionarySnapshotEntryDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.FeignException;
+import feign.Request;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+class DictionaryChangeListenerTest {
+
+    private DictionaryServiceClient dictionaryServiceFeignClient;
+
+    private DictionaryCache dictionaryCache;
+
+    private DictionaryChangeListener dictionaryChangeListener;
+
+    @BeforeEach
+    public void setUp() {
+        dictionaryServiceFeignClient = Mockito.mock(DictionaryServiceClient.class);
+        dictionaryCache = new DictionaryCache(new DictionaryCacheProperties());
+        dictionaryChangeListener = new DictionaryChangeListener(dictionaryServiceFeignClient, dictionaryCache,
+                new DictionaryClientProperties(), new ObjectMapper(),
+                Mockito.mock(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    public void shouldLoadSnapshotIntoCacheOnlyWhenAnnouncedVersionChanges() {
+        //given
+        DictionarySnapshotDto snapshot = new DictionarySnapshotDto(7L, List.of(
+                new DictionarySnapshotEntryDto(1L, "type", Map.of(1L, "employee", 3L, "student"))));
+        when(dictionaryServiceFeignClient.getSnapshot(null)).thenReturn(ResponseEntity.ok().eTag("7").body(snapshot));
+        //when
+        dictionaryChangeListener.onVersionAnnounced(7L);
+        dictionaryChangeListener.onVersionAnnounced(7L);
+        //then
+        verify(dictionaryServiceFeignClient, times(1)).getSnapshot(any());
+        assertEquals("student", dictionaryCache.getValuesById().getIfPresent(3L).getName());
+        assertEquals(1L, dictionaryCache.getValuesByName()
+                .getIfPresent(new DictionaryCache.DictionaryValueKey(1L, "employee")).getId());
+        assertEquals(2, dictionaryCache.getValuesByDictionaryId().getIfPresent(1L).size());
+    }
+
+    @Test
+    public void shouldKeepCacheWhenSnapshotIsNotModified() {
+        //given
+        DictionarySnapshotDto snapshot = new DictionarySnapshotDto(7L, List.of(
+                new DictionarySnapshotEntryDto(1L, "type", Map.of(1L, "employee"))));
+        when(dictionaryServiceFeignClient.getSnapshot(null)).thenReturn(ResponseEntity.ok().eTag("7").body(snapshot));
+        Request request = Request.create(Request.HttpMethod.GET, "/api/dictionaries/snapshot", Map.of(), null,
+                StandardCharsets.UTF_8, null);
+        when(dictionaryServiceFeignClient.getSnapshot("\"7\"")).thenThrow(
+                new FeignException.FeignClientException(304, "Not Modified", request, null, null));
+        dictionaryChangeListener.refresh();
+        //when
+        dictionaryChangeListener.refresh();
+        //then
+        verify(dictionaryServiceFeignClient, times(1)).getSnapshot("\"7\"");
+        assertEquals("employee", dictionaryCache.getValuesById().getIfPresent(1L).getName());
+    }
+
+}
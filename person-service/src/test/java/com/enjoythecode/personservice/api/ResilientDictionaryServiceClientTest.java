@@ -0,0 +1,65 @@
+package com.enjoythecode.personservice.api;
+
+import com.enjoythecode.personservice.config.DictionaryClientProperties;
+import feign.FeignException;
+import feign.Request;
+import feign.RetryableException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class ResilientDictionaryServiceClientTest {
+
+    private static final Request REQUEST = Request.create(Request.HttpMethod.GET, "/api/dictionaryvalues/1", Map.of(),
+            null, StandardCharsets.UTF_8, null);
+
+    private DictionaryServiceClient dictionaryServiceFeignClient;
+
+    private ResilientDictionaryServiceClient resilientDictionaryServiceClient;
+
+    @BeforeEach
+    public void setUp() {
+        dictionaryServiceFeignClient = Mockito.mock(DictionaryServiceClient.class);
+        DictionaryClientProperties properties = new DictionaryClientProperties();
+        properties.setSlidingWindowSize(4);
+        properties.setMinimumNumberOfCalls(4);
+        resilientDictionaryServiceClient = new ResilientDictionaryServiceClient(dictionaryServiceFeignClient, properties);
+    }
+
+    @Test
+    public void shouldStopCallingDictionaryServiceWhenMostCallsTimeOut() {
+        //given
+        when(dictionaryServiceFeignClient.getDictionaryValueById(1L)).thenThrow(
+                new RetryableException(-1, "Read timed out", Request.HttpMethod.GET, (Long) null, REQUEST));
+        for (int i = 0; i < 4; i++)
+            assertThrows(RetryableException.class, () -> resilientDictionaryServiceClient.getDictionaryValueById(1L));
+        //when
+        //then
+        assertThrows(CallNotPermittedException.class, () -> resilientDictionaryServiceClient.getDictionaryValueById(1L));
+        verify(dictionaryServiceFeignClient, times(4)).getDictionaryValueById(1L);
+        assertEquals(CircuitBreaker.State.OPEN, resilientDictionaryServiceClient.getCircuitBreakerState());
+    }
+
+    @Test
+    public void shouldNotCountNotFoundResponsesAsFailures() {
+        //given
+        when(dictionaryServiceFeignClient.getDictionaryValueById(1L)).thenThrow(
+                new FeignException.NotFound("Not Found", REQUEST, null, null));
+        //when
+        for (int i = 0; i < 10; i++)
+            assertThrows(FeignException.NotFound.class, () -> resilientDictionaryServiceClient.getDictionaryValueById(1L));
+        //then
+        verify(dictionaryServiceFeignClient, times(10)).getDictionaryValueById(1L);
+        assertEquals(CircuitBreaker.State.CLOSED, resilientDictionaryServiceClient.getCircuitBreakerState());
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.enjoythecode.personservice.benchmark;
+
+import com.enjoythecode.personservice.PersonServiceApplication;
+import com.enjoythecode.personservice.factory.specification.GeneralPersonSpecification;
+import com.enjoythecode.personservice.model.Person;
+import com.enjoythecode.personservice.model.Retiree;
+import com.enjoythecode.personservice.repository.PersonBatchWriter;
+import com.enjoythecode.personservice.repository.PersonRepository;
+import jakarta.persistence.criteria.Predicate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares case-insensitive searches by last name and email that wrap the columns in lower() with the searches
+ * on the indexed lower-case lookup columns. Run with 'mvn test -Pbenchmark'; the number of rows can be changed
+ * with -Dbenchmark.search-rows and the database with -Dspring.datasource.url (and credentials) to measure against
+ * MySQL instead of the in-memory H2.
+ */
+@SpringBootTest(classes = PersonServiceApplication.class)
+@ActiveProfiles("test")
+@Tag("benchmark")
+class PersonStringSearchBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.search-rows", 2_000_000);
+
+    private static final int DISTINCT_NAMES = 100_000;
+
+    private static final int SEARCHES = 200;
+
+    private static final int CHUNK_SIZE = 1000;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private PersonBatchWriter personBatchWriter;
+
+    @Autowired
+    private GeneralPersonSpecification generalPersonSpecification;
+
+    @BeforeEach
+    public void setUp() {
+        personRepository.deleteAllInBatch();
+        List<Person> chunk = new ArrayList<>(CHUNK_SIZE);
+        for (int i = 0; i < ROWS; i++) {
+            chunk.add(new Retiree(1L, "John", "Doe" + (i % DISTINCT_NAMES), String.format("%011d", i), 180, 80,
+                    "john.doe" + i + "@test.com", 3000.00, 40));
+            if (chunk.size() == CHUNK_SIZE) {
+                personBatchWriter.writeChunk(chunk);
+                chunk.clear();
+            }
+        }
+        personBatchWriter.writeChunk(chunk);
+    }
+
+    @Test
+    public void shouldCompareSearchesOnLowerFunctionAndOnLookupColumns() {
+        //when - lower() over the original columns
+        long functionStart = System.nanoTime();
+        long functionMatches = search(this::lowerFunctionSpecification);
+        long functionNanos = System.nanoTime() - functionStart;
+        //when - lower-case lookup columns
+        long lookupStart = System.nanoTime();
+        long lookupMatches = search(generalPersonSpecification::createSpecification);
+        long lookupNanos = System.nanoTime() - lookupStart;
+        //then
+        assertEquals(functionMatches, lookupMatches);
+        System.out.printf("lower(column) = ?: %d searches over %d rows in %d ms (%.2f ms/search)%n",
+                SEARCHES, ROWS, functionNanos / 1_000_000, functionNanos / 1e6 / SEARCHES);
+        System.out.printf("column_lower = ?:  %d searches over %d rows in %d ms (%.2f ms/search)%n",
+                SEARCHES, ROWS, lookupNanos / 1_000_000, lookupNanos / 1e6 / SEARCHES);
+    }
+
+    /**
+     * Runs the searches alternately by last name and by email and returns the total number of matching people.
+     */
+    private long search(Function<Map<String, String>, Specification<Person>> specificationFactory) {
+        long matches = 0;
+        for (int i = 0; i < SEARCHES; i++) {
+            int row = (int) ((long) i * ROWS / SEARCHES);
+            Map<String, String> parameters = i % 2 == 0
+                    ? Map.of("lastName", "DOE" + (row % DISTINCT_NAMES))
+                    : Map.of("email", "John.Doe" + row + "@test.com");
+            matches += personRepository.findAll(specificationFactory.apply(parameters), PageRequest.of(0, 20))
+                    .getTotalElements();
+        }
+        return matches;
+    }
+
+    private Specification<Person> lowerFunctionSpecification(Map<String, String> parameters) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.and(parameters.entrySet().stream()
+                .map(parameter -> criteriaBuilder.equal(criteriaBuilder.lower(root.get(parameter.getKey())),
+                        parameter.getValue().toLowerCase()))
+                .toArray(Predicate[]::new));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        personRepository.deleteAllInBatch();
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.enjoythecode.personservice.benchmark;
+
+import com.enjoythecode.personservice.PersonServiceApplication;
+import com.enjoythecode.personservice.model.Person;
+import com.enjoythecode.personservice.model.Retiree;
+import com.enjoythecode.personservice.repository.PersonBatchWriter;
+import com.enjoythecode.personservice.repository.PersonRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the per-row write path of the CSV import (one repository save per row) with the chunked, batched one.
+ * Run with 'mvn test -Pbenchmark'; the number of rows can be changed with -Dbenchmark.rows and the database with
+ * -Dspring.datasource.url (and credentials) to measure against MySQL instead of the in-memory H2.
+ */
+@SpringBootTest(classes = PersonServiceApplication.class)
+@ActiveProfiles("test")
+@Tag("benchmark")
+class PersonWriteThroughputBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 200_000);
+
+    private static final int CHUNK_SIZE = 1000;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private PersonBatchWriter personBatchWriter;
+
+    @BeforeEach
+    public void setUp() {
+        personRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void shouldCompareThroughputOfPerRowAndBatchedWrites() {
+        //when - per-row writes
+        long perRowStart = System.nanoTime();
+        for (int i = 0; i < ROWS; i++) {
+            personRepository.save(createRetiree(i));
+        }
+        long perRowNanos = System.nanoTime() - perRowStart;
+        assertEquals(ROWS, personRepository.count());
+        personRepository.deleteAllInBatch();
+        //when - batched writes
+        long batchedStart = System.nanoTime();
+        List<Person> chunk = new ArrayList<>(CHUNK_SIZE);
+        for (int i = 0; i < ROWS; i++) {
+            chunk.add(createRetiree(i));
+            if (chunk.size() == CHUNK_SIZE) {
+                personBatchWriter.writeChunk(chunk);
+                chunk.clear();
+            }
+        }
+        personBatchWriter.writeChunk(chunk);
+        long batchedNanos = System.nanoTime() - batchedStart;
+        //then
+        assertEquals(ROWS, personRepository.count());
+        System.out.printf("Per-row writes: %d rows in %d ms (%.0f rows/s)%n",
+                ROWS, perRowNanos / 1_000_000, ROWS / (perRowNanos / 1e9));
+        System.out.printf("Batched writes: %d rows in %d ms (%.0f rows/s)%n",
+                ROWS, batchedNanos / 1_000_000, ROWS / (batchedNanos / 1e9));
+    }
+
+    private Retiree createRetiree(int index) {
+        return new Retiree(1L, "John", "Doe", String.format("%011d", index), 180, 80,
+                "john.doe@test.com", 3000.00, 40);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        personRepository.deleteAllInBatch();
+    }
+
+}
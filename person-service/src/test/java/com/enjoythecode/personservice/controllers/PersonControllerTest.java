@@ -11,6 +11,8 @@ import com.enjoythecode.personservice.dto.DictionaryValueSimpleDto;
 import com.enjoythecode.personservice.model.Employee;
 import com.enjoythecode.personservice.model.Student;
 import com.enjoythecode.personservice.repository.PersonRepository;
+import com.enjoythecode.personservice.service.DataImportFromCsvService;
+import com.jayway.jsonpath.JsonPath;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,9 +31,14 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
+import static org.awaitility.Awaitility.await;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -50,6 +57,9 @@ class PersonControllerTest {
     @Autowired
     private PersonRepository personRepository;
 
+    @Autowired
+    private DataImportFromCsvService dataImportFromCsvService;
+
     @MockBean
     private DictionaryServiceClient dictionaryServiceClient;
 
@@ -174,6 +184,155 @@ class PersonControllerTest {
                         """));
     }
 
+    @Test
+    @WithMockUser
+    public void shouldPageThroughPeopleWithCursorInStableOrder() throws Exception {
+        //given
+        DictionaryValueSimpleDto employee = new DictionaryValueSimpleDto(1L, "employee");
+        DictionaryValueSimpleDto manager = new DictionaryValueSimpleDto(2L, "manager");
+        Mockito.when(dictionaryServiceClient.getDictionaryValueById(employee.getId())).thenReturn(employee);
+        Mockito.when(dictionaryServiceClient.getDictionaryValueById(manager.getId())).thenReturn(manager);
+        List<String> lastNames = List.of("Wick", "Doe", "Brown", "Doe", "Adams");
+        for (int i = 0; i < lastNames.size(); i++)
+            personRepository.saveAndFlush(
+                    new Employee(employee.getId(), "Name" + i, lastNames.get(i), "1234567891" + i, 180, 70,
+                            "name" + i + "@test.com", LocalDate.of(2021, 1, 1), manager.getId(),
+                            40000.00));
+        //when
+        List<String> firstNames = new ArrayList<>();
+        String cursor = "";
+        int pages = 0;
+        do {
+            MvcResult result = mockMvc.perform(MockMvcRequestBuilders
+                            .get("/api/people")
+                            .param("after", cursor)
+                            .param("size", "2")
+                            .param("sort", "lastName,asc"))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            firstNames.addAll(JsonPath.read(result.getResponse().getContentAsString(), "$[*].firstName"));
+            cursor = result.getResponse().getHeader("X-Next-Cursor");
+            pages++;
+        } while (cursor != null);
+        //then
+        assertEquals(List.of("Name4", "Name2", "Name1", "Name3", "Name0"), firstNames);
+        assertEquals(3, pages);
+    }
+
+    @Test
+    @WithMockUser
+    public void shouldRejectCursorIssuedForDifferentOrder() throws Exception {
+        //given
+        DictionaryValueSimpleDto employee = new DictionaryValueSimpleDto(1L, "employee");
+        DictionaryValueSimpleDto manager = new DictionaryValueSimpleDto(2L, "manager");
+        Mockito.when(dictionaryServiceClient.getDictionaryValueById(employee.getId())).thenReturn(employee);
+        Mockito.when(dictionaryServiceClient.getDictionaryValueById(manager.getId())).thenReturn(manager);
+        for (int i = 0; i < 2; i++)
+            personRepository.saveAndFlush(
+                    new Employee(employee.getId(), "Name" + i, "Doe", "1234567891" + i, 180, 70,
+                            "name" + i + "@test.com", LocalDate.of(2021, 1, 1), manager.getId(),
+                            40000.00));
+        String cursor = mockMvc.perform(MockMvcRequestBuilders
+                        .get("/api/people?after=&size=1&sort=lastName"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn()
+                .getResponse()
+                .getHeader("X-Next-Cursor");
+        //when & then
+        mockMvc.perform(MockMvcRequestBuilders
+                        .get("/api/people")
+                        .param("after", cursor)
+                        .param("size", "1")
+                        .param("sort", "firstName"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorMessages[0]").value("Cursor was issued for a different order"));
+        mockMvc.perform(MockMvcRequestBuilders
+                        .get("/api/people?after=not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorMessages[0]").value("Invalid cursor 'not-a-cursor'"));
+    }
+
+    @Test
+    @WithMockUser
+    public void shouldExportPeopleMatchingParametersAsNdjson() throws Exception {
+        //given
+        DictionaryValueSimpleDto employee = new DictionaryValueSimpleDto(1L, "employee");
+        DictionaryValueSimpleDto manager = new DictionaryValueSimpleDto(2L, "manager");
+        Mockito.when(dictionaryServiceClient.getDictionaryValueById(employee.getId())).thenReturn(employee);
+        Mockito.when(dictionaryServiceClient.getDictionaryValueById(manager.getId())).thenReturn(manager);
+        personRepository.saveAndFlush(
+                new Employee(employee.getId(), "John", "Doe", "12345678911", 180, 70,
+                        "john.doe@test.com", LocalDate.of(2021, 1, 1), manager.getId(),
+                        40000.00));
+        personRepository.saveAndFlush(
+                new Employee(employee.getId(), "Adam", "Wick", "12345678912", 170, 80,
+                        "adam.wick@test.com", LocalDate.of(2021, 2, 2), manager.getId(),
+                        50000.00));
+        personRepository.saveAndFlush(
+                new Employee(employee.getId(), "Tom", "Doe", "12345678913", 175, 75,
+                        "tom.doe@test.com", LocalDate.of(2021, 3, 3), manager.getId(),
+                        45000.00));
+        //when
+        MvcResult exportResult = mockMvc.perform(MockMvcRequestBuilders
+                        .get("/api/people/export?lastName=Doe&format=ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        //then
+        String content = mockMvc.perform(asyncDispatch(exportResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        List<String> lines = content.lines().toList();
+        assertEquals(2, lines.size());
+        assertEquals("John", JsonPath.read(lines.get(0), "$.firstName"));
+        assertEquals("manager", JsonPath.read(lines.get(0), "$.currentPosition"));
+        assertEquals("Tom", JsonPath.read(lines.get(1), "$.firstName"));
+    }
+
+    @Test
+    @WithMockUser
+    public void shouldExportPeopleAsCsvWithColumnsOfAllTypes() throws Exception {
+        //given
+        DictionaryValueSimpleDto employee = new DictionaryValueSimpleDto(1L, "employee");
+        DictionaryValueSimpleDto manager = new DictionaryValueSimpleDto(2L, "manager");
+        Mockito.when(dictionaryServiceClient.getDictionaryValueById(employee.getId())).thenReturn(employee);
+        Mockito.when(dictionaryServiceClient.getDictionaryValueById(manager.getId())).thenReturn(manager);
+        Employee exported = personRepository.saveAndFlush(
+                new Employee(employee.getId(), "John", "Doe, Jr.", "12345678911", 180, 70,
+                        "john.doe@test.com", LocalDate.of(2021, 1, 1), manager.getId(),
+                        40000.00));
+        //when
+        MvcResult exportResult = mockMvc.perform(MockMvcRequestBuilders
+                        .get("/api/people/export?format=csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        //then
+        String content = mockMvc.perform(asyncDispatch(exportResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", containsString("people.csv")))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        List<String> lines = content.lines().toList();
+        assertEquals(2, lines.size());
+        assertEquals("id,type,firstName,lastName,email,version,universityName,enrollmentYear,fieldOfStudy," +
+                "scholarship,employmentStartDate,currentPosition,currentSalary,pension,yearsOfWork", lines.get(0));
+        assertEquals(exported.getId() + ",employee,John,\"Doe, Jr.\",john.doe@test.com,0,,,,,2021-01-01,manager," +
+                "40000.0,,", lines.get(1));
+    }
+
+    @Test
+    @WithMockUser
+    public void shouldRejectUnsupportedExportFormat() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders
+                        .get("/api/people/export?format=xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorMessages[0]").value("Unsupported export format 'xml'"));
+    }
+
     @Test
     @WithMockUser
     public void shouldGetSinglePersonByLastNameAndWeightRange() throws Exception {
@@ -266,6 +425,116 @@ class PersonControllerTest {
                         """));
     }
 
+    @Test
+    @WithMockUser
+    public void shouldGetPeopleByAgeAndBirthDateRangesDecodedFromPesel() throws Exception {
+        //given
+        DictionaryValueSimpleDto employee = new DictionaryValueSimpleDto(1L, "employee");
+        DictionaryValueSimpleDto manager = new DictionaryValueSimpleDto(2L, "manager");
+        Mockito.when(dictionaryServiceClient.getDictionaryValueById(employee.getId())).thenReturn(employee);
+        Mockito.when(dictionaryServiceClient.getDictionaryValueById(manager.getId())).thenReturn(manager);
+        LocalDate thirtiethBirthday = LocalDate.now().minusYears(30);
+        personRepository.saveAndFlush(
+                new Employee(employee.getId(), "John", "Doe", pesel(thirtiethBirthday, "12317"), 180, 70,
+                        "john.doe@test.com", LocalDate.of(2021, 1, 1), manager.getId(),
+                        40000.00));
+        personRepository.saveAndFlush(
+                new Employee(employee.getId(), "Adam", "Wick", pesel(thirtiethBirthday.plusDays(1), "12328"), 170, 80,
+                        "adam.wick@test.com", LocalDate.of(2021, 2, 2), manager.getId(),
+                        50000.00));
+        //when
+        ResultActions ageResult = mockMvc.perform(MockMvcRequestBuilders.get("/api/people?age=from30,to40"));
+        ResultActions birthDateResult = mockMvc.perform(MockMvcRequestBuilders
+                .get("/api/people?birthDate=from" + thirtiethBirthday.plusDays(1) + ",to" + LocalDate.now()));
+        //then
+        ageResult
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].firstName").value("John"));
+        birthDateResult
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].firstName").value("Adam"));
+    }
+
+    @Test
+    @WithMockUser
+    public void shouldReturnBadRequestForInvalidRanges() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/people?age=from30,toforty"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorMessages[0]").value("Invalid value of 'age': 'from30,toforty', " +
+                        "expected a range in the format 'from<value>,to<value>'"));
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/people?weight=60-80"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorMessages[0]").value("Invalid value of 'weight': '60-80', " +
+                        "expected a range in the format 'from<value>,to<value>'"));
+    }
+
+    @Test
+    @WithMockUser
+    public void shouldFindPeopleByNamePrefixAndByMistypedNameWhenFuzzy() throws Exception {
+        //given
+        DictionaryValueSimpleDto employee = new DictionaryValueSimpleDto(1L, "employee");
+        DictionaryValueSimpleDto manager = new DictionaryValueSimpleDto(2L, "manager");
+        Mockito.when(dictionaryServiceClient.getDictionaryValueById(employee.getId())).thenReturn(employee);
+        Mockito.when(dictionaryServiceClient.getDictionaryValueById(manager.getId())).thenReturn(manager);
+        personRepository.saveAndFlush(
+                new Employee(employee.getId(), "Jonathan", "Smith", "12345678911", 180, 70,
+                        "jonathan.smith@test.com", LocalDate.of(2021, 1, 1), manager.getId(),
+                        40000.00));
+        personRepository.saveAndFlush(
+                new Employee(employee.getId(), "Anna", "Smythe", "12345678921", 165, 55,
+                        "anna.smythe@test.com", LocalDate.of(2021, 1, 1), manager.getId(),
+                        40000.00));
+        //when
+        ResultActions prefixResult = mockMvc.perform(MockMvcRequestBuilders.get("/api/people?nameQuery=jon SMI"));
+        ResultActions exactResult = mockMvc.perform(MockMvcRequestBuilders.get("/api/people?nameQuery=smiht"));
+        ResultActions fuzzyResult = mockMvc.perform(MockMvcRequestBuilders
+                .get("/api/people?nameQuery=smiht&fuzzy=true"));
+        //then
+        prefixResult
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].firstName").value("Jonathan"));
+        exactResult
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+        fuzzyResult
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].lastName").value("Smith"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    public void shouldNotFindDeletedPersonByNameAndRebuildSearchIndex() throws Exception {
+        //given
+        DictionaryValueSimpleDto employee = new DictionaryValueSimpleDto(1L, "employee");
+        DictionaryValueSimpleDto manager = new DictionaryValueSimpleDto(2L, "manager");
+        Mockito.when(dictionaryServiceClient.getDictionaryValueById(employee.getId())).thenReturn(employee);
+        Mockito.when(dictionaryServiceClient.getDictionaryValueById(manager.getId())).thenReturn(manager);
+        Long id = personRepository.saveAndFlush(
+                new Employee(employee.getId(), "Jonathan", "Smith", "12345678911", 180, 70,
+                        "jonathan.smith@test.com", LocalDate.of(2021, 1, 1), manager.getId(),
+                        40000.00)).getId();
+        personRepository.saveAndFlush(
+                new Employee(employee.getId(), "Anna", "Smythe", "12345678921", 165, 55,
+                        "anna.smythe@test.com", LocalDate.of(2021, 1, 1), manager.getId(),
+                        40000.00));
+        //when
+        mockMvc.perform(MockMvcRequestBuilders.delete("/api/people/" + id))
+                .andExpect(status().is2xxSuccessful());
+        ResultActions rebuildResult = mockMvc.perform(MockMvcRequestBuilders.post("/api/admin/search-index/rebuild"));
+        //then
+        rebuildResult
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("Search index rebuilt with 1 people."));
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/people?nameQuery=test"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].firstName").value("Anna"));
+    }
+
     @Test
     @WithMockUser
     public void shouldGetSingleEmployeeByPositionAndEmploymentStartDateRange() throws Exception {
@@ -581,14 +850,10 @@ class PersonControllerTest {
                 "file", "test-peopleToImport.csv", "text/csv", fileContent.getBytes()
         );
         //when
-        MvcResult asyncResult = mockMvc.perform(MockMvcRequestBuilders
+        mockMvc.perform(MockMvcRequestBuilders
                 .multipart("/api/people/import")
                 .file(file))
-                .andExpect(request().asyncStarted())
-                .andReturn();
-        asyncResult.getAsyncResult();
-        //then
-        mockMvc.perform(asyncDispatch(asyncResult))
+                //then
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.timestamp", is(notNullValue())))
                 .andExpect(jsonPath("$.errorCode").value("BAD_REQUEST"))
@@ -598,7 +863,7 @@ class PersonControllerTest {
 
     @Test
     @WithMockUser(username = "admin", roles = "ADMIN")
-    public void shouldReturnBadRequestStatusForInvalidFileContentWhenImport() throws Exception {
+    public void shouldReportFailedImportJobForInvalidFileContent() throws Exception {
         //given
         String fileContent = "Invalid CSV Data " +
                 "\n Invalid CSV Data";
@@ -606,18 +871,22 @@ class PersonControllerTest {
                 "file", "test-peopleToImport.csv", "text/csv", fileContent.getBytes()
         );
         //when
-        MvcResult asyncResult = mockMvc.perform(MockMvcRequestBuilders
+        MvcResult importResult = mockMvc.perform(MockMvcRequestBuilders
                 .multipart("/api/people/import")
                 .file(file))
-                .andExpect(request().asyncStarted())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jobId").isNotEmpty())
                 .andReturn();
-        asyncResult.getAsyncResult();
+        String jobId = JsonPath.read(importResult.getResponse().getContentAsString(), "$.jobId");
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> dataImportFromCsvService.getImportStatus(jobId).isFinished());
         //then
-        mockMvc.perform(asyncDispatch(asyncResult))
-                .andExpect(status().isBadRequest())
-                .andExpect(jsonPath("$.timestamp", is(notNullValue())))
-                .andExpect(jsonPath("$.errorCode").value("BAD_REQUEST"))
-                .andExpect(content().string(containsString("Error during data import. Invalid file content")));
+        mockMvc.perform(MockMvcRequestBuilders
+                .get("/api/people/import/{jobId}/status", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("Import failed."))
+                .andExpect(jsonPath("$.errorMessage",
+                        containsString("Error during data import. Invalid file content")));
     }
 
     @Test
@@ -705,6 +974,12 @@ class PersonControllerTest {
                         .value("Person with id " + personId + " deleted"));
     }
 
+    private static String pesel(LocalDate birthDate, String serialAndCheckDigits) {
+        int monthOffset = (birthDate.getYear() / 100 - 19) * 20;
+        return String.format("%02d%02d%02d%s", birthDate.getYear() % 100, birthDate.getMonthValue() + monthOffset,
+                birthDate.getDayOfMonth(), serialAndCheckDigits);
+    }
+
     @AfterEach
     public void tearDown() {
         personRepository.deleteAllInBatch();
@@ -0,0 +1,110 @@
+package com.enjoythecode.personservice.csv;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CsvFilePartitionerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void shouldSplitDataLinesIntoLineAlignedPartitionsCoveringWholeFile() throws IOException {
+        //given
+        List<String> dataLines = IntStream.range(0, 100)
+                .mapToObj(i -> "retiree,Name" + i + ",Surname" + "x".repeat(i % 7) + "," + i)
+                .toList();
+        Path file = tempDir.resolve("people.csv");
+        Files.writeString(file, "type,first_name,last_name,pesel\n" + String.join("\n", dataLines));
+        //when
+        List<FilePartition> partitions = CsvFilePartitioner.partition(file, 4, 1);
+        //then
+        assertEquals(4, partitions.size());
+        assertEquals(Files.size(file), partitions.get(3).getEnd());
+        List<String> readLines = new ArrayList<>();
+        for (FilePartition partition : partitions) {
+            assertTrue(partition.getLength() > 0);
+            try (CsvTokenizer tokenizer = CsvTokenizer.open(file, partition, 1)) {
+                CsvRow row;
+                while ((row = tokenizer.next()) != null)
+                    readLines.add(row.toString());
+            }
+        }
+        assertEquals(dataLines, readLines);
+    }
+
+    @Test
+    public void shouldNotSplitRecordsWithQuotedLineFeedsBetweenPartitions() throws IOException {
+        //given
+        List<String> records = IntStream.range(0, 100)
+                .mapToObj(i -> "retiree,\"Name" + i + "\n\"\"Nick\"\"\nName\",Surname" + i + "," + i)
+                .toList();
+        Path file = tempDir.resolve("people.csv");
+        Files.writeString(file, "type,first_name,last_name,pesel\n" + String.join("\n", records));
+        //when
+        List<FilePartition> partitions = CsvFilePartitioner.partition(file, 7, 1);
+        //then
+        assertEquals(7, partitions.size());
+        List<String> readRecords = new ArrayList<>();
+        for (FilePartition partition : partitions) {
+            try (CsvTokenizer tokenizer = CsvTokenizer.open(file, partition, 1)) {
+                CsvRow row;
+                while ((row = tokenizer.next()) != null)
+                    readRecords.add(row.toString());
+            }
+        }
+        assertEquals(IntStream.range(0, 100)
+                .mapToObj(i -> "retiree,Name" + i + "\n\"Nick\"\nName,Surname" + i + "," + i)
+                .toList(), readRecords);
+    }
+
+    @Test
+    public void shouldTreatQuoteInsideUnquotedFieldAsLiteralWhenPlacingBoundaries() throws IOException {
+        //given
+        List<String> records = IntStream.range(0, 100)
+                .mapToObj(i -> i == 0 ? "retiree,O\"Brien,Surname0,0"
+                        : "retiree,\"Name" + i + "\nName\",Surname" + i + "," + i)
+                .toList();
+        Path file = tempDir.resolve("people.csv");
+        Files.writeString(file, "type,first_name,last_name,pesel\n" + String.join("\n", records));
+        //when
+        List<FilePartition> partitions = CsvFilePartitioner.partition(file, 7, 1);
+        //then
+        assertEquals(7, partitions.size());
+        List<String> readRecords = new ArrayList<>();
+        for (FilePartition partition : partitions) {
+            try (CsvTokenizer tokenizer = CsvTokenizer.open(file, partition, 1)) {
+                CsvRow row;
+                while ((row = tokenizer.next()) != null)
+                    readRecords.add(row.toString());
+            }
+        }
+        assertEquals(IntStream.range(0, 100)
+                .mapToObj(i -> i == 0 ? "retiree,O\"Brien,Surname0,0"
+                        : "retiree,Name" + i + "\nName,Surname" + i + "," + i)
+                .toList(), readRecords);
+    }
+
+    @Test
+    public void shouldKeepSmallFileInSinglePartition() throws IOException {
+        //given
+        Path file = tempDir.resolve("people.csv");
+        Files.writeString(file, "type,first_name\nretiree,John\nretiree,Adam\n");
+        //when
+        List<FilePartition> partitions = CsvFilePartitioner.partition(file, 4, 1024);
+        //then
+        assertEquals(1, partitions.size());
+        assertEquals("type,first_name\n".length(), partitions.get(0).getStart());
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.enjoythecode.personservice.csv;
+
+import com.enjoythecode.personservice.exception.InvalidFileException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvTokenizerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void shouldReadQuotedFieldsAccordingToRfc4180() throws IOException {
+        //given
+        String data = "student, Mia ,\"Smith, Jr.\",\"say \"\"hi\"\"\",\"line\r\nbreak\"\r\n" +
+                "\r\n" +
+                "retiree,\"Łukasz\",,42\n";
+        //when
+        List<List<String>> rows = readAll(CsvTokenizer.forBuffer(ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8))));
+        //then
+        assertEquals(List.of(
+                List.of("student", "Mia", "Smith, Jr.", "say \"hi\"", "line\r\nbreak"),
+                List.of("retiree", "Łukasz", "", "42")
+        ), rows);
+    }
+
+    @Test
+    public void shouldParseNumbersAndDatesDirectlyFromFields() throws IOException {
+        //given
+        String data = " 167 ,-63,95000.50,\"1.5e3\",2020-12-01,0.1,abc";
+        //when
+        CsvRow row = CsvTokenizer.forBuffer(ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8))).next();
+        //then
+        assertEquals(167, row.getInt(0));
+        assertEquals(-63, row.getInt(1));
+        assertEquals(95000.50, row.getDouble(2));
+        assertEquals(1500.0, row.getDouble(3));
+        assertEquals(LocalDate.of(2020, 12, 1), row.getLocalDate(4));
+        assertEquals(0.1, row.getDouble(5));
+        assertThrows(NumberFormatException.class, () -> row.getInt(6));
+        assertThrows(InvalidFileException.class, () -> row.getString(7));
+    }
+
+    @Test
+    public void shouldRemapWindowWhenRowCrossesItsEnd() throws IOException {
+        //given
+        StringBuilder content = new StringBuilder();
+        List<List<String>> expectedRows = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            content.append("employee,Name").append(i).append(",\"Street ").append(i).append(", City\"\n");
+            expectedRows.add(List.of("employee", "Name" + i, "Street " + i + ", City"));
+        }
+        Path file = tempDir.resolve("people.csv");
+        Files.writeString(file, content);
+        FilePartition partition = new FilePartition(0, 0, Files.size(file));
+        //when
+        List<List<String>> rows;
+        try (CsvTokenizer tokenizer = CsvTokenizer.open(file, partition, 1, 64)) {
+            rows = readAll(tokenizer);
+        }
+        //then
+        assertEquals(expectedRows, rows);
+    }
+
+    @Test
+    public void shouldTrackLineNumbersAcrossQuotedLineBreaks() throws IOException {
+        //given
+        String data = "employee,\"Mia\nAnn\"\r\n\nretiree,Tom\nstudent,Ann";
+        CsvTokenizer tokenizer = CsvTokenizer.forBuffer(ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8)));
+        //when
+        List<Long> lineNumbers = new ArrayList<>();
+        List<String> rawRows = new ArrayList<>();
+        CsvRow row;
+        while ((row = tokenizer.next()) != null) {
+            lineNumbers.add(row.getLineNumber());
+            rawRows.add(row.getRaw());
+        }
+        //then
+        assertEquals(List.of(1L, 4L, 5L), lineNumbers);
+        assertEquals(List.of("employee,\"Mia\nAnn\"", "retiree,Tom", "student,Ann"), rawRows);
+    }
+
+    @Test
+    public void shouldRejectUnterminatedQuotedField() {
+        //given
+        String data = "employee,\"Mia\n";
+        CsvTokenizer tokenizer = CsvTokenizer.forBuffer(ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8)));
+        //when & then
+        assertThrows(InvalidFileException.class, tokenizer::next);
+    }
+
+    private List<List<String>> readAll(CsvTokenizer tokenizer) throws IOException {
+        List<List<String>> rows = new ArrayList<>();
+        CsvRow row;
+        while ((row = tokenizer.next()) != null) {
+            List<String> fields = new ArrayList<>();
+            for (int i = 0; i < row.getFieldCount(); i++)
+                fields.add(row.getString(i));
+            rows.add(fields);
+        }
+        return rows;
+    }
+
+}
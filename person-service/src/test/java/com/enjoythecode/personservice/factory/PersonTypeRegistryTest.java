@@ -0,0 +1,65 @@
+package com.enjoythecode.personservice.factory;
+
+import com.enjoythecode.personservice.api.DictionaryServiceClient;
+import com.enjoythecode.personservice.api.DictionarySnapshotLoadedEvent;
+import com.enjoythecode.personservice.dto.DictionarySnapshotDto;
+import com.enjoythecode.personservice.dto.DictionarySnapshotEntryDto;
+import com.enjoythecode.personservice.dto.DictionaryValueSimpleDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+class PersonTypeRegistryTest {
+
+    private DictionaryServiceClient dictionaryServiceClient;
+
+    private PersonTypeRegistry personTypeRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        dictionaryServiceClient = Mockito.mock(DictionaryServiceClient.class);
+        personTypeRegistry = new PersonTypeRegistry(dictionaryServiceClient);
+    }
+
+    @Test
+    public void shouldResolveLoadedTypesWithoutCallingDictionaryService() {
+        //given
+        when(dictionaryServiceClient.getValuesByDictionaryId(1L)).thenReturn(List.of(
+                new DictionaryValueSimpleDto(1L, "employee"), new DictionaryValueSimpleDto(3L, "student")));
+        personTypeRegistry.load();
+        //when
+        PersonTypeRegistry.PersonType byName = personTypeRegistry.getByName("Student");
+        PersonTypeRegistry.PersonType byId = personTypeRegistry.getById(1L);
+        //then
+        assertEquals(new PersonTypeRegistry.PersonType(3L, "student"), byName);
+        assertEquals("employee", byId.name());
+        verify(dictionaryServiceClient, times(1)).getValuesByDictionaryId(1L);
+        verify(dictionaryServiceClient, never()).getDictionaryValueById(anyLong());
+        verify(dictionaryServiceClient, never()).getDictionaryValueByDictionaryIdAndName(anyLong(), anyString());
+    }
+
+    @Test
+    public void shouldReplaceTypesWithThoseOfLoadedSnapshotAndLookUpUnknownOnes() {
+        //given
+        when(dictionaryServiceClient.getValuesByDictionaryId(1L))
+                .thenReturn(List.of(new DictionaryValueSimpleDto(1L, "employee")));
+        when(dictionaryServiceClient.getDictionaryValueByDictionaryIdAndName(1L, "guest"))
+                .thenReturn(new DictionaryValueSimpleDto(7L, "guest"));
+        personTypeRegistry.load();
+        //when
+        personTypeRegistry.onSnapshotLoaded(new DictionarySnapshotLoadedEvent(new DictionarySnapshotDto(5L, List.of(
+                new DictionarySnapshotEntryDto(1L, "type", Map.of(1L, "employee", 6L, "pensioner")),
+                new DictionarySnapshotEntryDto(2L, "position", Map.of(2L, "manager"))))));
+        //then
+        assertEquals(6L, personTypeRegistry.getByName("pensioner").id());
+        assertEquals(7L, personTypeRegistry.getByName("guest").id());
+        verify(dictionaryServiceClient, times(1)).getDictionaryValueByDictionaryIdAndName(anyLong(), anyString());
+    }
+
+}
@@ -7,20 +7,28 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.modelmapper.ModelMapper;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ActiveProfiles;
 import com.enjoythecode.personservice.PersonServiceApplication;
 import com.enjoythecode.personservice.api.DictionaryServiceClient;
 import com.enjoythecode.personservice.dto.DictionaryValueSimpleDto;
 import com.enjoythecode.personservice.dto.EmployeeDto;
+import com.enjoythecode.personservice.dto.PersonDto;
+import com.enjoythecode.personservice.dto.StudentDto;
+import com.enjoythecode.personservice.factory.PersonTypeRegistry;
 import com.enjoythecode.personservice.factory.converter.EmployeeDtoConverter;
 import com.enjoythecode.personservice.factory.converter.PersonDtoConverterFactory;
 import com.enjoythecode.personservice.factory.converter.RetireeDtoConverter;
 import com.enjoythecode.personservice.factory.converter.StudentDtoConverter;
 import com.enjoythecode.personservice.model.Employee;
 import com.enjoythecode.personservice.model.Person;
+import com.enjoythecode.personservice.model.Student;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -41,10 +49,10 @@ class PersonDtoConverterFactoryTest {
     public void setUp() {
         MockitoAnnotations.openMocks(this);
         dtoConverterFactory = new PersonDtoConverterFactory(Set.of(
-                new EmployeeDtoConverter(modelMapper, dictionaryServiceClient),
-                new StudentDtoConverter(modelMapper, dictionaryServiceClient),
-                new RetireeDtoConverter(modelMapper, dictionaryServiceClient)
-        ), dictionaryServiceClient);
+                new EmployeeDtoConverter(modelMapper),
+                new StudentDtoConverter(modelMapper),
+                new RetireeDtoConverter(modelMapper)
+        ), dictionaryServiceClient, new PersonTypeRegistry(dictionaryServiceClient));
     }
 
     @Test
@@ -72,4 +80,32 @@ class PersonDtoConverterFactoryTest {
         assertEquals(40000.00, employeeDto.getCurrentSalary());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldResolveDictionaryValuesOfWholePageInOneBulkCall() {
+        // given
+        Person employee = new Employee(1L, "John", "Doe", "12345678911", 180, 70,
+                "johndoe@test.com", LocalDate.of(2021, 1, 1), 2L, 40000.00);
+        Person student = new Student(3L, "Anna", "Smith", "12345678912", 165, 55,
+                "annasmith@test.com", 4L, 2020, 5L, 1000.00);
+        Mockito.when(dictionaryServiceClient.getDictionaryValuesByIds(Set.of(1L, 2L, 3L, 4L, 5L))).thenReturn(List.of(
+                new DictionaryValueSimpleDto(1L, "employee"), new DictionaryValueSimpleDto(2L, "manager"),
+                new DictionaryValueSimpleDto(3L, "student"), new DictionaryValueSimpleDto(4L, "university"),
+                new DictionaryValueSimpleDto(5L, "physics")));
+        Mockito.when(dictionaryServiceClient.getValuesByDictionaryId(1L)).thenReturn(List.of(
+                new DictionaryValueSimpleDto(1L, "employee"), new DictionaryValueSimpleDto(3L, "student")));
+        Mockito.doReturn(employee).when(modelMapper).map(Mockito.any(), Mockito.eq(Employee.class));
+        Mockito.doReturn(student).when(modelMapper).map(Mockito.any(), Mockito.eq(Student.class));
+        Page<Person> people = new PageImpl<>(List.of(employee, student), PageRequest.of(1, 2), 10);
+        // when
+        Page<PersonDto> personDtos = dtoConverterFactory.convertPage(people);
+        // then
+        assertEquals(List.of("employee", "student"), personDtos.stream().map(PersonDto::getType).toList());
+        assertEquals("manager", ((EmployeeDto) personDtos.getContent().get(0)).getCurrentPosition());
+        assertEquals("physics", ((StudentDto) personDtos.getContent().get(1)).getFieldOfStudy());
+        assertEquals(10, personDtos.getTotalElements());
+        assertEquals(1, personDtos.getNumber());
+        Mockito.verify(dictionaryServiceClient, Mockito.times(1)).getDictionaryValuesByIds(Mockito.any());
+        Mockito.verify(dictionaryServiceClient, Mockito.never()).getDictionaryValueById(Mockito.anyLong());
+    }
+
+}
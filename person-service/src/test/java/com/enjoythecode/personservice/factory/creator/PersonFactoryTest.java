@@ -10,10 +10,12 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ActiveProfiles;
 import com.enjoythecode.personservice.PersonServiceApplication;
+import com.enjoythecode.personservice.api.AsyncDictionaryServiceClient;
 import com.enjoythecode.personservice.api.DictionaryServiceClient;
 import com.enjoythecode.personservice.command.CreateEmployeeCommand;
 import com.enjoythecode.personservice.command.CreatePersonCommand;
 import com.enjoythecode.personservice.dto.DictionaryValueSimpleDto;
+import com.enjoythecode.personservice.factory.PersonTypeRegistry;
 import com.enjoythecode.personservice.model.Employee;
 
 import java.time.LocalDate;
@@ -35,9 +37,10 @@ public class PersonFactoryTest {
     public void setUp() {
         personFactory = new PersonFactory(Set.of(
                 new EmployeeCreator(dictionaryServiceClient, new ModelMapper()),
-                new StudentCreator(dictionaryServiceClient, new ModelMapper()),
-                new RetireeCreator(dictionaryServiceClient, new ModelMapper())
-        ), dictionaryServiceClient);
+                new StudentCreator(new AsyncDictionaryServiceClient(dictionaryServiceClient, Runnable::run),
+                        new ModelMapper()),
+                new RetireeCreator(new ModelMapper())
+        ), new PersonTypeRegistry(dictionaryServiceClient));
     }
 
     @Test
@@ -11,18 +11,27 @@ import org.springframework.test.context.ActiveProfiles;
 import com.enjoythecode.personservice.PersonServiceApplication;
 import com.enjoythecode.personservice.api.DictionaryServiceClient;
 import com.enjoythecode.personservice.command.CreatePersonFromCsvCommand;
+import com.enjoythecode.personservice.csv.CsvRow;
+import com.enjoythecode.personservice.csv.CsvTokenizer;
 import com.enjoythecode.personservice.dto.DictionaryValueSimpleDto;
+import com.enjoythecode.personservice.exception.DictionaryValueNotFoundException;
 import com.enjoythecode.personservice.factory.cteatorfromcsv.EmployeeFromCsvCreator;
 import com.enjoythecode.personservice.factory.cteatorfromcsv.PersonFromCsvFactory;
 import com.enjoythecode.personservice.factory.cteatorfromcsv.RetireeFromCsvCreator;
 import com.enjoythecode.personservice.factory.cteatorfromcsv.StudentFromCsvCreator;
+import com.enjoythecode.personservice.model.DictionarySnapshot;
 import com.enjoythecode.personservice.model.Employee;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.Map;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SpringBootTest(classes = PersonServiceApplication.class)
 @ActiveProfiles("test")
@@ -36,28 +45,26 @@ class PersonFromCsvFactoryTest {
     @BeforeEach
     public void setUp() {
         personFromCsvFactory = new PersonFromCsvFactory(Set.of(
-                new EmployeeFromCsvCreator(dictionaryServiceClient),
-                new StudentFromCsvCreator(dictionaryServiceClient),
-                new RetireeFromCsvCreator(dictionaryServiceClient)
+                new EmployeeFromCsvCreator(),
+                new StudentFromCsvCreator(),
+                new RetireeFromCsvCreator()
         ));
     }
 
     @Test
-    public void shouldCreateEmployeeFromProvidedDataUsingPersonFromCsvFactory() {
+    public void shouldCreateEmployeeFromProvidedDataUsingPersonFromCsvFactory() throws IOException {
         //given
         DictionaryValueSimpleDto employee = new DictionaryValueSimpleDto(1L, "employee");
         DictionaryValueSimpleDto manager = new DictionaryValueSimpleDto(2L, "manager");
-        String[] employeeData = {
-                "employee", "Mia", "Smith", "78062890123", "167", "63", "miasmith@test.com", "2020-12-01",
-                "manager", "95000"
-        };
-        Mockito.when(dictionaryServiceClient.getDictionaryValueByDictionaryIdAndName(1L, "employee"))
-                .thenReturn(employee);
-        Mockito.when(dictionaryServiceClient.getDictionaryValueByDictionaryIdAndName(2L, "manager"))
-                .thenReturn(manager);
+        CsvRow employeeData = toCsvRow("employee,Mia,Smith,78062890123,167,63,miasmith@test.com,2020-12-01," +
+                "manager,95000");
+        DictionarySnapshot dictionarySnapshot = new DictionarySnapshot(Map.of(
+                1L, Map.of(employee.getName(), employee.getId()),
+                2L, Map.of(manager.getName(), manager.getId())
+        ));
         CreatePersonFromCsvCommand command = new CreatePersonFromCsvCommand("employee", employeeData);
         //when
-        Employee employeeFromCsv = (Employee) personFromCsvFactory.create(command);
+        Employee employeeFromCsv = (Employee) personFromCsvFactory.create(command, dictionarySnapshot);
         //then
         assertNotNull(employeeFromCsv);
         assertEquals("Mia", employeeFromCsv.getFirstName());
@@ -69,6 +76,29 @@ class PersonFromCsvFactoryTest {
         assertEquals(LocalDate.of(2020, 12, 01), employeeFromCsv.getEmploymentStartDate());
         assertEquals(manager.getId(), employeeFromCsv.getCurrentPositionId());
         assertEquals(95000.00, employeeFromCsv.getCurrentSalary());
+        Mockito.verifyNoInteractions(dictionaryServiceClient);
+    }
+
+    @Test
+    public void shouldThrowDictionaryValueNotFoundExceptionWhenNameIsMissingInSnapshot() throws IOException {
+        //given
+        CsvRow studentData = toCsvRow("student,Mia,Smith,78062890123,167,63,miasmith@test.com," +
+                "\"Unknown University\",2,Economics,1000");
+        DictionarySnapshot dictionarySnapshot = new DictionarySnapshot(Map.of(
+                1L, Map.of("student", 3L),
+                4L, Map.of("economics", 4L)
+        ));
+        CreatePersonFromCsvCommand command = new CreatePersonFromCsvCommand("student", studentData);
+        //when
+        DictionaryValueNotFoundException exception = assertThrows(DictionaryValueNotFoundException.class,
+                () -> personFromCsvFactory.create(command, dictionarySnapshot));
+        //then
+        assertEquals("Dictionary value 'unknown university' not found in the dictionary with id 3",
+                exception.getMessage());
+    }
+
+    private CsvRow toCsvRow(String line) throws IOException {
+        return CsvTokenizer.forBuffer(ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8))).next();
     }
 
-}
\ No newline at end of file
+}
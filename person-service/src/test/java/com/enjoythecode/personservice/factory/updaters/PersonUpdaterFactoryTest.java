@@ -1,10 +1,12 @@
 package com.enjoythecode.personservice.factory.updaters;
 
 import com.enjoythecode.personservice.PersonServiceApplication;
+import com.enjoythecode.personservice.api.AsyncDictionaryServiceClient;
 import com.enjoythecode.personservice.api.DictionaryServiceClient;
 import com.enjoythecode.personservice.command.UpdateEmployeeCommand;
 import com.enjoythecode.personservice.command.UpdatePersonCommand;
 import com.enjoythecode.personservice.dto.DictionaryValueSimpleDto;
+import com.enjoythecode.personservice.factory.PersonTypeRegistry;
 import com.enjoythecode.personservice.factory.updater.EmployeeUpdater;
 import com.enjoythecode.personservice.factory.updater.PersonUpdaterFactory;
 import com.enjoythecode.personservice.factory.updater.RetireeUpdater;
@@ -52,11 +54,13 @@ class PersonUpdaterFactoryTest {
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
+        AsyncDictionaryServiceClient asyncDictionaryServiceClient =
+                new AsyncDictionaryServiceClient(dictionaryServiceClient, Runnable::run);
         updaterFactory = new PersonUpdaterFactory(Set.of(
-                new EmployeeUpdater(dictionaryServiceClient, employeeRepository, new ModelMapper()),
-                new StudentUpdater(dictionaryServiceClient, studentRepository, new ModelMapper()),
+                new EmployeeUpdater(asyncDictionaryServiceClient, employeeRepository, new ModelMapper()),
+                new StudentUpdater(asyncDictionaryServiceClient, studentRepository, new ModelMapper()),
                 new RetireeUpdater(retireeRepository, new ModelMapper())
-        ), dictionaryServiceClient);
+        ), new PersonTypeRegistry(dictionaryServiceClient));
     }
 
     @Test
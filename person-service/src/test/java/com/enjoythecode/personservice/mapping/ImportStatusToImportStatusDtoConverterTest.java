@@ -0,0 +1,36 @@
+package com.enjoythecode.personservice.mapping;
+
+import com.enjoythecode.personservice.dto.ImportStatusDto;
+import com.enjoythecode.personservice.model.ImportPartitionStatus;
+import com.enjoythecode.personservice.model.ImportStatus;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ImportStatusToImportStatusDtoConverterTest {
+
+    @Test
+    public void shouldComputeThroughputOfResumedPartitionFromRowsProcessedSinceResume() {
+        //given
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.addConverter(new ImportStatusToImportStatusDtoConverter());
+        ImportPartitionStatus partition = new ImportPartitionStatus(0, 1024);
+        partition.setProcessedRowsAtStart(1000);
+        partition.setProcessedRows(1200);
+        LocalDateTime resumeTime = LocalDateTime.of(2026, 10, 17, 12, 0);
+        partition.setStartTime(resumeTime);
+        partition.setEndTime(resumeTime.plusSeconds(2));
+        ImportStatus importStatus = new ImportStatus("job", "people.csv");
+        importStatus.setPartitions(List.of(partition));
+        //when
+        ImportStatusDto importStatusDto = modelMapper.map(importStatus, ImportStatusDto.class);
+        //then
+        assertEquals(1200, importStatusDto.getPartitions().get(0).getProcessedRows());
+        assertEquals(100.0, importStatusDto.getPartitions().get(0).getRowsPerSecond());
+    }
+
+}
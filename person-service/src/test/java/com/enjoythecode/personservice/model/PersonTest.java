@@ -0,0 +1,48 @@
+package com.enjoythecode.personservice.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PersonTest {
+
+    @Test
+    public void shouldDeriveSexFromPeselWheneverItIsSet() {
+        //given
+        Person person = new Person(1L, "Mia", "Doe", "90010112328", 160, 50, "mia.doe@test.com");
+        Sex sexOfCreatedPerson = person.getSex();
+        //when
+        person.setPesel("90010112317");
+        //then
+        assertEquals(Sex.W, sexOfCreatedPerson);
+        assertEquals(Sex.M, person.getSex());
+    }
+
+    @Test
+    public void shouldLeaveSexEmptyWhenPeselHasNoSexDigit() {
+        //given
+        Person person = new Person();
+        //when
+        person.setPesel("900101");
+        //then
+        assertNull(person.getSex());
+    }
+
+    @Test
+    public void shouldDecodeBirthDateWithCenturyFromPesel() {
+        //given
+        Person bornIn1900s = new Person(1L, "John", "Doe", "90010112317", 180, 70, "john.doe@test.com");
+        Person bornIn2000s = new Person(1L, "Mia", "Doe", "05231512328", 160, 50, "mia.doe@test.com");
+        Person bornIn1800s = new Person(1L, "Adam", "Doe", "99923112317", 170, 60, "adam.doe@test.com");
+        Person withInvalidDate = new Person(1L, "Eve", "Doe", "90023012328", 165, 55, "eve.doe@test.com");
+        //then
+        assertEquals(LocalDate.of(1990, 1, 1), bornIn1900s.getBirthDate());
+        assertNull(withInvalidDate.getBirthDate());
+        assertEquals(LocalDate.of(2005, 3, 15), bornIn2000s.getBirthDate());
+        assertEquals(LocalDate.of(1899, 12, 31), bornIn1800s.getBirthDate());
+    }
+
+}
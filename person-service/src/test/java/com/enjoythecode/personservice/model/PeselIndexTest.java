@@ -0,0 +1,56 @@
+package com.enjoythecode.personservice.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PeselIndexTest {
+
+    @Test
+    public void shouldDetectDuplicatePeselNumbers() {
+        //given
+        PeselIndex peselIndex = new PeselIndex(4);
+        //when
+        boolean firstAdded = peselIndex.add("00210112345");
+        boolean duplicateAdded = peselIndex.add("00210112345");
+        //then
+        assertTrue(firstAdded);
+        assertFalse(duplicateAdded);
+        assertTrue(peselIndex.contains("00210112345"));
+        assertFalse(peselIndex.contains("210112345"));
+        assertFalse(peselIndex.contains("00210112346"));
+    }
+
+    @Test
+    public void shouldNotTrackValuesWhichAreNotElevenDigits() {
+        //given
+        PeselIndex peselIndex = new PeselIndex(4);
+        //when
+        peselIndex.add("0021011234a");
+        //then
+        assertTrue(peselIndex.add("0021011234a"));
+        assertFalse(peselIndex.contains("0021011234a"));
+        assertTrue(peselIndex.add(null));
+    }
+
+    @Test
+    public void shouldAcceptEveryPeselOnceWhenAddedConcurrentlyBeyondExpectedSize() {
+        //given
+        PeselIndex peselIndex = new PeselIndex(1_000);
+        AtomicInteger added = new AtomicInteger();
+        //when
+        IntStream.range(0, 200_000).parallel()
+                .forEach(i -> {
+                    if (peselIndex.add(String.format("%011d", 90_000_000_000L + i % 100_000)))
+                        added.incrementAndGet();
+                });
+        //then
+        assertEquals(100_000, added.get());
+        IntStream.range(0, 100_000)
+                .forEach(i -> assertTrue(peselIndex.contains(String.format("%011d", 90_000_000_000L + i))));
+    }
+
+}
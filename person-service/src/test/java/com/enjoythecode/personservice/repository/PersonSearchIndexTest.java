@@ -0,0 +1,77 @@
+package com.enjoythecode.personservice.repository;
+
+import com.enjoythecode.personservice.config.SearchIndexProperties;
+import com.enjoythecode.personservice.exception.SearchQueryTooBroadException;
+import com.enjoythecode.personservice.model.PersonSearchDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersonSearchIndexTest {
+
+    private PersonRepository personRepository;
+
+    private PersonSearchIndex personSearchIndex;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        personRepository = Mockito.mock(PersonRepository.class);
+        SearchIndexProperties properties = new SearchIndexProperties();
+        properties.setMaxResults(2);
+        personSearchIndex = new PersonSearchIndex(personRepository, properties);
+    }
+
+    @Test
+    public void shouldRejectNameQueryMatchingMorePeopleThanMaxResults() {
+        //given
+        personSearchIndex.apply(List.of(
+                new PersonSearchDocument(1L, "John", "Doe", "john.doe@test.com"),
+                new PersonSearchDocument(2L, "Jane", "Doe", "jane.doe@test.com"),
+                new PersonSearchDocument(3L, "Adam", "Doe", "adam.doe@test.com")), List.of());
+        //then
+        assertEquals(List.of(1L), personSearchIndex.search("john", false));
+        assertEquals(2, personSearchIndex.search("j", false).size());
+        SearchQueryTooBroadException exception = assertThrows(SearchQueryTooBroadException.class,
+                () -> personSearchIndex.search("doe", false));
+        assertEquals("Name query 'doe' matches more than 2 people, refine it or add other criteria",
+                exception.getMessage());
+    }
+
+    @Test
+    public void shouldKeepFindingPeopleWhileRebuildingAndRemoveStaleOnesAfterwards() {
+        //given
+        personSearchIndex.apply(List.of(
+                new PersonSearchDocument(1500L, "Zed", "Old", "zed.old@test.com"),
+                new PersonSearchDocument(9999L, "Gone", "Person", "gone.person@test.com")), List.of());
+        List<List<Long>> foundDuringRebuild = new ArrayList<>();
+        Mockito.when(personRepository.streamAllSearchDocuments()).thenReturn(LongStream.rangeClosed(1, 1500)
+                .mapToObj(id -> id == 1500
+                        ? new PersonSearchDocument(id, "Zed", "Old", "zed.old@test.com")
+                        : new PersonSearchDocument(id, "Person", "No" + id, "person" + id + "@test.com"))
+                .peek(document -> {
+                    if (document.id() == 1200)
+                        foundDuringRebuild.add(personSearchIndex.search("zed", false));
+                }));
+        //when
+        long count = personSearchIndex.rebuild();
+        //then
+        assertEquals(1500, count);
+        assertEquals(List.of(List.of(1500L)), foundDuringRebuild);
+        assertEquals(List.of(1500L), personSearchIndex.search("zed", false));
+        assertEquals(List.of(), personSearchIndex.search("gone", false));
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        personSearchIndex.close();
+    }
+
+}
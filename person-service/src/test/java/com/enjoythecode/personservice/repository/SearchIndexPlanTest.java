@@ -0,0 +1,169 @@
+package com.enjoythecode.personservice.repository;
+
+import com.enjoythecode.personservice.PersonServiceApplication;
+import com.enjoythecode.personservice.api.DictionaryServiceClient;
+import com.enjoythecode.personservice.dto.DictionaryValueSimpleDto;
+import com.enjoythecode.personservice.factory.specification.PersonSearchSpecification;
+import com.enjoythecode.personservice.model.Employee;
+import com.enjoythecode.personservice.model.Person;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks with EXPLAIN that the searches and the employee position lookups are served by the indexes of the
+ * 'people' and 'employee_position' tables. The searches run through {@link PersonSearchSpecification}, and the SQL
+ * Hibernate sends for them is explained with the same parameters, on H2 or on MySQL.
+ */
+@SpringBootTest(classes = PersonServiceApplication.class, properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+                "com.enjoythecode.personservice.repository.SearchIndexPlanTest$CapturingStatementInspector")
+@ActiveProfiles("test")
+class SearchIndexPlanTest {
+
+    private static final long EMPLOYEE_TYPE_ID = 1L;
+
+    private static final long STUDENT_TYPE_ID = 3L;
+
+    @MockBean
+    private DictionaryServiceClient dictionaryServiceClient;
+
+    @Autowired
+    private PersonSearchSpecification personSearchSpecification;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private EmployeePositionRepository employeePositionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    public void setUp() {
+        when(dictionaryServiceClient.getDictionaryValueById(EMPLOYEE_TYPE_ID))
+                .thenReturn(new DictionaryValueSimpleDto(EMPLOYEE_TYPE_ID, "employee"));
+        when(dictionaryServiceClient.getDictionaryValueById(STUDENT_TYPE_ID))
+                .thenReturn(new DictionaryValueSimpleDto(STUDENT_TYPE_ID, "student"));
+        personRepository.saveAndFlush(new Employee(EMPLOYEE_TYPE_ID, "John", "Doe", "90010112317", 180, 80,
+                "john.doe@test.com", LocalDate.of(2020, 1, 1), 2L, 5000.00));
+        CapturingStatementInspector.clear();
+    }
+
+    @Test
+    public void shouldSearchEmployeesBySalaryThroughTypeAndSalaryIndex() throws SQLException {
+        //when
+        String sql = search(Map.of("typeId", String.valueOf(EMPLOYEE_TYPE_ID), "currentSalary", "from4000,to6000"));
+        //then
+        assertThat(explain(sql, EMPLOYEE_TYPE_ID, 4000.0, 6000.0)).contains("IDX_PEOPLE_TYPE_ID_CURRENT_SALARY");
+    }
+
+    @Test
+    public void shouldSearchStudentsByUniversityThroughTypeAndUniversityIndex() throws SQLException {
+        //when
+        String sql = search(Map.of("typeId", String.valueOf(STUDENT_TYPE_ID), "universityNameId", "5"));
+        //then
+        assertThat(explain(sql, STUDENT_TYPE_ID, 5L)).contains("IDX_PEOPLE_TYPE_ID_UNIVERSITY_NAME_ID");
+    }
+
+    @Test
+    public void shouldSearchByHeightThroughHeightIndex() throws SQLException {
+        //when
+        String sql = search(Map.of("height", "from170,to190"));
+        //then
+        assertThat(explain(sql, 170, 190)).contains("IDX_PEOPLE_HEIGHT");
+    }
+
+    @Test
+    public void shouldFindEmployeePositionsThroughEmployeeIndex() throws SQLException {
+        //when
+        employeePositionRepository.findByEmployeeId(1L);
+        //then
+        assertThat(explain(CapturingStatementInspector.lastSelect(), 1L))
+                .contains("IDX_EMPLOYEE_POSITION_EMPLOYEE_ID_END_DATE");
+    }
+
+    private String search(Map<String, String> parameters) {
+        Specification<Person> specification = personSearchSpecification.filterByCriteria(parameters);
+        personRepository.findAll(specification);
+        return CapturingStatementInspector.lastSelect();
+    }
+
+    /**
+     * Returns the plan of the query as text: the plan itself on H2, the names of the chosen indexes on MySQL.
+     */
+    private String explain(String sql, Object... parameters) throws SQLException {
+        String databaseName;
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            databaseName = metaData.getDatabaseProductName();
+        }
+        if ("MySQL".equalsIgnoreCase(databaseName))
+            return String.join(",", jdbcTemplate.query("EXPLAIN " + sql,
+                    (resultSet, rowNumber) -> Objects.toString(resultSet.getString("key")), parameters));
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parameters))
+                .toUpperCase();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        personRepository.deleteAllInBatch();
+    }
+
+    /**
+     * Keeps the SQL of the statements Hibernate prepares, so the search queries can be explained.
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            synchronized (STATEMENTS) {
+                STATEMENTS.add(sql);
+            }
+            return sql;
+        }
+
+        static void clear() {
+            synchronized (STATEMENTS) {
+                STATEMENTS.clear();
+            }
+        }
+
+        static String lastSelect() {
+            synchronized (STATEMENTS) {
+                return STATEMENTS.stream()
+                        .filter(sql -> sql.trim().toLowerCase().startsWith("select"))
+                        .reduce((first, second) -> second)
+                        .orElseThrow();
+            }
+        }
+
+    }
+
+}
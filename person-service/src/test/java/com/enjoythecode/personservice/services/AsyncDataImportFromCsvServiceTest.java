@@ -1,5 +1,6 @@
 package com.enjoythecode.personservice.services;
 
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,8 +19,14 @@ import com.enjoythecode.personservice.PersonServiceApplication;
 import com.enjoythecode.personservice.api.DictionaryServiceClient;
 import com.enjoythecode.personservice.dto.DictionaryValueSimpleDto;
 import com.enjoythecode.personservice.repository.PersonRepository;
+import com.enjoythecode.personservice.service.DataImportFromCsvService;
+import com.enjoythecode.personservice.service.ImportJobRegistry;
 
-import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.awaitility.Awaitility.await;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest(classes = PersonServiceApplication.class)
@@ -33,57 +40,87 @@ class AsyncDataImportFromCsvServiceTest {
     @Autowired
     private PersonRepository personRepository;
 
+    @Autowired
+    private DataImportFromCsvService dataImportFromCsvService;
+
+    @Autowired
+    private ImportJobRegistry importJobRegistry;
+
     @MockBean
     private DictionaryServiceClient dictionaryServiceClient;
 
     @BeforeEach
     public void setUp() {
         personRepository.deleteAllInBatch();
+        DictionaryValueSimpleDto employee = new DictionaryValueSimpleDto(1L, "employee");
+        DictionaryValueSimpleDto manager = new DictionaryValueSimpleDto(2L, "manager");
+        Mockito.when(dictionaryServiceClient.getValuesByDictionaryId(1L)).thenReturn(List.of(employee));
+        Mockito.when(dictionaryServiceClient.getValuesByDictionaryId(2L)).thenReturn(List.of(manager));
     }
 
     @Test
     @WithMockUser(username = "importer", roles = "IMPORTER")
-    public void shouldPerformAsyncImportAndAllowImportStatusCheckWhileImportIsInProgress() throws Exception {
+    public void shouldPerformAsyncImportAndAllowImportStatusCheckByJobId() throws Exception {
         // given
         String fileContent = "type,first_name,last_name,pesel,height,weight,email,param1,param2,param3,param4" +
                 "\nemployee,John,Doe,12345678911,180,70,johndoe@test.com,2021-01-01,manager,40000";
         MockMultipartFile file = new MockMultipartFile(
                 "file", "test-peopleToImport.csv", "text/csv", fileContent.getBytes()
         );
-        DictionaryValueSimpleDto employee = new DictionaryValueSimpleDto(1L, "employee");
-        DictionaryValueSimpleDto manager = new DictionaryValueSimpleDto(2L, "manager");
-        Mockito.when(dictionaryServiceClient
-                .getDictionaryValueByDictionaryIdAndName(1L, employee.getName())).thenReturn(employee);
-        Mockito.when(dictionaryServiceClient
-                .getDictionaryValueByDictionaryIdAndName(2L, manager.getName())).thenReturn(manager);
         //when
-        MvcResult asyncResult = mockMvc.perform(MockMvcRequestBuilders
+        MvcResult importResult = mockMvc.perform(MockMvcRequestBuilders
                 .multipart("/api/people/import")
                 .file(file))
                 .andExpect(status().isOk())
-                .andExpect(request().asyncStarted())
+                .andExpect(jsonPath("$.jobId").isNotEmpty())
+                .andExpect(jsonPath("$.fileName").value("test-peopleToImport.csv"))
+                .andExpect(jsonPath("$.submitTime").isNotEmpty())
                 .andReturn();
-        //then - check import status while importing
+        String jobId = JsonPath.read(importResult.getResponse().getContentAsString(), "$.jobId");
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> dataImportFromCsvService.getImportStatus(jobId).isFinished());
+        //then
         mockMvc.perform(MockMvcRequestBuilders
-                .get("/api/people/import/status"))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.status").value("Import is in progress."))
-                .andExpect(jsonPath("$.startTime").isNotEmpty())
-                .andExpect(jsonPath("$.endTime").isEmpty())
-                .andExpect(jsonPath("$.processedRows").value(0));
-        //when -  manually perform an async dispatch
-        mockMvc.perform(asyncDispatch(asyncResult))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.status").value("Data import has started. " +
-                        "Check status endpoint /api/people/import/status for progress."));
-        //then - check import status after import
-        mockMvc.perform(MockMvcRequestBuilders
-                .get("/api/people/import/status"))
+                .get("/api/people/import/{jobId}/status", jobId))
                 .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jobId").value(jobId))
                 .andExpect(jsonPath("$.status").value("Import completed."))
                 .andExpect(jsonPath("$.startTime").isNotEmpty())
                 .andExpect(jsonPath("$.endTime").isNotEmpty())
                 .andExpect(jsonPath("$.processedRows").value(1));
+        //then - the latest job is still available at the general status endpoint
+        mockMvc.perform(MockMvcRequestBuilders
+                .get("/api/people/import/status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jobId").value(jobId))
+                .andExpect(jsonPath("$.status").value("Import completed."));
+    }
+
+    @Test
+    @WithMockUser(username = "importer", roles = "IMPORTER")
+    public void shouldExpireFinishedJobAfterRetentionPeriod() throws Exception {
+        //given
+        String fileContent = "type,first_name,last_name,pesel,height,weight,email,param1,param2,param3,param4" +
+                "\nemployee,John,Doe,12345678911,180,70,johndoe@test.com,2021-01-01,manager,40000";
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "test-peopleToImport.csv", "text/csv", fileContent.getBytes()
+        );
+        MvcResult importResult = mockMvc.perform(MockMvcRequestBuilders
+                .multipart("/api/people/import")
+                .file(file))
+                .andExpect(status().isOk())
+                .andReturn();
+        String jobId = JsonPath.read(importResult.getResponse().getContentAsString(), "$.jobId");
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> dataImportFromCsvService.getImportStatus(jobId).isFinished());
+        //when
+        importJobRegistry.removeJobsFinishedBefore(LocalDateTime.now().plusSeconds(1));
+        //then
+        mockMvc.perform(MockMvcRequestBuilders
+                .get("/api/people/import/{jobId}/status", jobId))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorCode").value("NOT_FOUND"))
+                .andExpect(jsonPath("$.errorMessages[0]").value("Import job with id " + jobId + " not found"));
     }
 
     @AfterEach
@@ -91,4 +128,4 @@ class AsyncDataImportFromCsvServiceTest {
         personRepository.deleteAllInBatch();
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,169 @@
+package com.enjoythecode.personservice.services;
+
+import com.enjoythecode.personservice.PersonServiceApplication;
+import com.enjoythecode.personservice.api.DictionaryServiceClient;
+import com.enjoythecode.personservice.dto.DictionaryValueSimpleDto;
+import com.enjoythecode.personservice.repository.PersonRepository;
+import com.enjoythecode.personservice.service.DataImportFromCsvService;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(classes = PersonServiceApplication.class, properties = {
+        "person.import.chunk-size=2",
+        "person.import.writer-threads=3",
+        "person.import.min-partition-size=1B"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BatchedDataImportFromCsvServiceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private DataImportFromCsvService dataImportFromCsvService;
+
+    @MockBean
+    private DictionaryServiceClient dictionaryServiceClient;
+
+    @BeforeEach
+    public void setUp() {
+        personRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @WithMockUser(username = "importer", roles = "IMPORTER")
+    public void shouldImportAllRowsWhenFileSpansSeveralChunksAndPartitions() throws Exception {
+        //given
+        String fileContent = "type,first_name,last_name,pesel,height,weight,email,param1,param2,param3,param4" +
+                "\nretiree,John,Doe,12345678911,180,70,johndoe@test.com,3000,40" +
+                "\nretiree,Adam,Wick,12345678912,170,80,adamwick@test.com,3500,41" +
+                "\nretiree,Mia,Smith,12345678913,165,60,miasmith@test.com,2500,35" +
+                "\nretiree,Emily,Brown,12345678914,160,55,emilybrown@test.com,2800,38" +
+                "\nretiree,Tom,Jones,12345678915,185,90,tomjones@test.com,3100,42";
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "test-peopleToImport.csv", "text/csv", fileContent.getBytes()
+        );
+        DictionaryValueSimpleDto retiree = new DictionaryValueSimpleDto(3L, "retiree");
+        Mockito.when(dictionaryServiceClient.getValuesByDictionaryId(1L)).thenReturn(List.of(retiree));
+        //when
+        MvcResult importResult = mockMvc.perform(MockMvcRequestBuilders
+                .multipart("/api/people/import")
+                .file(file))
+                .andExpect(status().isOk())
+                .andReturn();
+        String jobId = JsonPath.read(importResult.getResponse().getContentAsString(), "$.jobId");
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> dataImportFromCsvService.getImportStatus(jobId).isFinished());
+        //then
+        mockMvc.perform(MockMvcRequestBuilders
+                .get("/api/people/import/{jobId}/status", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("Import completed."))
+                .andExpect(jsonPath("$.processedRows").value(5))
+                .andExpect(jsonPath("$.partitions", hasSize(3)))
+                .andExpect(jsonPath("$.partitions[*].processedRows", everyItem(greaterThan(0))))
+                .andExpect(jsonPath("$.partitions[*].bytes", everyItem(greaterThan(0))));
+        assertEquals(5, personRepository.count());
+    }
+
+    @Test
+    @WithMockUser(username = "importer", roles = "IMPORTER")
+    public void shouldRejectRowsWithUnknownDictionaryValuesAndReportThemTogetherWhenTolerant() throws Exception {
+        //given
+        mockDictionaries();
+        //when
+        String jobId = importFile(true);
+        //then
+        mockMvc.perform(MockMvcRequestBuilders
+                .get("/api/people/import/{jobId}/status", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("Import completed."))
+                .andExpect(jsonPath("$.processedRows").value(1))
+                .andExpect(jsonPath("$.unknownDictionaryValues.length()").value(3))
+                .andExpect(jsonPath("$.unknownDictionaryValues[0].dictionaryId").value(1))
+                .andExpect(jsonPath("$.unknownDictionaryValues[0].name").value("retiree"))
+                .andExpect(jsonPath("$.unknownDictionaryValues[1].dictionaryId").value(2))
+                .andExpect(jsonPath("$.unknownDictionaryValues[1].name").value("astronaut"))
+                .andExpect(jsonPath("$.unknownDictionaryValues[2].name").value("pilot"));
+        Mockito.verify(dictionaryServiceClient, Mockito.never())
+                .getDictionaryValueByDictionaryIdAndName(Mockito.anyLong(), Mockito.anyString());
+        assertEquals(1, personRepository.count());
+    }
+
+    @Test
+    @WithMockUser(username = "importer", roles = "IMPORTER")
+    public void shouldFailImportWithAllUnknownDictionaryValuesWhenNotTolerant() throws Exception {
+        //given
+        mockDictionaries();
+        //when
+        String jobId = importFile(false);
+        //then
+        mockMvc.perform(MockMvcRequestBuilders
+                .get("/api/people/import/{jobId}/status", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("Import failed."))
+                .andExpect(jsonPath("$.errorMessage").value("Error during data import. Invalid file content. " +
+                        "Message: Unknown dictionary values: 'retiree' in the dictionary with id 1, " +
+                        "'astronaut' in the dictionary with id 2, 'pilot' in the dictionary with id 2"))
+                .andExpect(jsonPath("$.unknownDictionaryValues.length()").value(3));
+    }
+
+    private void mockDictionaries() {
+        DictionaryValueSimpleDto employee = new DictionaryValueSimpleDto(1L, "employee");
+        DictionaryValueSimpleDto manager = new DictionaryValueSimpleDto(2L, "manager");
+        Mockito.when(dictionaryServiceClient.getValuesByDictionaryId(1L)).thenReturn(List.of(employee));
+        Mockito.when(dictionaryServiceClient.getValuesByDictionaryId(2L)).thenReturn(List.of(manager));
+    }
+
+    private String importFile(boolean tolerant) throws Exception {
+        String fileContent = "type,first_name,last_name,pesel,height,weight,email,param1,param2,param3,param4" +
+                "\nemployee,John,Doe,12345678911,180,70,johndoe@test.com,2021-01-01,manager,40000" +
+                "\nemployee,Adam,Wick,12345678912,170,80,adamwick@test.com,2021-01-01,astronaut,50000" +
+                "\nemployee,Mia,Smith,12345678913,165,60,miasmith@test.com,2021-01-01,pilot,45000" +
+                "\nretiree,Tom,Jones,12345678915,185,90,tomjones@test.com,3100,42";
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "test-peopleToImport.csv", "text/csv", fileContent.getBytes()
+        );
+        MvcResult importResult = mockMvc.perform(MockMvcRequestBuilders
+                .multipart("/api/people/import")
+                .file(file)
+                .param("tolerant", String.valueOf(tolerant)))
+                .andExpect(status().isOk())
+                .andReturn();
+        String jobId = JsonPath.read(importResult.getResponse().getContentAsString(), "$.jobId");
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> dataImportFromCsvService.getImportStatus(jobId).isFinished());
+        return jobId;
+    }
+
+    @AfterEach
+    public void tearDown() {
+        personRepository.deleteAllInBatch();
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.enjoythecode.personservice.services;
 
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,15 +13,23 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
-import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import com.enjoythecode.personservice.PersonServiceApplication;
 import com.enjoythecode.personservice.api.DictionaryServiceClient;
 import com.enjoythecode.personservice.dto.DictionaryValueSimpleDto;
 import com.enjoythecode.personservice.repository.PersonRepository;
+import com.enjoythecode.personservice.service.DataImportFromCsvService;
+import com.enjoythecode.personservice.service.ImportJobRegistry;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.awaitility.Awaitility.await;
 import static org.hamcrest.Matchers.*;
-import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest(classes = PersonServiceApplication.class)
@@ -34,52 +43,62 @@ class ConcurrentDataImportFromCsvServiceTest {
     @Autowired
     private PersonRepository personRepository;
 
+    @Autowired
+    private DataImportFromCsvService dataImportFromCsvService;
+
+    @Autowired
+    private ImportJobRegistry importJobRegistry;
+
     @MockBean
     private DictionaryServiceClient dictionaryServiceClient;
 
     @BeforeEach
     public void setUp() {
         personRepository.deleteAllInBatch();
+        importJobRegistry.removeJobsFinishedBefore(LocalDateTime.now().plusDays(1));
     }
 
     @Test
     @WithMockUser(username = "importer", roles = "IMPORTER")
-    public void shouldPreventAnotherImportWhileFirstOneIsInProgress() throws Exception {
+    public void shouldRunSeveralImportsAsSeparateJobs() throws Exception {
         //given
-        String fileContent = "type,first_name,last_name,pesel,height,weight,email,param1,param2,param3,param4" +
-                "\nemployee,John,Doe,12345678911,180,70,johndoe@test.com,2021-01-01,manager,40000";
-        MockMultipartFile file = new MockMultipartFile(
-                "file", "test-peopleToImport.csv", "text/csv", fileContent.getBytes()
-        );
         DictionaryValueSimpleDto employee = new DictionaryValueSimpleDto(1L, "employee");
         DictionaryValueSimpleDto manager = new DictionaryValueSimpleDto(2L, "manager");
-        Mockito.when(dictionaryServiceClient
-                .getDictionaryValueByDictionaryIdAndName(1L, employee.getName())).thenReturn(employee);
-        Mockito.when(dictionaryServiceClient
-                .getDictionaryValueByDictionaryIdAndName(2L, manager.getName())).thenReturn(manager);
-        //when - perform first import
-        MvcResult importResult1 = mockMvc.perform(MockMvcRequestBuilders
-                .multipart("/api/people/import")
-                .file(file))
-                .andExpect(status().isOk())
-                .andExpect(request().asyncStarted())
-                .andReturn();
-        //when - trying to start another import
-        MvcResult importResult2 = mockMvc.perform(MockMvcRequestBuilders
-                .multipart("/api/people/import")
-                .file(file))
-                .andReturn();
-        //then - another import status check
-        mockMvc.perform(asyncDispatch(importResult2))
-                .andExpect(status().isBadRequest())
-                .andExpect(jsonPath("$.timestamp", is(notNullValue())))
-                .andExpect(jsonPath("$.errorCode").value("BAD_REQUEST"))
-                .andExpect(jsonPath("$.errorMessages", hasItem("Another import is already in progress.")));
-        //then - manually perform first import
-        mockMvc.perform(asyncDispatch(importResult1))
+        Mockito.when(dictionaryServiceClient.getValuesByDictionaryId(1L)).thenReturn(List.of(employee));
+        Mockito.when(dictionaryServiceClient.getValuesByDictionaryId(2L)).thenReturn(List.of(manager));
+        List<String> jobIds = new ArrayList<>();
+        //when - submit one import per regional feed without waiting for the previous one
+        for (int feed = 1; feed <= 3; feed++) {
+            String fileContent = "type,first_name,last_name,pesel,height,weight,email,param1,param2,param3,param4" +
+                    "\nemployee,John,Doe,1234567891" + feed + ",180,70,johndoe" + feed + "@test.com,2021-01-01,manager,40000";
+            MockMultipartFile file = new MockMultipartFile(
+                    "file", "feed-" + feed + ".csv", "text/csv", fileContent.getBytes()
+            );
+            String response = mockMvc.perform(MockMvcRequestBuilders
+                    .multipart("/api/people/import")
+                    .file(file))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            jobIds.add(JsonPath.read(response, "$.jobId"));
+        }
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> jobIds.stream().allMatch(jobId -> dataImportFromCsvService.getImportStatus(jobId).isFinished()));
+        //then
+        assertEquals(3, new HashSet<>(jobIds).size());
+        for (String jobId : jobIds) {
+            mockMvc.perform(MockMvcRequestBuilders
+                    .get("/api/people/import/{jobId}/status", jobId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("Import completed."))
+                    .andExpect(jsonPath("$.processedRows").value(1));
+        }
+        mockMvc.perform(MockMvcRequestBuilders
+                .get("/api/people/import"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.status").value("Data import has started. " +
-                        "Check status endpoint /api/people/import/status for progress."));
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[*].jobId", containsInAnyOrder(jobIds.toArray())))
+                .andExpect(jsonPath("$[0].fileName").value("feed-3.csv"));
+        assertEquals(3, personRepository.count());
     }
 
     @AfterEach
@@ -87,4 +106,4 @@ class ConcurrentDataImportFromCsvServiceTest {
         personRepository.deleteAllInBatch();
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,102 @@
+package com.enjoythecode.personservice.services;
+
+import com.enjoythecode.personservice.PersonServiceApplication;
+import com.enjoythecode.personservice.api.DictionaryServiceClient;
+import com.enjoythecode.personservice.dto.DictionaryValueSimpleDto;
+import com.enjoythecode.personservice.repository.PersonRepository;
+import com.enjoythecode.personservice.service.DataImportFromCsvService;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = PersonServiceApplication.class, properties = {
+        "person.import.chunk-size=5",
+        "person.import.writer-threads=8",
+        "person.import.min-partition-size=1B"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ParallelDataImportFromCsvServiceTest {
+
+    private static final int ROWS = 1000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private DataImportFromCsvService dataImportFromCsvService;
+
+    @MockBean
+    private DictionaryServiceClient dictionaryServiceClient;
+
+    @BeforeEach
+    public void setUp() {
+        personRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @WithMockUser(username = "importer", roles = "IMPORTER")
+    public void shouldReportExactRowCountsOfPartitionsImportedInParallel() throws Exception {
+        //given
+        StringBuilder fileContent = new StringBuilder(
+                "type,first_name,last_name,pesel,height,weight,email,param1,param2,param3,param4");
+        for (int i = 0; i < ROWS; i++)
+            fileContent.append("\nretiree,John,Doe").append(i).append(',').append(10000000000L + i)
+                    .append(i % 7 == 0 ? ",abc" : ",180").append(",70,john").append(i).append("@test.com,3000,40");
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "test-peopleToImport.csv", "text/csv", fileContent.toString().getBytes()
+        );
+        DictionaryValueSimpleDto retiree = new DictionaryValueSimpleDto(3L, "retiree");
+        Mockito.when(dictionaryServiceClient.getValuesByDictionaryId(1L)).thenReturn(List.of(retiree));
+        long rejectedRows = (ROWS + 6) / 7;
+        //when
+        MvcResult importResult = mockMvc.perform(MockMvcRequestBuilders
+                .multipart("/api/people/import")
+                .file(file)
+                .param("tolerant", "true"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String jobId = JsonPath.read(importResult.getResponse().getContentAsString(), "$.jobId");
+        await().atMost(Duration.ofSeconds(30))
+                .until(() -> dataImportFromCsvService.getImportStatus(jobId).isFinished());
+        //then
+        mockMvc.perform(MockMvcRequestBuilders
+                .get("/api/people/import/{jobId}/status", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("Import completed."))
+                .andExpect(jsonPath("$.partitions", hasSize(8)))
+                .andExpect(jsonPath("$.processedRows").value(ROWS - rejectedRows))
+                .andExpect(jsonPath("$.rejectedRows").value(rejectedRows));
+        assertEquals(ROWS - rejectedRows, personRepository.count());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        personRepository.deleteAllInBatch();
+    }
+
+}
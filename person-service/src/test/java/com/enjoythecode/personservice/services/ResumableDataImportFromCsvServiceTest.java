@@ -0,0 +1,139 @@
+package com.enjoythecode.personservice.services;
+
+import com.enjoythecode.personservice.PersonServiceApplication;
+import com.enjoythecode.personservice.api.DictionaryServiceClient;
+import com.enjoythecode.personservice.dto.DictionaryValueSimpleDto;
+import com.enjoythecode.personservice.model.ImportCheckpoint;
+import com.enjoythecode.personservice.model.Retiree;
+import com.enjoythecode.personservice.repository.ImportCheckpointRepository;
+import com.enjoythecode.personservice.repository.PersonRepository;
+import com.enjoythecode.personservice.service.DataImportFromCsvService;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(classes = PersonServiceApplication.class, properties = "person.import.chunk-size=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ResumableDataImportFromCsvServiceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private ImportCheckpointRepository importCheckpointRepository;
+
+    @Autowired
+    private DataImportFromCsvService dataImportFromCsvService;
+
+    @MockBean
+    private DictionaryServiceClient dictionaryServiceClient;
+
+    @BeforeEach
+    public void setUp() {
+        personRepository.deleteAllInBatch();
+        importCheckpointRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @WithMockUser(username = "importer", roles = "IMPORTER")
+    public void shouldResumeFailedImportFromLastCheckpointWithoutReimportingCommittedRows() throws Exception {
+        //given
+        String fileContent = "type,first_name,last_name,pesel,height,weight,email,param1,param2,param3,param4" +
+                "\nretiree,John,Doe,12345678911,180,70,johndoe@test.com,3000,40" +
+                "\nretiree,Adam,Wick,12345678912,170,80,adamwick@test.com,3500,41" +
+                "\nretiree,Mia,Smith,12345678913,165,60,miasmith@test.com,2500,35" +
+                "\nretiree,Emily,Brown,12345678914,160,55,emilybrown@test.com,2800,38" +
+                "\nretiree,Tom,Jones,12345678915,185,90,tomjones@test.com,3100,42";
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "test-peopleToImport.csv", "text/csv", fileContent.getBytes()
+        );
+        DictionaryValueSimpleDto retiree = new DictionaryValueSimpleDto(3L, "retiree");
+        Mockito.when(dictionaryServiceClient.getValuesByDictionaryId(1L)).thenReturn(List.of(retiree));
+        Retiree conflictingPerson = personRepository.save(new Retiree(3L, "Emily", "Brown", "12345678914",
+                160, 55, "emily.brown@test.com", 2800.0, 38));
+        //when - the second chunk fails on the duplicated PESEL
+        String jobId = submitAndAwait(file);
+        //then
+        mockMvc.perform(MockMvcRequestBuilders
+                .get("/api/people/import/{jobId}/status", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("Import failed."))
+                .andExpect(jsonPath("$.resumable").value(true))
+                .andExpect(jsonPath("$.processedRows").value(2));
+        List<ImportCheckpoint> checkpoints = importCheckpointRepository.findByJobIdOrderByPartitionIndex(jobId);
+        assertEquals(1, checkpoints.size());
+        assertEquals(2, checkpoints.get(0).getCommittedRows());
+        assertEquals(1, checkpoints.get(0).getCommittedChunks());
+        assertEquals(3, personRepository.count());
+        //when - the conflict is resolved and the job resumed
+        personRepository.delete(conflictingPerson);
+        mockMvc.perform(MockMvcRequestBuilders
+                .post("/api/people/import/{jobId}/resume", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jobId").value(jobId));
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> dataImportFromCsvService.getImportStatus(jobId).isFinished());
+        //then
+        mockMvc.perform(MockMvcRequestBuilders
+                .get("/api/people/import/{jobId}/status", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("Import completed."))
+                .andExpect(jsonPath("$.processedRows").value(5));
+        assertEquals(5, personRepository.count());
+        assertTrue(importCheckpointRepository.findByJobIdOrderByPartitionIndex(jobId).isEmpty());
+        assertFalse(Files.exists(Path.of(checkpoints.get(0).getFilePath())));
+    }
+
+    @Test
+    @WithMockUser(username = "importer", roles = "IMPORTER")
+    public void shouldReturnNotFoundWhenResumingJobWithoutCheckpoints() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders
+                .post("/api/people/import/{jobId}/resume", "unknown-job"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorMessages[0]").value("No checkpoint found for import job with id unknown-job"));
+    }
+
+    private String submitAndAwait(MockMultipartFile file) throws Exception {
+        MvcResult importResult = mockMvc.perform(MockMvcRequestBuilders
+                .multipart("/api/people/import")
+                .file(file))
+                .andExpect(status().isOk())
+                .andReturn();
+        String jobId = JsonPath.read(importResult.getResponse().getContentAsString(), "$.jobId");
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> dataImportFromCsvService.getImportStatus(jobId).isFinished());
+        return jobId;
+    }
+
+    @AfterEach
+    public void tearDown() {
+        personRepository.deleteAllInBatch();
+        importCheckpointRepository.deleteAllInBatch();
+    }
+
+}
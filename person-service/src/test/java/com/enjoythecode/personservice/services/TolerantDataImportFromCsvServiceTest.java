@@ -0,0 +1,133 @@
+package com.enjoythecode.personservice.services;
+
+import com.enjoythecode.personservice.PersonServiceApplication;
+import com.enjoythecode.personservice.api.DictionaryServiceClient;
+import com.enjoythecode.personservice.dto.DictionaryValueSimpleDto;
+import com.enjoythecode.personservice.model.Retiree;
+import com.enjoythecode.personservice.repository.ImportCheckpointRepository;
+import com.enjoythecode.personservice.repository.PersonRepository;
+import com.enjoythecode.personservice.service.DataImportFromCsvService;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(classes = PersonServiceApplication.class, properties = "person.import.chunk-size=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TolerantDataImportFromCsvServiceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private ImportCheckpointRepository importCheckpointRepository;
+
+    @Autowired
+    private DataImportFromCsvService dataImportFromCsvService;
+
+    @MockBean
+    private DictionaryServiceClient dictionaryServiceClient;
+
+    @BeforeEach
+    public void setUp() {
+        personRepository.deleteAllInBatch();
+        importCheckpointRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @WithMockUser(username = "importer", roles = "IMPORTER")
+    public void shouldImportValidRowsAndRecordRejectedRowsWithLineNumbers() throws Exception {
+        //given
+        String fileContent = "type,first_name,last_name,pesel,height,weight,email,param1,param2,param3,param4" +
+                "\nretiree,John,Doe,12345678911,180,70,johndoe@test.com,3000,40" +
+                "\nretiree,Adam,Wick,12345678912,170,80,adamwick@test.com,abc,41" +
+                "\nretiree,\"Mia\nAnn\",Smith,12345678913,165,60,miasmith@test.com,2500,35" +
+                "\nretiree,Emily,Brown,12345678914,160,55,emilybrown@test.com,2800,38" +
+                "\nretiree,Tom,Jones,12345678915,185,90,tomjones@test.com,3100,42" +
+                "\nretiree,Tim,Jones,12345678915,175,85,timjones@test.com,3200,43" +
+                "\nemployee,Ann,Lee,12345678916,170,60,annlee@test.com,2020-01-01,manager,5000" +
+                "\npensioner,Bob,Hall,12345678917,180,80,bobhall@test.com,2900,39";
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "test-peopleToImport.csv", "text/csv", fileContent.getBytes()
+        );
+        DictionaryValueSimpleDto retiree = new DictionaryValueSimpleDto(3L, "retiree");
+        Mockito.when(dictionaryServiceClient.getValuesByDictionaryId(1L)).thenReturn(List.of(retiree));
+        personRepository.save(new Retiree(3L, "Emily", "Brown", "12345678914",
+                160, 55, "emily.brown@test.com", 2800.0, 38));
+        //when
+        MvcResult importResult = mockMvc.perform(MockMvcRequestBuilders
+                .multipart("/api/people/import")
+                .file(file)
+                .param("tolerant", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tolerant").value(true))
+                .andReturn();
+        String jobId = JsonPath.read(importResult.getResponse().getContentAsString(), "$.jobId");
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> dataImportFromCsvService.getImportStatus(jobId).isFinished());
+        //then
+        mockMvc.perform(MockMvcRequestBuilders
+                .get("/api/people/import/{jobId}/status", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("Import completed."))
+                .andExpect(jsonPath("$.processedRows").value(3))
+                .andExpect(jsonPath("$.rejectedRows").value(5))
+                .andExpect(jsonPath("$.unknownDictionaryValues[0].dictionaryId").value(1))
+                .andExpect(jsonPath("$.unknownDictionaryValues[0].name").value("employee"));
+        assertEquals(4, personRepository.count());
+        MvcResult rejectsResult = mockMvc.perform(MockMvcRequestBuilders
+                .get("/api/people/import/{jobId}/rejects", jobId))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andReturn();
+        List<String> lines = rejectsResult.getResponse().getContentAsString().lines().toList();
+        assertEquals(6, lines.size());
+        assertEquals("line,reason,row", lines.get(0));
+        assertTrue(lines.get(1).startsWith("3,\"Invalid number."));
+        assertTrue(lines.get(1).endsWith(",\"retiree,Adam,Wick,12345678912,170,80,adamwick@test.com,abc,41\""));
+        assertEquals("6,\"Duplicate entry. Constraint violation: UC_PERSON_PESEL\"," +
+                "\"retiree,Emily,Brown,12345678914,160,55,emilybrown@test.com,2800,38\"", lines.get(2));
+        assertEquals("8,\"Duplicate entry. Constraint violation: UC_PERSON_PESEL\"," +
+                "\"retiree,Tim,Jones,12345678915,175,85,timjones@test.com,3200,43\"", lines.get(3));
+        assertTrue(lines.get(4).startsWith("9,\"Dictionary value 'employee' not found in the dictionary with id 1\","));
+        assertTrue(lines.get(5).startsWith("10,\"Unknown person type 'pensioner'\","));
+    }
+
+    @Test
+    @WithMockUser(username = "importer", roles = "IMPORTER")
+    public void shouldReturnNotFoundWhenNoRowsWereRejected() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders
+                .get("/api/people/import/{jobId}/rejects", "unknown-job"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorMessages[0]").value("No rejected rows recorded for import job with id unknown-job"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        personRepository.deleteAllInBatch();
+        importCheckpointRepository.deleteAllInBatch();
+    }
+
+}